@@ -48,7 +48,11 @@ public class JwtAuthenticationFilter implements GlobalFilter {
             return authorize(exchange, chain, MANAGER);
         }
         
-        if (path.matches("/hotels/.*/availability")) {
+        if (path.matches("/hotels/.*/availability(/calendar)?")) {
+            return chain.filter(exchange);
+        }
+
+        if (path.startsWith("/availability/")) {
             return chain.filter(exchange);
         }
         
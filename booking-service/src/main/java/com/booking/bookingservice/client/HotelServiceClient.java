@@ -1,8 +1,6 @@
 package com.booking.bookingservice.client;
 
 import com.booking.bookingservice.config.FeignConfig;
-import com.booking.bookingservice.dto.request.AllocateRoomRequest;
-import com.booking.bookingservice.dto.request.ReleaseRoomRequest;
 import com.booking.bookingservice.dto.response.HotelResponseDto;
 import com.booking.bookingservice.dto.response.RoomCategoryResponseDto;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -16,6 +14,16 @@ import java.util.List;
 )
 public interface HotelServiceClient {
 
+    // All hotels with their categories, used for inventory pre-seeding
+    @GetMapping("/hotels")
+    List<HotelResponseDto> getAllHotels();
+
+    // Hotels with their categories for city-wide availability search
+    @GetMapping("/hotels/search")
+    List<HotelResponseDto> searchHotelsByCity(
+            @RequestParam("city") String city
+    );
+
     // Validate hotel exists
     @GetMapping("/hotels/{hotelId}")
     HotelResponseDto getHotelById(
@@ -34,12 +42,6 @@ public interface HotelServiceClient {
             @PathVariable Long categoryId
     );
     
-    @PostMapping("/internal/room-allocations")
-    void allocateRooms(@RequestBody AllocateRoomRequest request);
-
-    @PostMapping("/internal/room-allocations/release")
-    void releaseRooms(@RequestBody ReleaseRoomRequest request);
-    
     @GetMapping("/hotels/internal/manager")
     HotelResponseDto getHotelByManager(
         @RequestHeader("X-User-Email") String email,
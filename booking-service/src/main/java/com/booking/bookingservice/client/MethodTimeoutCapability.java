@@ -0,0 +1,44 @@
+package com.booking.bookingservice.client;
+
+import feign.Capability;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestTemplate;
+
+import java.util.Map;
+
+/**
+ * Gives each Feign method its own connect and read timeout; Spring Cloud
+ * OpenFeign only configures them per client. Keyed by method name, so a
+ * cheap lookup on the booking path cannot wait as long as a bulk fetch
+ * made by a background job. Methods without an entry keep the client's
+ * options.
+ */
+public class MethodTimeoutCapability implements Capability {
+
+    private final Map<String, Request.Options> optionsByMethod;
+
+    public MethodTimeoutCapability(Map<String, Request.Options> optionsByMethod) {
+        this.optionsByMethod = Map.copyOf(optionsByMethod);
+    }
+
+    // Wraps the load-balancing client, which passes the options on to the
+    // pooled HTTP client for the actual call
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> client.execute(request, optionsFor(request, options));
+    }
+
+    Request.Options optionsFor(Request request, Request.Options defaults) {
+
+        RequestTemplate template = request.requestTemplate();
+        MethodMetadata metadata = template != null ? template.methodMetadata() : null;
+
+        if (metadata == null || metadata.method() == null) {
+            return defaults;
+        }
+
+        return optionsByMethod.getOrDefault(metadata.method().getName(), defaults);
+    }
+}
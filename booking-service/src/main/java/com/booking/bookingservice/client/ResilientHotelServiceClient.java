@@ -1,43 +1,60 @@
 package com.booking.bookingservice.client;
 
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
-import com.booking.bookingservice.dto.request.AllocateRoomRequest;
-import com.booking.bookingservice.dto.request.ReleaseRoomRequest;
 import com.booking.bookingservice.dto.response.HotelResponseDto;
 import com.booking.bookingservice.dto.response.RoomCategoryResponseDto;
 import com.booking.bookingservice.exception.ServiceUnavailableException;
 
+import java.util.List;
 
+import static com.booking.bookingservice.config.CacheConfig.HOTEL_CATEGORIES_CACHE;
+import static com.booking.bookingservice.config.CacheConfig.ROOM_CATEGORY_CACHE;
+
+/**
+ * Hotel-service calls made on request threads. Each endpoint has its own
+ * bulkhead: once it is full, further callers get a 503 right away instead
+ * of a Tomcat thread parking behind a slow hotel-service. Rejections are
+ * not counted as circuit breaker failures.
+ */
 @Component
 @RequiredArgsConstructor
 public class ResilientHotelServiceClient {
 
     private final HotelServiceClient hotelServiceClient;
 
+    @Cacheable(cacheNames = ROOM_CATEGORY_CACHE, key = "#categoryId")
     @CircuitBreaker(name = "hotelService", fallbackMethod = "categoryFallback")
+    @Bulkhead(name = "hotelCategoryById")
     public RoomCategoryResponseDto getCategoryById(Long categoryId) {
         return hotelServiceClient.getCategoryById(categoryId);
     }
 
-    @CircuitBreaker(name = "hotelService", fallbackMethod = "hotelFallback")
-    public HotelResponseDto getHotelByManager(String email, String role) {
-        return hotelServiceClient.getHotelByManager(email, role);
+    @Cacheable(cacheNames = HOTEL_CATEGORIES_CACHE, key = "#hotelId")
+    @CircuitBreaker(name = "hotelService", fallbackMethod = "categoriesFallback")
+    @Bulkhead(name = "hotelCategoriesByHotel")
+    public List<RoomCategoryResponseDto> getCategoriesByHotel(Long hotelId) {
+        return hotelServiceClient.getCategoriesByHotel(hotelId);
     }
 
-    @CircuitBreaker(name = "hotelService", fallbackMethod = "voidFallback")
-    public void allocateRooms(AllocateRoomRequest request) {
-        hotelServiceClient.allocateRooms(request);
+    @CircuitBreaker(name = "hotelService", fallbackMethod = "citySearchFallback")
+    @Bulkhead(name = "hotelSearch")
+    public List<HotelResponseDto> searchHotelsByCity(String city) {
+        return hotelServiceClient.searchHotelsByCity(city);
     }
 
-    @CircuitBreaker(name = "hotelService", fallbackMethod = "voidFallback")
-    public void releaseRooms(ReleaseRoomRequest request) {
-        hotelServiceClient.releaseRooms(request);
+    @CircuitBreaker(name = "hotelService", fallbackMethod = "hotelFallback")
+    @Bulkhead(name = "hotelManager")
+    public HotelResponseDto getHotelByManager(String email, String role) {
+        return hotelServiceClient.getHotelByManager(email, role);
     }
 
 
+
     private RoomCategoryResponseDto categoryFallback(
             Long categoryId, Throwable ex) {
         throw new ServiceUnavailableException(
@@ -45,16 +62,24 @@ public class ResilientHotelServiceClient {
         );
     }
 
-    private HotelResponseDto hotelFallback(
-            String email, String role, Throwable ex) {
+    private List<RoomCategoryResponseDto> categoriesFallback(
+            Long hotelId, Throwable ex) {
         throw new ServiceUnavailableException(
-            "Hotel service unavailable for manager operations"
+            "Hotel service unavailable while fetching room categories"
         );
     }
 
-    private void voidFallback(Object req, Throwable ex) {
+    private List<HotelResponseDto> citySearchFallback(
+            String city, Throwable ex) {
         throw new ServiceUnavailableException(
-            "Hotel service temporarily unavailable"
+            "Hotel service unavailable while searching hotels"
+        );
+    }
+
+    private HotelResponseDto hotelFallback(
+            String email, String role, Throwable ex) {
+        throw new ServiceUnavailableException(
+            "Hotel service unavailable for manager operations"
         );
     }
 }
@@ -1,23 +1,186 @@
 package com.booking.bookingservice.config;
 
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.RejectAndDontRequeueRecoverer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class BookingRabbitMQConfig {
 
     public static final String BOOKING_EXCHANGE = "booking.events.exchange";
+    public static final String HOTEL_EXCHANGE = "hotel.events.exchange";
+    public static final String CATEGORY_ROUTING_KEY = "category.*";
+    public static final String INVENTORY_CHANGED_ROUTING_KEY = "inventory.changed";
+    public static final String INVENTORY_CHANGES_QUEUE = "booking.inventory.changes.queue";
+    public static final String PAYMENT_WAIT_QUEUE = "booking.payment.wait.queue";
+    public static final String PAYMENT_EXPIRED_QUEUE = "booking.payment.expired.queue";
+    public static final String PAYMENT_DEADLINE_ROUTING_KEY = "payment.deadline";
+    public static final String ALLOCATION_REQUESTED_ROUTING_KEY = "room.allocation.requested";
+    public static final String RELEASE_REQUESTED_ROUTING_KEY = "room.release.requested";
+    public static final String ROOM_ALLOCATION_ROUTING_KEY = "room.#";
+    public static final String ROOM_ALLOCATION_RESULTS_QUEUE = "booking.room.allocation.results.queue";
+    public static final String ROOM_ALLOCATION_RESULTS_DLQ = "booking.room.allocation.results.dlq";
 
     @Bean
     public TopicExchange bookingEventsExchange() {
         return new TopicExchange(BOOKING_EXCHANGE, true, false);
     }
+
+    @Bean
+    public TopicExchange hotelEventsExchange() {
+        return new TopicExchange(HOTEL_EXCHANGE, true, false);
+    }
+
+    // Exclusive, auto-delete queue per instance: category changes are
+    // broadcast to every booking-service node to evict its local cache
+    @Bean
+    public Queue categoryCacheQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding categoryCacheBinding(
+            Queue categoryCacheQueue,
+            TopicExchange hotelEventsExchange
+    ) {
+        return BindingBuilder
+                .bind(categoryCacheQueue)
+                .to(hotelEventsExchange)
+                .with(CATEGORY_ROUTING_KEY);
+    }
     
+    // Shared durable queue: each inventory change must be applied to the
+    // Redis counters exactly once, by whichever instance picks it up
+    @Bean
+    public Queue inventoryChangesQueue() {
+        return new Queue(INVENTORY_CHANGES_QUEUE, true);
+    }
+
+    @Bean
+    public Binding inventoryChangesBinding(
+            Queue inventoryChangesQueue,
+            TopicExchange hotelEventsExchange
+    ) {
+        return BindingBuilder
+                .bind(inventoryChangesQueue)
+                .to(hotelEventsExchange)
+                .with(INVENTORY_CHANGED_ROUTING_KEY);
+    }
+
+    // Shared durable queue for hotel-service's answers to the allocation
+    // and release requests sent on check-in and check-out. Answers that
+    // still fail after the listener's retries are dead-lettered to the DLQ
+    // instead of being redelivered forever.
+    @Bean
+    public Queue roomAllocationResultsQueue() {
+        return QueueBuilder.durable(ROOM_ALLOCATION_RESULTS_QUEUE)
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(ROOM_ALLOCATION_RESULTS_DLQ)
+                .build();
+    }
+
+    @Bean
+    public Queue roomAllocationResultsDlq() {
+        return new Queue(ROOM_ALLOCATION_RESULTS_DLQ, true);
+    }
+
+    @Bean
+    public Binding roomAllocationResultsBinding(
+            Queue roomAllocationResultsQueue,
+            TopicExchange hotelEventsExchange
+    ) {
+        return BindingBuilder
+                .bind(roomAllocationResultsQueue)
+                .to(hotelEventsExchange)
+                .with(ROOM_ALLOCATION_ROUTING_KEY);
+    }
+
+    // Delay queue for payment deadlines: nothing consumes the wait queue,
+    // each message carries its own TTL and is dead-lettered into the
+    // expired queue when it runs out
+    @Bean
+    public Queue paymentWaitQueue() {
+        return QueueBuilder.durable(PAYMENT_WAIT_QUEUE)
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(PAYMENT_EXPIRED_QUEUE)
+                .build();
+    }
+
+    // Deadlines leave through the outbox, which always sends to the
+    // booking exchange
+    @Bean
+    public Binding paymentWaitBinding(
+            Queue paymentWaitQueue,
+            TopicExchange bookingEventsExchange
+    ) {
+        return BindingBuilder
+                .bind(paymentWaitQueue)
+                .to(bookingEventsExchange)
+                .with(PAYMENT_DEADLINE_ROUTING_KEY);
+    }
+
+    @Bean
+    public Queue paymentExpiredQueue() {
+        return new Queue(PAYMENT_EXPIRED_QUEUE, true);
+    }
+
+    // Hands expired deadlines to the listener in batches
+    @Bean
+    public SimpleRabbitListenerContainerFactory paymentExpiryListenerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${booking.payment.expiry-batch-size:100}") int batchSize
+    ) {
+        SimpleRabbitListenerContainerFactory factory =
+                new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setPrefetchCount(batchSize);
+        factory.setReceiveTimeout(1000L);
+        return factory;
+    }
+
+    // Retries a failed saga answer in place with backoff, then rejects it
+    // without requeue so the queue dead-letters it
+    @Bean
+    public SimpleRabbitListenerContainerFactory roomAllocationListenerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${booking.saga.listener.max-attempts:5}") int maxAttempts,
+            @Value("${booking.saga.listener.initial-backoff:PT1S}") Duration initialBackoff,
+            @Value("${booking.saga.listener.max-backoff:PT30S}") Duration maxBackoff
+    ) {
+        SimpleRabbitListenerContainerFactory factory =
+                new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setAdviceChain(
+                RetryInterceptorBuilder.stateless()
+                        .maxAttempts(maxAttempts)
+                        .backOffOptions(initialBackoff.toMillis(), 2.0, maxBackoff.toMillis())
+                        .recoverer(new RejectAndDontRequeueRecoverer())
+                        .build()
+        );
+        return factory;
+    }
+
     @Bean
     public MessageConverter messageConverter() {
         return new Jackson2JsonMessageConverter();
@@ -31,6 +194,9 @@ public class BookingRabbitMQConfig {
     ) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
         template.setMessageConverter(messageConverter);
+        // Publish on a separate connection so broker flow control on
+        // publishers never blocks the listener channels
+        template.setUsePublisherConnection(true);
         return template;
     }
     
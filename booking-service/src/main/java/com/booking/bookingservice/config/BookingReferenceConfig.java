@@ -0,0 +1,101 @@
+package com.booking.bookingservice.config;
+
+import com.booking.bookingservice.util.BookingReferenceGenerator;
+import com.netflix.appinfo.ApplicationInfoManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Gives this instance the node id its booking references are unique under.
+ *
+ * A fixed {@code booking.reference.node-id} wins. Otherwise the instance
+ * reads the node ids other booking-service instances published in their
+ * Eureka metadata, takes a free one at random and publishes it in its own
+ * metadata. Picking at random rather than the lowest free id keeps two
+ * instances that start together with the same registry view apart.
+ */
+@Slf4j
+@Configuration
+public class BookingReferenceConfig {
+
+    private static final String NODE_ID_METADATA = "reference-node-id";
+
+    @Value("${booking.reference.node-id:-1}")
+    private int configuredNodeId;
+
+    @Value("${spring.application.name}")
+    private String serviceId;
+
+    @Bean
+    public BookingReferenceGenerator bookingReferenceGenerator(
+            DiscoveryClient discoveryClient,
+            ObjectProvider<ApplicationInfoManager> applicationInfoManager
+    ) {
+        if (configuredNodeId >= 0) {
+            return new BookingReferenceGenerator(configuredNodeId);
+        }
+
+        ApplicationInfoManager infoManager = applicationInfoManager.getIfAvailable();
+
+        if (infoManager == null) {
+            int nodeId = ThreadLocalRandom.current()
+                    .nextInt(BookingReferenceGenerator.MAX_NODE_ID + 1);
+            log.warn("No service registry, using random reference node id {}", nodeId);
+            return new BookingReferenceGenerator(nodeId);
+        }
+
+        int nodeId = pickFreeNodeId(
+                takenNodeIds(discoveryClient, infoManager.getInfo().getInstanceId())
+        );
+
+        infoManager.registerAppMetadata(Map.of(NODE_ID_METADATA, String.valueOf(nodeId)));
+        log.info("Claimed reference node id {}", nodeId);
+
+        return new BookingReferenceGenerator(nodeId);
+    }
+
+    private Set<Integer> takenNodeIds(DiscoveryClient discoveryClient, String ownInstanceId) {
+
+        Set<Integer> taken = new HashSet<>();
+
+        for (ServiceInstance instance : discoveryClient.getInstances(serviceId)) {
+
+            String nodeId = instance.getMetadata().get(NODE_ID_METADATA);
+
+            if (nodeId != null && !ownInstanceId.equals(instance.getInstanceId())) {
+                taken.add(Integer.parseInt(nodeId));
+            }
+        }
+
+        return taken;
+    }
+
+    private static int pickFreeNodeId(Set<Integer> taken) {
+
+        List<Integer> free = new ArrayList<>();
+
+        for (int id = 0; id <= BookingReferenceGenerator.MAX_NODE_ID; id++) {
+            if (!taken.contains(id)) {
+                free.add(id);
+            }
+        }
+
+        if (free.isEmpty()) {
+            throw new IllegalStateException("No free booking reference node id");
+        }
+
+        return free.get(ThreadLocalRandom.current().nextInt(free.size()));
+    }
+}
@@ -0,0 +1,45 @@
+package com.booking.bookingservice.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // Category by id, used by createBooking and counter seeding
+    public static final String ROOM_CATEGORY_CACHE = "roomCategories";
+
+    // Category list by hotel id, used by availability search
+    public static final String HOTEL_CATEGORIES_CACHE = "hotelCategories";
+
+    @Value("${booking.cache.categories.max-size:5000}")
+    private long maxSize;
+
+    // Safety net only: hotel-service events evict changed entries right away
+    @Value("${booking.cache.categories.ttl:PT10M}")
+    private Duration ttl;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(
+                Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfterWrite(ttl)
+                        .recordStats()
+        );
+        // Created eagerly so actuator binds cache.gets{result=hit|miss} at startup
+        cacheManager.setCacheNames(List.of(ROOM_CATEGORY_CACHE, HOTEL_CATEGORIES_CACHE));
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+}
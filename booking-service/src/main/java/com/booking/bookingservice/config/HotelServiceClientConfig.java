@@ -0,0 +1,73 @@
+package com.booking.bookingservice.config;
+
+import com.booking.bookingservice.client.MethodTimeoutCapability;
+import feign.Capability;
+import feign.Request;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transport settings for the hotel-service Feign client.
+ *
+ * Calls go through the pooled Apache HttpClient 5 connection manager that
+ * Spring Cloud OpenFeign sets up when feign-hc5 is on the classpath (pool
+ * sizes under {@code spring.cloud.openfeign.httpclient.*}). Per-endpoint
+ * concurrency is capped by the Resilience4j bulkheads on
+ * ResilientHotelServiceClient.
+ */
+@Configuration
+public class HotelServiceClientConfig {
+
+    // Read timeouts per endpoint. Lookups made while a guest waits get a
+    // short one; the full hotel list is only fetched by background jobs
+    @Bean
+    public Capability hotelServiceTimeouts(
+            @Value("${booking.hotel-client.connect-timeout:PT1S}") Duration connect,
+            @Value("${booking.hotel-client.category-timeout:PT2S}") Duration category,
+            @Value("${booking.hotel-client.search-timeout:PT3S}") Duration search,
+            @Value("${booking.hotel-client.manager-timeout:PT3S}") Duration manager,
+            @Value("${booking.hotel-client.catalog-timeout:PT15S}") Duration catalog
+    ) {
+        return new MethodTimeoutCapability(Map.of(
+                "getCategoryById", options(connect, category),
+                "getCategoriesByHotel", options(connect, category),
+                "getHotelById", options(connect, category),
+                "searchHotelsByCity", options(connect, search),
+                "getHotelByManager", options(connect, manager),
+                "getAllHotels", options(connect, catalog)
+        ));
+    }
+
+    // Leased, available and pending connections of the pool; pending above
+    // zero means callers are queueing for a connection
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(
+            ObjectProvider<HttpClientConnectionManager> connectionManager
+    ) {
+        return registry -> {
+            if (connectionManager.getIfAvailable()
+                    instanceof PoolingHttpClientConnectionManager pool) {
+                new PoolingHttpClientConnectionManagerMetricsBinder(pool, "feign")
+                        .bindTo(registry);
+            }
+        };
+    }
+
+    private static Request.Options options(Duration connect, Duration read) {
+        return new Request.Options(
+                connect.toMillis(), TimeUnit.MILLISECONDS,
+                read.toMillis(), TimeUnit.MILLISECONDS,
+                true
+        );
+    }
+}
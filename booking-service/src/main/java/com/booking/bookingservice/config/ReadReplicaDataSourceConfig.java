@@ -0,0 +1,88 @@
+package com.booking.bookingservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Sends read-only transactions to a Postgres read replica.
+ *
+ * Only active when {@code booking.datasource.replica.url} is set; the
+ * primary pool keeps its usual {@code spring.datasource.*} settings and the
+ * replica pool takes {@code booking.datasource.replica.hikari.*}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "booking.datasource.replica", name = "url")
+public class ReadReplicaDataSourceConfig {
+
+    @Value("${booking.datasource.replica.url}")
+    private String replicaUrl;
+
+    @Value("${booking.datasource.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${booking.datasource.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${booking.datasource.replica.max-lag:PT5S}")
+    private Duration maxLag;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("booking.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replicaUrl)
+                .username(replicaUsername)
+                .password(replicaPassword)
+                .build();
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+        // Fail over to the primary quickly rather than queue behind a dead replica
+        replica.setConnectionTimeout(Duration.ofSeconds(2).toMillis());
+        return replica;
+    }
+
+    @Bean
+    public ReplicaLagGuard replicaLagGuard(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            MeterRegistry meterRegistry
+    ) {
+        return new ReplicaLagGuard(new JdbcTemplate(replicaDataSource), maxLag, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagGuard replicaLagGuard
+    ) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadReplicaRoutingDataSource(
+                        primaryDataSource, replicaDataSource, replicaLagGuard
+                )
+        );
+    }
+}
@@ -0,0 +1,54 @@
+package com.booking.bookingservice.config;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Hands out replica connections to read-only transactions and primary
+ * connections to everything else.
+ *
+ * The read-only flag is only set once the transaction has begun, so this
+ * must sit behind a LazyConnectionDataSourceProxy that fetches the
+ * connection at the first statement. A replica that lags too far or
+ * refuses a connection sends the read to the primary instead.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagGuard lagGuard;
+
+    public ReadReplicaRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReplicaLagGuard lagGuard
+    ) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagGuard = lagGuard;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && lagGuard.isReplicaUsable()) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                lagGuard.markUnavailable(e);
+            }
+        }
+
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) {
+        throw new UnsupportedOperationException("Pools are configured with credentials");
+    }
+}
@@ -0,0 +1,93 @@
+package com.booking.bookingservice.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+/**
+ * Decides whether read-only work may go to the replica.
+ *
+ * The replica's replay lag is polled every
+ * {@code booking.datasource.replica.lag-check-interval}. Reads stay on the
+ * primary until a check passes, while the lag is above
+ * {@code booking.datasource.replica.max-lag}, and after a failed check or
+ * connection until the next check passes.
+ */
+@Slf4j
+public class ReplicaLagGuard {
+
+    // A replica that is streaming from the primary and has replayed
+    // everything it received is not behind, however old its last replayed
+    // transaction is. Without a streaming receiver, receive = replay only
+    // means nothing new is arriving, so the lag is measured from the last
+    // replayed transaction instead and grows until the replica is dropped.
+    // The receiver status is only visible to pg_read_all_stats members;
+    // for other roles it reads as not streaming, which errs on that side.
+    private static final String LAG_SQL = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn()
+                            AND EXISTS (
+                                SELECT 1 FROM pg_stat_wal_receiver
+                                WHERE status = 'streaming'
+                            ) THEN 0
+                       ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+                   END
+            """;
+
+    private final JdbcTemplate replica;
+    private final double maxLagSeconds;
+
+    private volatile boolean usable;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagGuard(JdbcTemplate replica, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+
+        Gauge.builder("booking.datasource.replica.lag", this, guard -> guard.lagSeconds)
+                .description("Replay lag of the read replica at the last check")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("booking.datasource.replica.usable", this, guard -> guard.usable ? 1 : 0)
+                .description("1 while read-only work is routed to the replica")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${booking.datasource.replica.lag-check-interval:PT5S}")
+    public void check() {
+        try {
+            Double lag = replica.queryForObject(LAG_SQL, Double.class);
+            lagSeconds = lag != null ? lag : Double.NaN;
+
+            boolean withinLimit = lag != null && lag <= maxLagSeconds;
+
+            if (withinLimit != usable) {
+                log.info(
+                        "Replica lag {}s, reads go to the {}",
+                        lag, withinLimit ? "replica" : "primary"
+                );
+            }
+            usable = withinLimit;
+
+        } catch (Exception e) {
+            lagSeconds = Double.NaN;
+            markUnavailable(e);
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    public void markUnavailable(Exception cause) {
+        if (usable) {
+            log.warn("Replica unavailable, reads go to the primary", cause);
+        }
+        usable = false;
+    }
+}
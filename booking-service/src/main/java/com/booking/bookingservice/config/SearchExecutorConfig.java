@@ -0,0 +1,49 @@
+package com.booking.bookingservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class SearchExecutorConfig {
+
+    public static final String CITY_SEARCH_EXECUTOR = "citySearchExecutor";
+    public static final String AVAILABILITY_INDEX_LOADER = "availabilityIndexLoader";
+
+    // Upper bound on hotels checked in parallel across all city searches
+    @Value("${availability.search.max-concurrency:16}")
+    private int maxConcurrency;
+
+    @Value("${availability.search.queue-capacity:2000}")
+    private int queueCapacity;
+
+    // Full-horizon index loads run here, off the search threads
+    @Value("${availability.index.loader-threads:2}")
+    private int loaderThreads;
+
+    @Value("${availability.index.loader-queue-capacity:100}")
+    private int loaderQueueCapacity;
+
+    @Bean(name = CITY_SEARCH_EXECUTOR)
+    public ThreadPoolTaskExecutor citySearchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("city-search-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = AVAILABILITY_INDEX_LOADER)
+    public ThreadPoolTaskExecutor availabilityIndexLoader() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(loaderThreads);
+        executor.setMaxPoolSize(loaderThreads);
+        executor.setQueueCapacity(loaderQueueCapacity);
+        executor.setThreadNamePrefix("index-loader-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,38 @@
+package com.booking.bookingservice.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.booking.bookingservice.dto.response.CityAvailabilityResponse;
+import com.booking.bookingservice.service.HotelSearchService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/availability")
+@RequiredArgsConstructor
+public class AvailabilitySearchController {
+
+    private final HotelSearchService hotelSearchService;
+
+    // PUBLIC (GUEST) → Available hotels in a city with their cheapest fitting category
+    @GetMapping("/search")
+    public ResponseEntity<CityAvailabilityResponse> searchByCity(
+            @RequestParam String city,
+            @RequestParam LocalDate checkIn,
+            @RequestParam LocalDate checkOut,
+            @RequestParam(defaultValue = "1") int rooms,
+            @RequestParam(defaultValue = "1") int guests
+    ) {
+        return ResponseEntity.ok(
+                hotelSearchService.searchByCity(
+                        city, checkIn, checkOut, rooms, guests
+                )
+        );
+    }
+}
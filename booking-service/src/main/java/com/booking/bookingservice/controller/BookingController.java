@@ -1,13 +1,24 @@
 package com.booking.bookingservice.controller;
 
+import com.booking.bookingservice.dto.request.BookingFilter;
 import com.booking.bookingservice.dto.request.CreateBookingRequest;
+import com.booking.bookingservice.dto.request.CreateGroupBookingRequest;
+import com.booking.bookingservice.dto.response.BookingPageResponse;
 import com.booking.bookingservice.dto.response.BookingResponse;
+import com.booking.bookingservice.dto.response.GroupBookingResponse;
 import com.booking.bookingservice.exception.UnauthorizedException;
 import com.booking.bookingservice.service.BookingService;
+import com.booking.bookingservice.service.IdempotencyService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -18,17 +29,68 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class BookingController {
 
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 128;
+    private static final String NDJSON = "application/x-ndjson";
+
     private final BookingService bookingService;
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
 
-    // GUEST → Create booking
+    // GUEST → Create booking; retries with the same Idempotency-Key
+    // get the original booking back instead of a second one
     @PostMapping
     public ResponseEntity<BookingResponse> createBooking(
             @RequestHeader("X-User-Email") String email,
             @RequestHeader("X-User-Role") String role,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody CreateBookingRequest request
     ) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(bookingService.createBooking(request, email, role));
+        }
+
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(bookingService.createBooking(request, email, role));
+                .body(idempotencyService.execute(
+                        idempotencyScope("bookings:", email, idempotencyKey),
+                        request,
+                        BookingResponse.class,
+                        () -> bookingService.createBooking(request, email, role)
+                ));
+    }
+
+    // GUEST → Book several room categories for the same stay, all or nothing
+    @PostMapping("/group")
+    public ResponseEntity<GroupBookingResponse> createGroupBooking(
+            @RequestHeader("X-User-Email") String email,
+            @RequestHeader("X-User-Role") String role,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody CreateGroupBookingRequest request
+    ) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(bookingService.createGroupBooking(request, email, role));
+        }
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(idempotencyService.execute(
+                        idempotencyScope("bookings:group:", email, idempotencyKey),
+                        request,
+                        GroupBookingResponse.class,
+                        () -> bookingService.createGroupBooking(request, email, role)
+                ));
+    }
+
+    private static String idempotencyScope(
+            String prefix,
+            String email,
+            String idempotencyKey
+    ) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException("Invalid Idempotency-Key");
+        }
+
+        return prefix + email + ":" + idempotencyKey;
     }
 
     // GUEST / ADMIN → View booking
@@ -134,5 +196,102 @@ public class BookingController {
         );
     }
 
+    // GUEST → My bookings one page at a time; pass nextCursor back as cursor
+    @GetMapping("/my/page")
+    public ResponseEntity<BookingPageResponse> getMyBookingsPage(
+            @RequestHeader("X-User-Email") String email,
+            @RequestHeader("X-User-Role") String role,
+            BookingFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(
+                bookingService.getMyBookings(email, role, filter, cursor, size)
+        );
+    }
+
+    // GUEST → All my bookings as NDJSON, one booking per line
+    @GetMapping(value = "/my/stream", produces = NDJSON)
+    public void streamMyBookings(
+            @RequestHeader("X-User-Email") String email,
+            @RequestHeader("X-User-Role") String role,
+            BookingFilter filter,
+            HttpServletResponse response
+    ) throws IOException {
+        bookingService.streamMyBookings(email, role, filter, ndjson(response));
+    }
+
+    @GetMapping("/manager/page")
+    public ResponseEntity<BookingPageResponse> getManagerBookingsPage(
+            @RequestHeader("X-User-Email") String email,
+            @RequestHeader("X-User-Role") String role,
+            BookingFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        if (!"MANAGER".equals(role)) {
+            throw new UnauthorizedException("Only MANAGER allowed");
+        }
+
+        return ResponseEntity.ok(
+                bookingService.getBookingsForManager(email, filter, cursor, size)
+        );
+    }
+
+    @GetMapping(value = "/manager/stream", produces = NDJSON)
+    public void streamManagerBookings(
+            @RequestHeader("X-User-Email") String email,
+            @RequestHeader("X-User-Role") String role,
+            BookingFilter filter,
+            HttpServletResponse response
+    ) throws IOException {
+        if (!"MANAGER".equals(role)) {
+            throw new UnauthorizedException("Only MANAGER allowed");
+        }
+
+        bookingService.streamBookingsForManager(email, filter, ndjson(response));
+    }
+
+    // MANAGER / ADMIN → Bookings of a hotel
+    @GetMapping("/hotel/{hotelId}/page")
+    public ResponseEntity<BookingPageResponse> getHotelBookingsPage(
+            @PathVariable Long hotelId,
+            @RequestHeader("X-User-Role") String role,
+            BookingFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(
+                bookingService.getBookingsByHotel(hotelId, role, filter, cursor, size)
+        );
+    }
+
+    @GetMapping(value = "/hotel/{hotelId}/stream", produces = NDJSON)
+    public void streamHotelBookings(
+            @PathVariable Long hotelId,
+            @RequestHeader("X-User-Role") String role,
+            BookingFilter filter,
+            HttpServletResponse response
+    ) throws IOException {
+        bookingService.streamBookingsByHotel(hotelId, role, filter, ndjson(response));
+    }
+
+    // Writes each booking as the service hands it over; the servlet buffer
+    // goes out whenever it fills, so memory stays flat however many rows
+    private Consumer<BookingResponse> ndjson(HttpServletResponse response)
+            throws IOException {
+
+        response.setContentType(NDJSON);
+        OutputStream out = response.getOutputStream();
+
+        return booking -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(booking));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
 
 }
@@ -0,0 +1,47 @@
+package com.booking.bookingservice.controller;
+
+import com.booking.bookingservice.dto.request.CreateHoldRequest;
+import com.booking.bookingservice.dto.response.HoldResponse;
+import com.booking.bookingservice.service.HoldService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/bookings/holds")
+@RequiredArgsConstructor
+public class HoldController {
+
+    private final HoldService holdService;
+
+    // GUEST → Hold rooms while completing checkout
+    @PostMapping
+    public ResponseEntity<HoldResponse> createHold(
+            @RequestHeader("X-User-Email") String email,
+            @RequestHeader("X-User-Role") String role,
+            @Valid @RequestBody CreateHoldRequest request
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(holdService.createHold(request, email, role));
+    }
+
+    @GetMapping("/{holdId}")
+    public ResponseEntity<HoldResponse> getHold(
+            @PathVariable String holdId,
+            @RequestHeader("X-User-Email") String email
+    ) {
+        return ResponseEntity.ok(holdService.getHold(holdId, email));
+    }
+
+    // GUEST → Give the held rooms back before the hold expires
+    @DeleteMapping("/{holdId}")
+    public ResponseEntity<Void> releaseHold(
+            @PathVariable String holdId,
+            @RequestHeader("X-User-Email") String email
+    ) {
+        holdService.releaseHold(holdId, email);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.booking.bookingservice.dto.response.AvailabilityCalendarResponse;
 import com.booking.bookingservice.dto.response.BookingResponse;
 import com.booking.bookingservice.dto.response.HotelAvailabilityResponse;
 import com.booking.bookingservice.service.AvailabilityService;
@@ -40,6 +41,20 @@ public class HotelAvailabilityController {
         );
     }
     
+    // PUBLIC (GUEST) → Per-night availability and price for a booking calendar
+    @GetMapping("/{hotelId}/availability/calendar")
+    public ResponseEntity<AvailabilityCalendarResponse> getAvailabilityCalendar(
+            @PathVariable Long hotelId,
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to
+    ) {
+        return ResponseEntity.ok(
+                availabilityService.getAvailabilityCalendar(
+                        hotelId, from, to
+                )
+        );
+    }
+    
     @GetMapping("/{hotelId}/bookings")
     public ResponseEntity<List<BookingResponse>> getBookingsByHotel(
             @PathVariable Long hotelId,
@@ -0,0 +1,23 @@
+package com.booking.bookingservice.dto.request;
+
+import com.booking.bookingservice.model.ReservationStatus;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Optional filters of the booking list endpoints, bound from query
+ * parameters. Dates apply to the check-in date, {@code to} exclusive.
+ */
+@Data
+public class BookingFilter {
+
+    private ReservationStatus status;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+}
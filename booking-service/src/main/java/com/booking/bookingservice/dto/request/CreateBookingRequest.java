@@ -35,4 +35,7 @@ public class CreateBookingRequest {
     @NotNull
     @Min(1)
     private Integer numberOfRooms;
+
+    // Set when the rooms were already held through /bookings/holds
+    private String holdId;
 }
@@ -0,0 +1,35 @@
+package com.booking.bookingservice.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class CreateGroupBookingRequest {
+
+    @NotNull
+    private Long hotelId;
+
+    @NotNull
+    @Future
+    private LocalDate checkInDate;
+
+    @NotNull
+    @Future
+    private LocalDate checkOutDate;
+
+    @NotBlank
+    private String guestName;
+
+    // One line per room category, all for the same stay
+    @NotEmpty
+    @Size(max = 20)
+    private List<@Valid @NotNull GroupBookingItemRequest> items;
+}
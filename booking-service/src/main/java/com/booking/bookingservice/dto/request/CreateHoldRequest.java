@@ -0,0 +1,34 @@
+package com.booking.bookingservice.dto.request;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+public class CreateHoldRequest {
+
+    @NotNull
+    private Long hotelId;
+
+    @NotNull
+    private Long roomCategoryId;
+
+    @NotNull
+    @Future
+    private LocalDate checkInDate;
+
+    @NotNull
+    @Future
+    private LocalDate checkOutDate;
+
+    @NotNull
+    @Min(1)
+    private Integer numberOfRooms;
+
+    // Optional, capped by booking.hold.max-ttl
+    @Min(1)
+    private Integer holdMinutes;
+}
@@ -0,0 +1,20 @@
+package com.booking.bookingservice.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class GroupBookingItemRequest {
+
+    @NotNull
+    private Long roomCategoryId;
+
+    @NotNull
+    @Min(1)
+    private Integer numberOfGuests;
+
+    @NotNull
+    @Min(1)
+    private Integer numberOfRooms;
+}
@@ -0,0 +1,17 @@
+package com.booking.bookingservice.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AvailabilityCalendarResponse {
+
+    private Long hotelId;
+    private LocalDate from;
+    private LocalDate to;
+    private List<CategoryCalendarResponse> categories;
+}
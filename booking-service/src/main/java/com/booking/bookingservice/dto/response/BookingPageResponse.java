@@ -0,0 +1,16 @@
+package com.booking.bookingservice.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BookingPageResponse {
+
+    private List<BookingResponse> items;
+
+    // Pass back as ?cursor= for the next page; null on the last page
+    private String nextCursor;
+}
@@ -1,6 +1,7 @@
 package com.booking.bookingservice.dto.response;
 
 import com.booking.bookingservice.model.ReservationStatus;
+import com.booking.bookingservice.model.RoomAllocationStatus;
 import lombok.Builder;
 import lombok.Data;
 
@@ -25,4 +26,7 @@ public class BookingResponse {
     private LocalDate checkOutDate;
 
     private BigDecimal totalAmount;
+
+    // Null before check-in; PENDING until hotel-service has assigned rooms
+    private RoomAllocationStatus roomAllocation;
 }
@@ -0,0 +1,16 @@
+package com.booking.bookingservice.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CalendarDayResponse {
+
+    private LocalDate date;
+    private int availableRooms;
+    private BigDecimal price;
+}
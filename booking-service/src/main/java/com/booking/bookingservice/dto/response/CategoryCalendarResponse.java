@@ -0,0 +1,15 @@
+package com.booking.bookingservice.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CategoryCalendarResponse {
+
+    private Long categoryId;
+    private String categoryName;
+    private List<CalendarDayResponse> days;
+}
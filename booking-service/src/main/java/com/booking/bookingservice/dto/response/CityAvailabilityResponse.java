@@ -0,0 +1,21 @@
+package com.booking.bookingservice.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CityAvailabilityResponse {
+
+    private String city;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+
+    // False when some hotels were skipped to stay within the search deadline
+    private boolean complete;
+
+    private List<HotelSearchResultResponse> hotels;
+}
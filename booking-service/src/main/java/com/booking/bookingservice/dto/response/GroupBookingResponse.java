@@ -0,0 +1,19 @@
+package com.booking.bookingservice.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+public class GroupBookingResponse {
+
+    private String groupReference;
+
+    private List<BookingResponse> bookings;
+
+    private Integer totalRooms;
+    private BigDecimal totalAmount;
+}
@@ -0,0 +1,24 @@
+package com.booking.bookingservice.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Data
+@Builder
+public class HoldResponse {
+
+    private String holdId;
+
+    private Long hotelId;
+    private Long roomCategoryId;
+
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+
+    private Integer numberOfRooms;
+
+    private Instant expiresAt;
+}
@@ -2,6 +2,8 @@ package com.booking.bookingservice.dto.response;
 
 import lombok.Data;
 
+import java.util.List;
+
 @Data
 public class HotelResponseDto {
 
@@ -9,4 +11,5 @@ public class HotelResponseDto {
     private String name;
     private String city;
     private boolean active;
+    private List<RoomCategoryResponseDto> roomCategories;
 }
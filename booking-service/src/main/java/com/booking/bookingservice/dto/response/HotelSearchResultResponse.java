@@ -0,0 +1,22 @@
+package com.booking.bookingservice.dto.response;
+
+import java.math.BigDecimal;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class HotelSearchResultResponse {
+
+    private Long hotelId;
+    private String hotelName;
+
+    // Cheapest category that fits the requested rooms and guests
+    private Long categoryId;
+    private String categoryName;
+    private int availableRooms;
+
+    private BigDecimal pricePerNight;
+    private BigDecimal totalPrice;
+}
@@ -12,6 +12,10 @@ public class BookingEventDTO {
     private String eventType;
     private Long bookingId;
 
+    // Group bookings only: one event covers every reservation of the group
+    private String groupReference;
+    private Integer numberOfRooms;
+
     private String guestEmail;
     private String guestName;
 
@@ -1,33 +1,93 @@
 package com.booking.bookingservice.event;
 
+import com.booking.bookingservice.model.OutboxEvent;
+import com.booking.bookingservice.repository.OutboxEventRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.booking.bookingservice.event.BookingEventDTO;
-
-import static com.booking.bookingservice.config.BookingRabbitMQConfig.BOOKING_EXCHANGE;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
 
+/**
+ * Records booking events in the outbox table as part of the caller's
+ * transaction. {@link OutboxRelay} sends them to RabbitMQ after commit,
+ * so the broker is never on the request path and a committed change
+ * never loses its event.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class BookingEventPublisher {
 
-    private final RabbitTemplate rabbitTemplate;
+    private static final String TYPE_ID_HEADER = "__TypeId__";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final MessageConverter messageConverter;
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publish(String routingKey, BookingEventDTO event) {
 
-        rabbitTemplate.convertAndSend(
-            BOOKING_EXCHANGE,
-            routingKey,
-            event
-        );
+        enqueue(routingKey, event);
 
         log.info(
-            "Published booking event: type={}, bookingId={}",
+            "Queued booking event: type={}, bookingId={}",
             event.getEventType(),
             event.getBookingId()
         );
     }
+
+    /**
+     * Queues a request to another service, such as a room allocation,
+     * with the same guarantee as events: it is sent exactly when the
+     * change that asked for it commits.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishCommand(String routingKey, Object command) {
+
+        enqueue(routingKey, command);
+
+        log.info("Queued command: routingKey={}, type={}",
+                routingKey, command.getClass().getSimpleName());
+    }
+
+    /**
+     * Queues a message that expires {@code delay} after it reaches the
+     * broker, for routing keys bound to a delay queue.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishDelayed(String routingKey, Object payload, Duration delay) {
+
+        enqueue(routingKey, payload, String.valueOf(delay.toMillis()));
+
+        log.info("Queued delayed message: routingKey={}, delay={}", routingKey, delay);
+    }
+
+    private void enqueue(String routingKey, Object payload) {
+        enqueue(routingKey, payload, null);
+    }
+
+    private void enqueue(String routingKey, Object payload, String expiration) {
+
+        // Converted now with the same converter the relay sends with, so
+        // consumers see exactly what a direct convertAndSend produced
+        Message message = messageConverter.toMessage(payload, new MessageProperties());
+
+        outboxEventRepository.save(OutboxEvent.builder()
+                .routingKey(routingKey)
+                .payloadType(String.valueOf(
+                        message.getMessageProperties().getHeaders().get(TYPE_ID_HEADER)
+                ))
+                .payload(new String(message.getBody(), StandardCharsets.UTF_8))
+                .expiration(expiration)
+                .createdAt(LocalDateTime.now())
+                .attempts(0)
+                .build());
+    }
 }
@@ -0,0 +1,45 @@
+package com.booking.bookingservice.event;
+
+import com.booking.bookingservice.service.AvailabilityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import static com.booking.bookingservice.config.BookingRabbitMQConfig.INVENTORY_CHANGES_QUEUE;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryChangeListener {
+
+    private final AvailabilityService availabilityService;
+
+    @RabbitListener(queues = INVENTORY_CHANGES_QUEUE)
+    public void handleInventoryChange(RoomCategoryEventDTO event) {
+
+        log.info(
+            "Received inventory change: hotelId={}, categoryId={}, delta={}",
+            event.getHotelId(),
+            event.getCategoryId(),
+            event.getTotalRoomsDelta()
+        );
+
+        if (event.getEventId() == null
+                || event.getHotelId() == null
+                || event.getCategoryId() == null
+                || event.getTotalRoomsDelta() == null) {
+            log.warn("Ignoring incomplete inventory change: {}", event);
+            return;
+        }
+
+        // Failures propagate so the broker redelivers; the change id keeps
+        // a redelivered change from being applied twice
+        availabilityService.applyTotalRoomsChange(
+                event.getHotelId(),
+                event.getCategoryId(),
+                event.getTotalRoomsDelta(),
+                event.getEventId()
+        );
+    }
+}
@@ -0,0 +1,154 @@
+package com.booking.bookingservice.event;
+
+import com.booking.bookingservice.model.OutboxEvent;
+import com.booking.bookingservice.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.booking.bookingservice.config.BookingRabbitMQConfig.BOOKING_EXCHANGE;
+
+/**
+ * Drains the outbox table into RabbitMQ.
+ *
+ * Each batch is locked with SKIP LOCKED, so several instances can relay
+ * side by side. Every message of the batch is sent before any confirm is
+ * awaited, and only rows the broker acked are marked sent; the rest are
+ * retried on the next run. Consumers may therefore see an event twice and
+ * can use the message id (the outbox id) to drop duplicates.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${booking.outbox.batch-size:100}")
+    private int batchSize;
+
+    // Budget for the confirms of a whole batch
+    @Value("${booking.outbox.confirm-timeout:PT5S}")
+    private Duration confirmTimeout;
+
+    @Value("${booking.outbox.retention:P7D}")
+    private Duration retention;
+
+    /**
+     * Relays one batch of unsent events.
+     *
+     * @return the number of events the broker confirmed
+     */
+    public int relayBatch() {
+        Integer sent = transactionTemplate.execute(status -> {
+
+            List<OutboxEvent> batch = outboxEventRepository.lockUnsent(batchSize);
+
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            Map<OutboxEvent, CorrelationData> pending = new LinkedHashMap<>();
+
+            for (OutboxEvent event : batch) {
+                CorrelationData correlation =
+                        new CorrelationData(String.valueOf(event.getId()));
+                try {
+                    rabbitTemplate.send(
+                            BOOKING_EXCHANGE,
+                            event.getRoutingKey(),
+                            toMessage(event),
+                            correlation
+                    );
+                    pending.put(event, correlation);
+                } catch (Exception e) {
+                    log.warn("Failed to send outbox event id={}", event.getId(), e);
+                    event.setAttempts(event.getAttempts() + 1);
+                }
+            }
+
+            List<Long> confirmed = awaitConfirms(pending);
+
+            if (!confirmed.isEmpty()) {
+                outboxEventRepository.markSent(confirmed, LocalDateTime.now());
+            }
+
+            return confirmed.size();
+        });
+
+        return sent != null ? sent : 0;
+    }
+
+    /**
+     * Deletes events that were sent longer ago than the retention period.
+     */
+    public int purgeSent() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteSentBefore(
+                        LocalDateTime.now().minus(retention)
+                )
+        );
+
+        return deleted != null ? deleted : 0;
+    }
+
+    private List<Long> awaitConfirms(Map<OutboxEvent, CorrelationData> pending) {
+
+        List<Long> confirmed = new ArrayList<>();
+        long deadline = System.nanoTime() + confirmTimeout.toNanos();
+
+        pending.forEach((event, correlation) -> {
+            try {
+                CorrelationData.Confirm confirm = correlation.getFuture().get(
+                        Math.max(0, deadline - System.nanoTime()),
+                        TimeUnit.NANOSECONDS
+                );
+
+                if (confirm.isAck()) {
+                    confirmed.add(event.getId());
+                    return;
+                }
+
+                log.warn("Outbox event id={} nacked: {}", event.getId(), confirm.getReason());
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.warn("No confirm for outbox event id={}", event.getId());
+            }
+
+            event.setAttempts(event.getAttempts() + 1);
+        });
+
+        return confirmed;
+    }
+
+    private Message toMessage(OutboxEvent event) {
+        return MessageBuilder
+                .withBody(event.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setHeader("__TypeId__", event.getPayloadType())
+                .setMessageId(String.valueOf(event.getId()))
+                .setExpiration(event.getExpiration())
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.booking.bookingservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentDeadlineMessage {
+
+    private Long bookingId;
+}
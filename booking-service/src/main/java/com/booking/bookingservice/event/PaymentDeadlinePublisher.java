@@ -0,0 +1,37 @@
+package com.booking.bookingservice.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+import static com.booking.bookingservice.config.BookingRabbitMQConfig.PAYMENT_DEADLINE_ROUTING_KEY;
+
+@Component
+@RequiredArgsConstructor
+public class PaymentDeadlinePublisher {
+
+    private final BookingEventPublisher bookingEventPublisher;
+
+    // Every message gets the same TTL, so the wait queue stays in
+    // deadline order and expires from the head as RabbitMQ requires
+    @Value("${booking.payment.expiry-window:PT30M}")
+    private Duration expiryWindow;
+
+    /**
+     * Starts the payment window of a new booking. The deadline is written
+     * to the outbox with the booking, so a rolled-back booking never gets
+     * one and a committed booking never loses it.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void schedule(Long bookingId) {
+        bookingEventPublisher.publishDelayed(
+                PAYMENT_DEADLINE_ROUTING_KEY,
+                new PaymentDeadlineMessage(bookingId),
+                expiryWindow
+        );
+    }
+}
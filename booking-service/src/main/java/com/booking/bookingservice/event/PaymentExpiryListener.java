@@ -0,0 +1,45 @@
+package com.booking.bookingservice.event;
+
+import com.booking.bookingservice.service.BookingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.booking.bookingservice.config.BookingRabbitMQConfig.PAYMENT_EXPIRED_QUEUE;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentExpiryListener {
+
+    private final BookingService bookingService;
+
+    @RabbitListener(
+            queues = PAYMENT_EXPIRED_QUEUE,
+            containerFactory = "paymentExpiryListenerFactory"
+    )
+    public void handleExpiredDeadlines(List<PaymentDeadlineMessage> messages) {
+
+        List<Long> bookingIds = messages.stream()
+                .map(PaymentDeadlineMessage::getBookingId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        if (bookingIds.isEmpty()) {
+            return;
+        }
+
+        int expired = bookingService.expireUnpaidBookings(bookingIds);
+
+        log.info(
+            "Payment deadlines reached: bookings={}, cancelled={}",
+            bookingIds.size(),
+            expired
+        );
+    }
+}
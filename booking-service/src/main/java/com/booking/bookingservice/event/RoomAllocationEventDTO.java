@@ -0,0 +1,17 @@
+package com.booking.bookingservice.event;
+
+import java.time.LocalDateTime;
+import lombok.Data;
+
+@Data
+public class RoomAllocationEventDTO {
+
+    // ROOMS_ALLOCATED, ROOM_ALLOCATION_FAILED or ROOMS_RELEASED
+    private String eventType;
+
+    private Long bookingId;
+
+    private String reason;
+
+    private LocalDateTime eventTime;
+}
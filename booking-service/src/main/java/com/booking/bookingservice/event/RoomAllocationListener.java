@@ -0,0 +1,53 @@
+package com.booking.bookingservice.event;
+
+import com.booking.bookingservice.service.RoomAllocationSagaService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import static com.booking.bookingservice.config.BookingRabbitMQConfig.ROOM_ALLOCATION_RESULTS_QUEUE;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomAllocationListener {
+
+    private final RoomAllocationSagaService roomAllocationSagaService;
+
+    @RabbitListener(
+            queues = ROOM_ALLOCATION_RESULTS_QUEUE,
+            containerFactory = "roomAllocationListenerFactory"
+    )
+    public void handleRoomAllocationEvent(RoomAllocationEventDTO event) {
+
+        if (event.getEventType() == null || event.getBookingId() == null) {
+            log.warn("Ignoring incomplete room allocation event: {}", event);
+            return;
+        }
+
+        // Failures propagate and are retried by the container, then
+        // dead-lettered; every step of the saga is a conditional update, so
+        // a repeat changes nothing
+        switch (event.getEventType()) {
+
+            case "ROOMS_ALLOCATED":
+                roomAllocationSagaService.onRoomsAllocated(event.getBookingId());
+                break;
+
+            case "ROOM_ALLOCATION_FAILED":
+                roomAllocationSagaService.onAllocationFailed(
+                        event.getBookingId(),
+                        event.getReason()
+                );
+                break;
+
+            case "ROOMS_RELEASED":
+                roomAllocationSagaService.onRoomsReleased(event.getBookingId());
+                break;
+
+            default:
+                log.warn("Unknown room allocation event type: {}", event.getEventType());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.booking.bookingservice.event;
+
+import java.time.LocalDateTime;
+import lombok.Data;
+
+@Data
+public class RoomCategoryEventDTO {
+
+    private String eventId;
+    private String eventType;
+
+    private Long hotelId;
+    private Long categoryId;
+
+    private Integer totalRooms;
+    private Integer totalRoomsDelta;
+    private Integer capacity;
+    private Double basePrice;
+
+    private LocalDateTime eventTime;
+}
@@ -0,0 +1,40 @@
+package com.booking.bookingservice.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import static com.booking.bookingservice.config.CacheConfig.HOTEL_CATEGORIES_CACHE;
+import static com.booking.bookingservice.config.CacheConfig.ROOM_CATEGORY_CACHE;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomCategoryEventListener {
+
+    private final CacheManager cacheManager;
+
+    // Every instance has its own queue, so every local cache gets the event
+    @RabbitListener(queues = "#{categoryCacheQueue.name}")
+    public void handleCategoryEvent(RoomCategoryEventDTO event) {
+
+        log.info(
+            "Received hotel event: type={}, categoryId={}",
+            event.getEventType(),
+            event.getCategoryId()
+        );
+
+        evict(ROOM_CATEGORY_CACHE, event.getCategoryId());
+        evict(HOTEL_CATEGORIES_CACHE, event.getHotelId());
+    }
+
+    private void evict(String cacheName, Long key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+}
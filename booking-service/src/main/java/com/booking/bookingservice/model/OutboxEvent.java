@@ -0,0 +1,51 @@
+package com.booking.bookingservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Booking event waiting to be relayed to RabbitMQ. Written in the same
+ * transaction as the change it describes, so an event exists exactly when
+ * that change committed.
+ */
+@Entity
+@Table(
+        name = "booking_outbox",
+        indexes = @Index(name = "idx_booking_outbox_unsent", columnList = "sent_at, id")
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String routingKey;
+
+    // __TypeId__ header the JSON converter would have set
+    @Column(nullable = false)
+    private String payloadType;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // TTL in milliseconds for messages bound for a delay queue
+    @Column(length = 32)
+    private String expiration;
+
+    // Null until the broker confirmed the message
+    private LocalDateTime sentAt;
+
+    @Column(nullable = false)
+    private Integer attempts;
+}
@@ -5,6 +5,7 @@ import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "reservations")
@@ -19,10 +20,18 @@ public class Reservation {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Optimistic lock; the default backfills rows that predate the column
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0 not null")
+    private Long version;
+
     // Public reference 
     @Column(nullable = false, unique = true)
     private String bookingReference;
 
+    // Shared by every reservation of a group booking, null otherwise
+    private String groupReference;
+
     // Comes from JWT (gateway)
     @Column(nullable = false)
     private String userEmail;
@@ -65,6 +74,14 @@ public class Reservation {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private PaymentStatus paymentStatus;
+
+    // Set by check-in and check-out, moved on by hotel-service replies
+    @Enumerated(EnumType.STRING)
+    private RoomAllocationStatus roomAllocation;
+
+    // When the pending allocation or release request was last sent
+    private LocalDateTime roomAllocationRequestedAt;
+
     @Column(nullable = false)
     private Boolean checkInReminderSent = false;
     @Column(nullable = false)
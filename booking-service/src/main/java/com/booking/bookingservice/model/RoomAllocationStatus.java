@@ -0,0 +1,16 @@
+package com.booking.bookingservice.model;
+
+/**
+ * Progress of the hotel-service room allocation for a checked-in stay.
+ * Null until the booking is checked in.
+ */
+public enum RoomAllocationStatus {
+
+    PENDING,
+    ALLOCATED,
+    // The hotel had no rooms; the check-in was undone
+    FAILED,
+    RELEASE_PENDING,
+    RELEASED
+
+}
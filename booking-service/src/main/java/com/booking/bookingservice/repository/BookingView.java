@@ -0,0 +1,37 @@
+package com.booking.bookingservice.repository;
+
+import com.booking.bookingservice.model.ReservationStatus;
+import com.booking.bookingservice.model.RoomAllocationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * The columns of a reservation shown in a booking response, plus the owner
+ * for access checks.
+ *
+ * Built by a JPQL constructor expression, so reads select only these
+ * columns and nothing enters the persistence context. A class rather than
+ * an interface projection: Hibernate creates it straight from the row,
+ * without a proxy per result.
+ */
+@Getter
+@AllArgsConstructor
+public class BookingView {
+
+    private final Long id;
+    private final String bookingReference;
+    private final String userEmail;
+    private final ReservationStatus status;
+    private final String guestName;
+    private final Integer numberOfGuests;
+    private final Integer numberOfRooms;
+    private final Long hotelId;
+    private final Long roomCategoryId;
+    private final LocalDate checkInDate;
+    private final LocalDate checkOutDate;
+    private final BigDecimal totalAmount;
+    private final RoomAllocationStatus roomAllocation;
+}
@@ -0,0 +1,38 @@
+package com.booking.bookingservice.repository;
+
+import com.booking.bookingservice.model.OutboxEvent;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository
+        extends JpaRepository<OutboxEvent, Long> {
+
+    // Oldest unsent events, locked for the caller's transaction; rows
+    // another relay instance holds are skipped instead of waited on
+    @Query(value = """
+            SELECT * FROM booking_outbox
+            WHERE sent_at IS NULL
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> lockUnsent(@Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.sentAt = :sentAt WHERE e.id IN :ids")
+    int markSent(
+            @Param("ids") Collection<Long> ids,
+            @Param("sentAt") LocalDateTime sentAt
+    );
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
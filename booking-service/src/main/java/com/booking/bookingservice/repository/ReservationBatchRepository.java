@@ -0,0 +1,94 @@
+package com.booking.bookingservice.repository;
+
+import com.booking.bookingservice.model.Reservation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserts many reservations in one JDBC batch.
+ *
+ * Reservation ids are IDENTITY columns, which makes Hibernate insert each
+ * entity on its own to read the id back; this goes through the same
+ * connection and transaction as JPA but sends every row in one batch.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO reservations (
+                booking_reference, group_reference, user_email, guest_name,
+                number_of_guests, number_of_rooms, hotel_id, room_category_id,
+                check_in_date, check_out_date, price_per_night, total_amount,
+                status, payment_status, check_in_reminder_sent, check_out_reminder_sent,
+                version
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the reservations and sets the generated id on each of them.
+     */
+    public List<Reservation> insertAll(List<Reservation> reservations) {
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(
+                        INSERT_SQL, new String[] {"id"}
+                ),
+                new BatchPreparedStatementSetter() {
+
+                    @Override
+                    public void setValues(PreparedStatement ps, int i)
+                            throws SQLException {
+                        Reservation r = reservations.get(i);
+                        ps.setString(1, r.getBookingReference());
+                        ps.setString(2, r.getGroupReference());
+                        ps.setString(3, r.getUserEmail());
+                        ps.setString(4, r.getGuestName());
+                        ps.setInt(5, r.getNumberOfGuests());
+                        ps.setInt(6, r.getNumberOfRooms());
+                        ps.setLong(7, r.getHotelId());
+                        ps.setLong(8, r.getRoomCategoryId());
+                        ps.setDate(9, Date.valueOf(r.getCheckInDate()));
+                        ps.setDate(10, Date.valueOf(r.getCheckOutDate()));
+                        ps.setBigDecimal(11, r.getPricePerNight());
+                        ps.setBigDecimal(12, r.getTotalAmount());
+                        ps.setString(13, r.getStatus().name());
+                        ps.setString(14, r.getPaymentStatus().name());
+                        ps.setBoolean(15, r.getCheckInReminderSent());
+                        ps.setBoolean(16, r.getCheckOutReminderSent());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return reservations.size();
+                    }
+                },
+                keyHolder
+        );
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+
+        for (int i = 0; i < reservations.size(); i++) {
+            reservations.get(i).setId(
+                    ((Number) keys.get(i).get("id")).longValue()
+            );
+            reservations.get(i).setVersion(0L);
+        }
+
+        return reservations;
+    }
+}
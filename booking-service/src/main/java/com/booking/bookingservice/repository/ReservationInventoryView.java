@@ -0,0 +1,20 @@
+package com.booking.bookingservice.repository;
+
+import java.time.LocalDate;
+
+/**
+ * The columns of a reservation that hold inventory, read without loading
+ * the whole entity.
+ */
+public interface ReservationInventoryView {
+
+    Long getId();
+
+    Long getRoomCategoryId();
+
+    LocalDate getCheckInDate();
+
+    LocalDate getCheckOutDate();
+
+    Integer getNumberOfRooms();
+}
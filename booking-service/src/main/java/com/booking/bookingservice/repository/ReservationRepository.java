@@ -2,17 +2,51 @@ package com.booking.bookingservice.repository;
 
 import com.booking.bookingservice.model.Reservation;
 import com.booking.bookingservice.model.ReservationStatus;
+import com.booking.bookingservice.model.RoomAllocationStatus;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.QueryHint;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ReservationRepository
         extends JpaRepository<Reservation, Long> {
 
-    Optional<Reservation> findByBookingReference(String bookingReference);
+    // Read paths select straight into BookingView; see its javadoc
+    String SELECT_VIEW = """
+            SELECT new com.booking.bookingservice.repository.BookingView(
+                r.id, r.bookingReference, r.userEmail, r.status, r.guestName,
+                r.numberOfGuests, r.numberOfRooms, r.hotelId, r.roomCategoryId,
+                r.checkInDate, r.checkOutDate, r.totalAmount, r.roomAllocation
+            )
+            FROM Reservation r
+            """;
+
+    @Query(SELECT_VIEW + "WHERE r.id = :id")
+    Optional<BookingView> findViewById(@Param("id") Long id);
+
+    @Query(SELECT_VIEW + "WHERE r.bookingReference = :bookingReference")
+    Optional<BookingView> findViewByBookingReference(
+            @Param("bookingReference") String bookingReference
+    );
+
+    @Query(SELECT_VIEW + "WHERE r.userEmail = :userEmail ORDER BY r.checkInDate DESC")
+    List<BookingView> findViewsByUserEmail(@Param("userEmail") String userEmail);
+
+    @Query(SELECT_VIEW + "WHERE r.hotelId = :hotelId")
+    List<BookingView> findViewsByHotelId(@Param("hotelId") Long hotelId);
+
     List<Reservation> findByStatusAndCheckInDateAndCheckInReminderSentFalse(
             ReservationStatus status,
             LocalDate checkInDate
@@ -22,8 +56,237 @@ public interface ReservationRepository
             ReservationStatus status,
             LocalDate checkOutDate
     );
-    List<Reservation> findByUserEmailOrderByCheckInDateDesc(String userEmail);
-    
-    List<Reservation> findByHotelId(Long hotelId);
+    // Keyset chunk of reservations still holding rooms after the given date
+    List<ReservationInventoryView>
+            findByHotelIdAndStatusInAndCheckOutDateAfterAndIdGreaterThanOrderByIdAsc(
+                    Long hotelId,
+                    Collection<ReservationStatus> statuses,
+                    LocalDate date,
+                    Long afterId,
+                    Pageable pageable
+            );
+
+    // Keyset pages ordered by (checkInDate, id) descending: the next page
+    // starts strictly after the last row of the previous one, so deep pages
+    // cost the same as the first. Every filter is optional (null = any);
+    // the driver sends null dates untyped, so their null checks carry a cast.
+
+    @Query(SELECT_VIEW + """
+            WHERE r.userEmail = :userEmail
+              AND (:status IS NULL OR r.status = :status)
+              AND (CAST(:from AS LocalDate) IS NULL OR r.checkInDate >= :from)
+              AND (CAST(:to AS LocalDate) IS NULL OR r.checkInDate < :to)
+              AND (CAST(:afterDate AS LocalDate) IS NULL
+                   OR r.checkInDate < :afterDate
+                   OR (r.checkInDate = :afterDate AND r.id < :afterId))
+            ORDER BY r.checkInDate DESC, r.id DESC
+            """)
+    List<BookingView> findPageByUserEmail(
+            @Param("userEmail") String userEmail,
+            @Param("status") ReservationStatus status,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    @Query(SELECT_VIEW + """
+            WHERE r.hotelId = :hotelId
+              AND (:status IS NULL OR r.status = :status)
+              AND (CAST(:from AS LocalDate) IS NULL OR r.checkInDate >= :from)
+              AND (CAST(:to AS LocalDate) IS NULL OR r.checkInDate < :to)
+              AND (CAST(:afterDate AS LocalDate) IS NULL
+                   OR r.checkInDate < :afterDate
+                   OR (r.checkInDate = :afterDate AND r.id < :afterId))
+            ORDER BY r.checkInDate DESC, r.id DESC
+            """)
+    List<BookingView> findPageByHotelId(
+            @Param("hotelId") Long hotelId,
+            @Param("status") ReservationStatus status,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    // Streams read through a server-side cursor in fetch-size chunks; they
+    // must be consumed inside a transaction and closed
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query(SELECT_VIEW + """
+            WHERE r.userEmail = :userEmail
+              AND (:status IS NULL OR r.status = :status)
+              AND (CAST(:from AS LocalDate) IS NULL OR r.checkInDate >= :from)
+              AND (CAST(:to AS LocalDate) IS NULL OR r.checkInDate < :to)
+            ORDER BY r.checkInDate DESC, r.id DESC
+            """)
+    Stream<BookingView> streamByUserEmail(
+            @Param("userEmail") String userEmail,
+            @Param("status") ReservationStatus status,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query(SELECT_VIEW + """
+            WHERE r.hotelId = :hotelId
+              AND (:status IS NULL OR r.status = :status)
+              AND (CAST(:from AS LocalDate) IS NULL OR r.checkInDate >= :from)
+              AND (CAST(:to AS LocalDate) IS NULL OR r.checkInDate < :to)
+            ORDER BY r.checkInDate DESC, r.id DESC
+            """)
+    Stream<BookingView> streamByHotelId(
+            @Param("hotelId") Long hotelId,
+            @Param("status") ReservationStatus status,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
 
+    // State transitions below are single conditional UPDATEs: the status
+    // check and the write happen atomically in the database, and the row
+    // count tells the caller whether this call made the transition. Each
+    // one bumps the version so entities loaded earlier fail to overwrite it.
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Reservation r
+            SET r.status = :to, r.version = r.version + 1
+            WHERE r.id = :id
+              AND r.status IN :from
+            """)
+    int transition(
+            @Param("id") Long id,
+            @Param("from") Collection<ReservationStatus> from,
+            @Param("to") ReservationStatus to
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Reservation r
+            SET r.status = :to, r.version = r.version + 1
+            WHERE r.id = :id
+              AND r.userEmail = :userEmail
+              AND r.status IN :from
+            """)
+    int transitionOwned(
+            @Param("id") Long id,
+            @Param("userEmail") String userEmail,
+            @Param("from") Collection<ReservationStatus> from,
+            @Param("to") ReservationStatus to
+    );
+
+    // Check-in and check-out also start the matching step of the room
+    // allocation saga; the replies move it on with the updates further down
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Reservation r
+            SET r.status = com.booking.bookingservice.model.ReservationStatus.CHECKED_IN,
+                r.roomAllocation = com.booking.bookingservice.model.RoomAllocationStatus.PENDING,
+                r.roomAllocationRequestedAt = LOCAL DATETIME,
+                r.version = r.version + 1
+            WHERE r.id = :id
+              AND r.status = com.booking.bookingservice.model.ReservationStatus.CONFIRMED
+            """)
+    int checkInIfConfirmed(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Reservation r
+            SET r.status = com.booking.bookingservice.model.ReservationStatus.CHECKED_OUT,
+                r.roomAllocation = com.booking.bookingservice.model.RoomAllocationStatus.RELEASE_PENDING,
+                r.roomAllocationRequestedAt = LOCAL DATETIME,
+                r.version = r.version + 1
+            WHERE r.id = :id
+              AND r.status = com.booking.bookingservice.model.ReservationStatus.CHECKED_IN
+              AND r.paymentStatus = com.booking.bookingservice.model.PaymentStatus.PAID
+            """)
+    int checkOutIfPaid(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Reservation r
+            SET r.paymentStatus = com.booking.bookingservice.model.PaymentStatus.PAID,
+                r.version = r.version + 1
+            WHERE r.id = :id
+              AND r.userEmail = :userEmail
+              AND r.status = com.booking.bookingservice.model.ReservationStatus.CONFIRMED
+              AND r.paymentStatus = com.booking.bookingservice.model.PaymentStatus.PENDING
+            """)
+    int markPaid(
+            @Param("id") Long id,
+            @Param("userEmail") String userEmail
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Reservation r
+            SET r.status = com.booking.bookingservice.model.ReservationStatus.CANCELLED,
+                r.version = r.version + 1
+            WHERE r.id = :id
+              AND r.status = com.booking.bookingservice.model.ReservationStatus.BOOKED
+              AND r.paymentStatus = com.booking.bookingservice.model.PaymentStatus.PENDING
+            """)
+    int cancelIfUnpaid(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Reservation r
+            SET r.roomAllocation = com.booking.bookingservice.model.RoomAllocationStatus.ALLOCATED,
+                r.version = r.version + 1
+            WHERE r.id = :id
+              AND r.status = com.booking.bookingservice.model.ReservationStatus.CHECKED_IN
+              AND r.roomAllocation = com.booking.bookingservice.model.RoomAllocationStatus.PENDING
+            """)
+    int markRoomsAllocated(@Param("id") Long id);
+
+    // Compensation for a failed allocation: the guest is back to CONFIRMED
+    // and can be checked in again once rooms are free
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Reservation r
+            SET r.status = com.booking.bookingservice.model.ReservationStatus.CONFIRMED,
+                r.roomAllocation = com.booking.bookingservice.model.RoomAllocationStatus.FAILED,
+                r.version = r.version + 1
+            WHERE r.id = :id
+              AND r.status = com.booking.bookingservice.model.ReservationStatus.CHECKED_IN
+              AND r.roomAllocation = com.booking.bookingservice.model.RoomAllocationStatus.PENDING
+            """)
+    int undoCheckIn(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Reservation r
+            SET r.roomAllocation = com.booking.bookingservice.model.RoomAllocationStatus.RELEASED,
+                r.version = r.version + 1
+            WHERE r.id = :id
+              AND r.roomAllocation = com.booking.bookingservice.model.RoomAllocationStatus.RELEASE_PENDING
+            """)
+    int markRoomsReleased(@Param("id") Long id);
+
+    // Requests still waiting for hotel-service that were last sent before
+    // the given time, oldest first
+    List<Reservation> findByRoomAllocationInAndRoomAllocationRequestedAtBeforeOrderByRoomAllocationRequestedAtAsc(
+            Collection<RoomAllocationStatus> statuses,
+            LocalDateTime before,
+            Pageable pageable
+    );
+
+    // Claims a stale request for sending again; only the instance that
+    // moved the timestamp on re-sends it
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Reservation r
+            SET r.roomAllocationRequestedAt = LOCAL DATETIME
+            WHERE r.id = :id
+              AND r.roomAllocation = :status
+              AND r.roomAllocationRequestedAt = :requestedAt
+            """)
+    int claimRoomAllocationResend(
+            @Param("id") Long id,
+            @Param("status") RoomAllocationStatus status,
+            @Param("requestedAt") LocalDateTime requestedAt
+    );
 }
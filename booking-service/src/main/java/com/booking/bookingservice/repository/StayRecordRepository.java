@@ -2,6 +2,9 @@ package com.booking.bookingservice.repository;
 
 import com.booking.bookingservice.model.StayRecord;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -9,4 +12,8 @@ public interface StayRecordRepository
         extends JpaRepository<StayRecord, Long> {
 
     Optional<StayRecord> findByReservationId(Long reservationId);
+
+    @Modifying
+    @Query("DELETE FROM StayRecord s WHERE s.reservation.id = :reservationId")
+    int deleteByReservationId(@Param("reservationId") Long reservationId);
 }
@@ -0,0 +1,277 @@
+package com.booking.bookingservice.repository.inventory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static com.booking.bookingservice.config.SearchExecutorConfig.AVAILABILITY_INDEX_LOADER;
+
+/**
+ * In-process copy of the availability counters of each hotel category over
+ * the booking horizon, held in a {@link RangeMinTree} so the minimum over
+ * any stay is answered in O(log n) instead of scanning every night.
+ *
+ * Redis stays the source of truth: reserve and release still go through
+ * {@link InventoryStore}, and this instance's changes are mirrored here.
+ * Changes made by other instances are picked up when an entry expires
+ * after {@code availability.index.max-age}, so reads may lag by that much.
+ *
+ * A mirrored change is bracketed by {@link #beginChange} and
+ * {@link #add} (or {@link #abandonChange}). A load whose Redis read
+ * overlapped such a change cannot tell whether the change is already in
+ * what it read, so it does not keep that category; the next search loads
+ * it again.
+ */
+@Slf4j
+@Component
+public class AvailabilityIndex {
+
+    private final InventoryStore inventoryStore;
+    private final Executor loader;
+    private final Cache<String, Entry> entries;
+    private final int horizonDays;
+    private final Stripe[] stripes = new Stripe[64];
+
+    // Hotels with a background load queued or running
+    private final Set<Long> loading = ConcurrentHashMap.newKeySet();
+
+    public AvailabilityIndex(
+            InventoryStore inventoryStore,
+            @Qualifier(AVAILABILITY_INDEX_LOADER) Executor loader,
+            @Value("${availability.index.horizon-days:365}") int horizonDays,
+            @Value("${availability.index.max-categories:10000}") long maxCategories,
+            @Value("${availability.index.max-age:PT30S}") Duration maxAge
+    ) {
+        this.inventoryStore = inventoryStore;
+        this.loader = loader;
+        this.horizonDays = horizonDays;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxCategories)
+                .expireAfterWrite(maxAge)
+                .build();
+
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    // Tracks mirrored changes of the categories hashed to it
+    private static class Stripe {
+
+        private long started;
+        private int inFlight;
+
+        synchronized void begin() {
+            started++;
+            inFlight++;
+        }
+
+        synchronized void end() {
+            inFlight--;
+        }
+
+        // Changes started so far, or -1 while one is still running
+        synchronized long settled() {
+            return inFlight == 0 ? started : -1;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Entry {
+
+        private final LocalDate start;
+        private final RangeMinTree tree;
+
+        // Offsets of [checkIn, checkOut) in the tree, or null when the
+        // stay is not fully inside the indexed horizon
+        int[] offsets(LocalDate checkIn, LocalDate checkOut) {
+            long from = ChronoUnit.DAYS.between(start, checkIn);
+            long to = ChronoUnit.DAYS.between(start, checkOut);
+            return from >= 0 && to <= tree.size() && from < to
+                    ? new int[] {(int) from, (int) to}
+                    : null;
+        }
+    }
+
+    private static String key(Long hotelId, Long categoryId) {
+        return hotelId + ":" + categoryId;
+    }
+
+    private Stripe stripe(String key) {
+        return stripes[Math.floorMod(key.hashCode(), stripes.length)];
+    }
+
+    /**
+     * Minimum rooms free over [checkIn, checkOut), or empty when the
+     * category is not indexed or the stay is outside the horizon.
+     */
+    public OptionalInt minAvailable(
+            Long hotelId,
+            Long categoryId,
+            LocalDate checkIn,
+            LocalDate checkOut
+    ) {
+        Entry entry = entries.getIfPresent(key(hotelId, categoryId));
+        if (entry == null) {
+            return OptionalInt.empty();
+        }
+
+        int[] range = entry.offsets(checkIn, checkOut);
+        if (range == null) {
+            return OptionalInt.empty();
+        }
+
+        return OptionalInt.of(Math.max(0, entry.getTree().min(range[0], range[1])));
+    }
+
+    /**
+     * Loads the counters of the given categories (id → total rooms) from
+     * tonight over the horizon in one bulk read. Nights without a counter
+     * are taken at the category total, which is what a first reserve seeds.
+     */
+    public void load(Long hotelId, Map<Long, Integer> totalRooms) {
+
+        if (horizonDays <= 0 || totalRooms.isEmpty()) {
+            return;
+        }
+
+        LocalDate start = LocalDate.now();
+        List<Long> categoryIds = new ArrayList<>(totalRooms.keySet());
+
+        long[] settled = new long[categoryIds.size()];
+        for (int i = 0; i < settled.length; i++) {
+            settled[i] = stripe(key(hotelId, categoryIds.get(i))).settled();
+        }
+
+        Map<Long, Integer[]> stored = inventoryStore.read(
+                hotelId, categoryIds, start, start.plusDays(horizonDays)
+        );
+
+        for (int i = 0; i < categoryIds.size(); i++) {
+
+            if (settled[i] < 0) {
+                continue;
+            }
+
+            Long categoryId = categoryIds.get(i);
+            String key = key(hotelId, categoryId);
+            Stripe stripe = stripe(key);
+
+            Integer[] values = stored.get(categoryId);
+            int[] counters = new int[values.length];
+
+            for (int n = 0; n < values.length; n++) {
+                counters[n] = values[n] != null ? values[n] : totalRooms.get(categoryId);
+            }
+
+            // Holding the stripe keeps a change from starting between the
+            // check and the put, so a later change always finds the entry
+            synchronized (stripe) {
+                if (stripe.settled() == settled[i]) {
+                    entries.put(key, new Entry(start, new RangeMinTree(counters)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs {@link #load} on the loader pool, so a search only pays for the
+     * nights it asked about. One load per hotel is queued at a time; when
+     * the pool is full the load is skipped and a later search asks again.
+     */
+    public void loadInBackground(Long hotelId, Map<Long, Integer> totalRooms) {
+
+        if (horizonDays <= 0 || totalRooms.isEmpty() || !loading.add(hotelId)) {
+            return;
+        }
+
+        Map<Long, Integer> categories = Map.copyOf(totalRooms);
+
+        try {
+            loader.execute(() -> {
+                try {
+                    load(hotelId, categories);
+                } catch (Exception e) {
+                    log.warn("Availability index load failed for hotelId={}", hotelId, e);
+                } finally {
+                    loading.remove(hotelId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            loading.remove(hotelId);
+        }
+    }
+
+    /**
+     * Marks the start of a change to the category's counters in Redis.
+     * Must be followed by {@link #add} or {@link #abandonChange}.
+     */
+    public void beginChange(Long hotelId, Long categoryId) {
+        stripe(key(hotelId, categoryId)).begin();
+    }
+
+    /**
+     * Ends a change that did not alter any counter.
+     */
+    public void abandonChange(Long hotelId, Long categoryId) {
+        stripe(key(hotelId, categoryId)).end();
+    }
+
+    /**
+     * Mirrors a reserve (negative delta) or release (positive delta) made
+     * through this instance and ends the change. Nights outside the
+     * horizon are ignored.
+     */
+    public void add(
+            Long hotelId,
+            Long categoryId,
+            LocalDate checkIn,
+            LocalDate checkOut,
+            int delta
+    ) {
+        String key = key(hotelId, categoryId);
+        try {
+            apply(entries.getIfPresent(key), checkIn, checkOut, delta);
+        } finally {
+            stripe(key).end();
+        }
+    }
+
+    private static void apply(Entry entry, LocalDate checkIn, LocalDate checkOut, int delta) {
+
+        if (entry == null) {
+            return;
+        }
+
+        LocalDate from = checkIn.isBefore(entry.getStart()) ? entry.getStart() : checkIn;
+        LocalDate end = entry.getStart().plusDays(entry.getTree().size());
+        LocalDate to = checkOut.isAfter(end) ? end : checkOut;
+
+        int[] range = entry.offsets(from, to);
+        if (range != null) {
+            entry.getTree().add(range[0], range[1], delta);
+        }
+    }
+
+    public void invalidate(Long hotelId, Long categoryId) {
+        entries.invalidate(key(hotelId, categoryId));
+    }
+}
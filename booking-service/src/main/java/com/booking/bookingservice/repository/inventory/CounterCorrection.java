@@ -0,0 +1,19 @@
+package com.booking.bookingservice.repository.inventory;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * A night whose counter should move from {@code observed} to
+ * {@code expected}, applied only if it still holds {@code observed}.
+ */
+@Getter
+@AllArgsConstructor
+public class CounterCorrection {
+
+    private LocalDate night;
+    private int observed;
+    private int expected;
+}
@@ -0,0 +1,361 @@
+package com.booking.bookingservice.repository.inventory;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * One Redis hash per hotel/category/month with a field per day:
+ * {@code availability:<hotelId>:<categoryId>:<yyyy-MM>} → {@code <day> → rooms}.
+ *
+ * Small hashes are stored as listpacks, so a month costs one key instead of
+ * up to 31. Each hash expires the day after its month ends, which keeps past
+ * dates from piling up in Redis.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "availability.storage.layout", havingValue = "hash")
+public class HashInventoryStore implements InventoryStore {
+
+    private static final RedisScript<Long> RESERVE_SCRIPT =
+            RedisScript.of(
+                    new ClassPathResource("redis/reserve_inventory_hash.lua"),
+                    Long.class
+            );
+
+    private static final RedisScript<Long> RESERVE_MULTI_SCRIPT =
+            RedisScript.of(
+                    new ClassPathResource("redis/reserve_inventory_multi_hash.lua"),
+                    Long.class
+            );
+
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(
+                    new ClassPathResource("redis/release_inventory_hash.lua"),
+                    Long.class
+            );
+
+    private static final StringRedisSerializer SERIALIZER =
+            StringRedisSerializer.UTF_8;
+
+    private static final RedisScript<Long> ADJUST_SCRIPT =
+            RedisScript.of(
+                    new ClassPathResource("redis/adjust_inventory_hash.lua"),
+                    Long.class
+            );
+
+    private static final RedisScript<Long> REPAIR_SCRIPT =
+            RedisScript.of(
+                    new ClassPathResource("redis/repair_inventory_hash.lua"),
+                    Long.class
+            );
+
+    // Long enough to outlive any broker redelivery of the same change
+    private static final Duration CHANGE_MARKER_TTL = Duration.ofDays(7);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static String changeKey(String changeId) {
+        return "inventory:change:" + changeId;
+    }
+
+    public static String key(Long hotelId, Long categoryId, YearMonth month) {
+        return "availability:" + hotelId + ":" + categoryId + ":" + month;
+    }
+
+    public static String field(LocalDate date) {
+        return String.valueOf(date.getDayOfMonth());
+    }
+
+    public static long expireAt(YearMonth month) {
+        return month.plusMonths(1)
+                .atDay(2)
+                .atStartOfDay()
+                .toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static List<LocalDate> nights(LocalDate checkIn, LocalDate checkOut) {
+        return checkIn.datesUntil(checkOut).toList();
+    }
+
+    private static Map<YearMonth, List<LocalDate>> byMonth(List<LocalDate> nights) {
+        return nights.stream()
+                .collect(Collectors.groupingBy(
+                        YearMonth::from,
+                        LinkedHashMap::new,
+                        Collectors.toList()
+                ));
+    }
+
+    @Override
+    public Map<Long, Integer[]> read(
+            Long hotelId,
+            List<Long> categoryIds,
+            LocalDate checkIn,
+            LocalDate checkOut
+    ) {
+        List<LocalDate> nights = nights(checkIn, checkOut);
+        Map<YearMonth, List<LocalDate>> months = byMonth(nights);
+
+        // One HMGET per (category, month), all in the same pipeline
+        List<Object> results = nights.isEmpty()
+                ? List.of()
+                : redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    for (Long categoryId : categoryIds) {
+                        months.forEach((month, days) ->
+                                connection.hashCommands().hMGet(
+                                        SERIALIZER.serialize(key(hotelId, categoryId, month)),
+                                        days.stream()
+                                                .map(d -> SERIALIZER.serialize(field(d)))
+                                                .toArray(byte[][]::new)
+                                )
+                        );
+                    }
+                    return null;
+                });
+
+        Map<Long, Integer[]> counters = new LinkedHashMap<>();
+        int result = 0;
+
+        for (Long categoryId : categoryIds) {
+
+            Integer[] available = new Integer[nights.size()];
+            int n = 0;
+
+            for (int m = 0; m < months.size(); m++) {
+                for (Object value : (List<?>) results.get(result++)) {
+                    available[n++] = value != null
+                            ? Integer.valueOf(value.toString())
+                            : null;
+                }
+            }
+
+            counters.put(categoryId, available);
+        }
+
+        return counters;
+    }
+
+    @Override
+    public void seedIfAbsent(
+            Long hotelId,
+            Map<Long, Map<LocalDate, Integer>> counters
+    ) {
+        if (counters.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            counters.forEach((categoryId, nights) -> {
+
+                Map<YearMonth, List<LocalDate>> months =
+                        byMonth(new ArrayList<>(nights.keySet()));
+
+                months.forEach((month, days) -> {
+                    byte[] key = SERIALIZER.serialize(key(hotelId, categoryId, month));
+
+                    for (LocalDate day : days) {
+                        connection.hashCommands().hSetNX(
+                                key,
+                                SERIALIZER.serialize(field(day)),
+                                SERIALIZER.serialize(String.valueOf(nights.get(day)))
+                        );
+                    }
+
+                    connection.keyCommands().expireAt(key, expireAt(month));
+                });
+            });
+            return null;
+        });
+    }
+
+    @Override
+    public void delete(
+            Long hotelId,
+            List<Long> categoryIds,
+            LocalDate from,
+            LocalDate to
+    ) {
+        Map<YearMonth, List<LocalDate>> months = byMonth(nights(from, to));
+
+        if (months.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long categoryId : categoryIds) {
+                months.forEach((month, days) ->
+                        connection.hashCommands().hDel(
+                                SERIALIZER.serialize(key(hotelId, categoryId, month)),
+                                days.stream()
+                                        .map(d -> SERIALIZER.serialize(field(d)))
+                                        .toArray(byte[][]::new)
+                        )
+                );
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public long reserve(
+            Long hotelId,
+            Long categoryId,
+            LocalDate checkIn,
+            LocalDate checkOut,
+            int numberOfRooms,
+            Integer seed
+    ) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+
+        args.add(String.valueOf(numberOfRooms));
+        args.add(seed != null ? String.valueOf(seed) : "");
+
+        for (LocalDate night : nights(checkIn, checkOut)) {
+            YearMonth month = YearMonth.from(night);
+            keys.add(key(hotelId, categoryId, month));
+            args.add(field(night));
+            args.add(String.valueOf(expireAt(month)));
+        }
+
+        Long result = redisTemplate.execute(
+                RESERVE_SCRIPT, keys, args.toArray()
+        );
+
+        if (result == null) {
+            throw new IllegalStateException("Inventory script returned no result");
+        }
+
+        return result;
+    }
+
+    @Override
+    public long reserveAll(
+            Long hotelId,
+            LocalDate checkIn,
+            LocalDate checkOut,
+            Map<Long, Integer> rooms,
+            Map<Long, Integer> seeds
+    ) {
+        List<LocalDate> nights = nights(checkIn, checkOut);
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+
+        rooms.forEach((categoryId, count) -> {
+            for (LocalDate night : nights) {
+                YearMonth month = YearMonth.from(night);
+                keys.add(key(hotelId, categoryId, month));
+                args.add(field(night));
+                args.add(String.valueOf(expireAt(month)));
+                args.add(String.valueOf(count));
+                args.add(String.valueOf(seeds.get(categoryId)));
+            }
+        });
+
+        Long result = redisTemplate.execute(
+                RESERVE_MULTI_SCRIPT, keys, args.toArray()
+        );
+
+        if (result == null) {
+            throw new IllegalStateException("Inventory script returned no result");
+        }
+
+        return result;
+    }
+
+    @Override
+    public void release(
+            Long hotelId,
+            Long categoryId,
+            LocalDate checkIn,
+            LocalDate checkOut,
+            int numberOfRooms
+    ) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+
+        args.add(String.valueOf(numberOfRooms));
+
+        for (LocalDate night : nights(checkIn, checkOut)) {
+            keys.add(key(hotelId, categoryId, YearMonth.from(night)));
+            args.add(field(night));
+        }
+
+        redisTemplate.execute(RELEASE_SCRIPT, keys, args.toArray());
+    }
+
+    @Override
+    public long adjust(
+            Long hotelId,
+            Long categoryId,
+            LocalDate from,
+            LocalDate to,
+            int delta,
+            String changeId
+    ) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+
+        keys.add(changeKey(changeId));
+        args.add(String.valueOf(delta));
+        args.add(String.valueOf(CHANGE_MARKER_TTL.toSeconds()));
+
+        for (LocalDate night : nights(from, to)) {
+            keys.add(key(hotelId, categoryId, YearMonth.from(night)));
+            args.add(field(night));
+        }
+
+        Long result = redisTemplate.execute(
+                ADJUST_SCRIPT, keys, args.toArray()
+        );
+
+        if (result == null) {
+            throw new IllegalStateException("Inventory script returned no result");
+        }
+
+        return result;
+    }
+
+    @Override
+    public long repair(
+            Long hotelId,
+            Long categoryId,
+            List<CounterCorrection> corrections
+    ) {
+        if (corrections.isEmpty()) {
+            return 0;
+        }
+
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+
+        for (CounterCorrection correction : corrections) {
+            keys.add(key(hotelId, categoryId, YearMonth.from(correction.getNight())));
+            args.add(field(correction.getNight()));
+            args.add(String.valueOf(correction.getObserved()));
+            args.add(String.valueOf(correction.getExpected()));
+        }
+
+        Long result = redisTemplate.execute(
+                REPAIR_SCRIPT, keys, args.toArray()
+        );
+
+        return result != null ? result : 0;
+    }
+}
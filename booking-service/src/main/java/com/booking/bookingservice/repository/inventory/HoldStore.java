@@ -0,0 +1,201 @@
+package com.booking.bookingservice.repository.inventory;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Holds live in Redis as one hash per hold ({@code hold:<id>}) plus a
+ * sorted set of hold ids scored by deadline ({@code holds:expiry}), which
+ * lets the sweeper find expired holds without scanning.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HoldStore {
+
+    private static final String HOLD_PREFIX = "hold:";
+    private static final String EXPIRY_KEY = "holds:expiry";
+
+    private static final String[] FIELDS = {
+            "userEmail", "hotelId", "roomCategoryId",
+            "checkInDate", "checkOutDate", "numberOfRooms", "expiresAt"
+    };
+
+    // The hash outlives its deadline so the sweeper can still read it
+    private static final Duration HASH_GRACE = Duration.ofHours(1);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/claim_hold.lua"), List.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_EXPIRED_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/claim_expired_holds.lua"), List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static String key(String holdId) {
+        return HOLD_PREFIX + holdId;
+    }
+
+    public void save(InventoryHold hold) {
+
+        String key = key(hold.getHoldId());
+        StringRedisSerializer serializer = StringRedisSerializer.UTF_8;
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hMSet(
+                    serializer.serialize(key),
+                    Map.of(
+                            serializer.serialize("userEmail"), serializer.serialize(hold.getUserEmail()),
+                            serializer.serialize("hotelId"), serializer.serialize(String.valueOf(hold.getHotelId())),
+                            serializer.serialize("roomCategoryId"), serializer.serialize(String.valueOf(hold.getRoomCategoryId())),
+                            serializer.serialize("checkInDate"), serializer.serialize(hold.getCheckInDate().toString()),
+                            serializer.serialize("checkOutDate"), serializer.serialize(hold.getCheckOutDate().toString()),
+                            serializer.serialize("numberOfRooms"), serializer.serialize(String.valueOf(hold.getNumberOfRooms())),
+                            serializer.serialize("expiresAt"), serializer.serialize(String.valueOf(hold.getExpiresAt().toEpochMilli()))
+                    )
+            );
+            connection.keyCommands().pExpireAt(
+                    serializer.serialize(key),
+                    hold.getExpiresAt().plus(HASH_GRACE).toEpochMilli()
+            );
+            connection.zSetCommands().zAdd(
+                    serializer.serialize(EXPIRY_KEY),
+                    hold.getExpiresAt().toEpochMilli(),
+                    serializer.serialize(hold.getHoldId())
+            );
+            return null;
+        });
+    }
+
+    public Optional<InventoryHold> find(String holdId) {
+
+        List<Object> values = redisTemplate.opsForHash()
+                .multiGet(key(holdId), List.of((Object[]) FIELDS));
+
+        return Optional.ofNullable(toHold(holdId, values));
+    }
+
+    /**
+     * Atomically removes the hold. Empty when another caller (the sweeper
+     * or a concurrent booking) claimed it first.
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<InventoryHold> claim(String holdId) {
+
+        List<Object> args = new ArrayList<>();
+        args.add(holdId);
+        args.addAll(List.of(FIELDS));
+
+        List<Object> values = redisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(key(holdId), EXPIRY_KEY),
+                args.toArray()
+        );
+
+        return Optional.ofNullable(toHold(holdId, values));
+    }
+
+    /**
+     * Claims up to {@code limit} holds whose deadline has passed.
+     */
+    @SuppressWarnings("unchecked")
+    public List<InventoryHold> claimExpired(Instant now, int limit) {
+
+        List<Object> args = new ArrayList<>();
+        args.add(HOLD_PREFIX);
+        args.add(String.valueOf(now.toEpochMilli()));
+        args.add(String.valueOf(limit));
+        args.addAll(List.of(FIELDS));
+
+        List<Object> flat = redisTemplate.execute(
+                CLAIM_EXPIRED_SCRIPT,
+                List.of(EXPIRY_KEY),
+                args.toArray()
+        );
+
+        List<InventoryHold> holds = new ArrayList<>();
+        if (flat == null) {
+            return holds;
+        }
+
+        int stride = FIELDS.length + 1;
+        for (int i = 0; i + stride <= flat.size(); i += stride) {
+            InventoryHold hold = toHold(
+                    String.valueOf(flat.get(i)),
+                    flat.subList(i + 1, i + stride)
+            );
+            if (hold != null) {
+                holds.add(hold);
+            }
+        }
+
+        return holds;
+    }
+
+    /**
+     * Every hold that has not been claimed yet, expired or not.
+     */
+    public List<InventoryHold> findAll() {
+
+        Set<String> ids = redisTemplate.opsForZSet().range(EXPIRY_KEY, 0, -1);
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> holdIds = new ArrayList<>(ids);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisSerializer serializer = StringRedisSerializer.UTF_8;
+            for (String holdId : holdIds) {
+                connection.hashCommands().hMGet(
+                        serializer.serialize(key(holdId)),
+                        Arrays.stream(FIELDS).map(serializer::serialize).toArray(byte[][]::new)
+                );
+            }
+            return null;
+        });
+
+        List<InventoryHold> holds = new ArrayList<>();
+        for (int i = 0; i < holdIds.size(); i++) {
+            InventoryHold hold = toHold(holdIds.get(i), (List<?>) results.get(i));
+            if (hold != null) {
+                holds.add(hold);
+            }
+        }
+        return holds;
+    }
+
+    private static InventoryHold toHold(String holdId, List<?> values) {
+
+        // A claimed or expired hash comes back as all nulls
+        if (values == null || values.isEmpty() || values.get(0) == null) {
+            return null;
+        }
+
+        return InventoryHold.builder()
+                .holdId(holdId)
+                .userEmail(String.valueOf(values.get(0)))
+                .hotelId(Long.valueOf(String.valueOf(values.get(1))))
+                .roomCategoryId(Long.valueOf(String.valueOf(values.get(2))))
+                .checkInDate(LocalDate.parse(String.valueOf(values.get(3))))
+                .checkOutDate(LocalDate.parse(String.valueOf(values.get(4))))
+                .numberOfRooms(Integer.valueOf(String.valueOf(values.get(5))))
+                .expiresAt(Instant.ofEpochMilli(Long.parseLong(String.valueOf(values.get(6)))))
+                .build();
+    }
+}
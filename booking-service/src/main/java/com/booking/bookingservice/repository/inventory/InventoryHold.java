@@ -0,0 +1,33 @@
+package com.booking.bookingservice.repository.inventory;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Rooms taken out of the availability counters for a limited time while
+ * the guest completes checkout.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryHold {
+
+    private String holdId;
+    private String userEmail;
+
+    private Long hotelId;
+    private Long roomCategoryId;
+
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+
+    private Integer numberOfRooms;
+
+    private Instant expiresAt;
+}
@@ -0,0 +1,257 @@
+package com.booking.bookingservice.repository.inventory;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One-off copy of the per-night string counters into the hash-per-month
+ * layout. Enable with {@code availability.migration.enabled=true} while
+ * booking traffic is paused, then switch
+ * {@code availability.storage.layout} to {@code hash}.
+ *
+ * Besides migrating, it logs the Redis memory used by both layouts and
+ * the time taken to read the same sample of 30-night ranges from each,
+ * so the comparison comes from the real dataset.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "availability.migration.enabled", havingValue = "true")
+public class InventoryLayoutMigrator implements ApplicationRunner {
+
+    private static final Pattern STRING_KEY =
+            Pattern.compile("availability:(\\d+):(\\d+):(\\d{4}-\\d{2}-\\d{2})");
+
+    private static final StringRedisSerializer SERIALIZER =
+            StringRedisSerializer.UTF_8;
+
+    private static final int LATENCY_SAMPLES = 200;
+    private static final int SAMPLE_NIGHTS = 30;
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${availability.migration.batch-size:500}")
+    private int batchSize;
+
+    @Value("${availability.migration.delete-source:false}")
+    private boolean deleteSource;
+
+    @Override
+    public void run(ApplicationArguments args) {
+
+        YearMonth currentMonth = YearMonth.now();
+
+        Set<String> hashKeys = new LinkedHashSet<>();
+        Set<String> samplePairs = new LinkedHashSet<>();
+        List<String> batch = new ArrayList<>(batchSize);
+
+        long migrated = 0;
+        long skippedPast = 0;
+        long stringBytes = 0;
+
+        ScanOptions options = ScanOptions.scanOptions()
+                .match("availability:*")
+                .count(batchSize)
+                .build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+
+                String key = cursor.next();
+                if (!STRING_KEY.matcher(key).matches()) {
+                    continue;
+                }
+
+                batch.add(key);
+
+                if (batch.size() == batchSize) {
+                    BatchResult result = migrateBatch(batch, currentMonth, hashKeys, samplePairs);
+                    migrated += result.migrated;
+                    skippedPast += result.skippedPast;
+                    stringBytes += result.bytes;
+                    batch.clear();
+                }
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            BatchResult result = migrateBatch(batch, currentMonth, hashKeys, samplePairs);
+            migrated += result.migrated;
+            skippedPast += result.skippedPast;
+            stringBytes += result.bytes;
+        }
+
+        long hashBytes = memoryUsage(new ArrayList<>(hashKeys));
+
+        log.info(
+                "Inventory migration done: counters={}, pastDatesSkipped={}, hashKeys={}",
+                migrated, skippedPast, hashKeys.size()
+        );
+        log.info(
+                "Inventory memory: stringLayout={} bytes, hashLayout={} bytes, ratio={}",
+                stringBytes,
+                hashBytes,
+                hashBytes > 0 ? String.format("%.2f", (double) stringBytes / hashBytes) : "n/a"
+        );
+
+        compareReadLatency(samplePairs);
+    }
+
+    private BatchResult migrateBatch(
+            List<String> keys,
+            YearMonth currentMonth,
+            Set<String> hashKeys,
+            Set<String> samplePairs
+    ) {
+        BatchResult result = new BatchResult();
+        result.bytes = memoryUsage(keys);
+
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        List<String> toDelete = new ArrayList<>();
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            Set<String> touched = new HashSet<>();
+
+            for (int i = 0; i < keys.size(); i++) {
+
+                String value = values != null ? values.get(i) : null;
+                if (value == null) {
+                    continue;
+                }
+
+                Matcher m = STRING_KEY.matcher(keys.get(i));
+                m.matches();
+
+                Long hotelId = Long.valueOf(m.group(1));
+                Long categoryId = Long.valueOf(m.group(2));
+                LocalDate date = LocalDate.parse(m.group(3));
+                YearMonth month = YearMonth.from(date);
+
+                toDelete.add(keys.get(i));
+
+                if (month.isBefore(currentMonth)) {
+                    result.skippedPast++;
+                    continue;
+                }
+
+                String hashKey = HashInventoryStore.key(hotelId, categoryId, month);
+                byte[] rawKey = SERIALIZER.serialize(hashKey);
+
+                connection.hashCommands().hSet(
+                        rawKey,
+                        SERIALIZER.serialize(HashInventoryStore.field(date)),
+                        SERIALIZER.serialize(value)
+                );
+
+                if (touched.add(hashKey)) {
+                    connection.keyCommands().expireAt(
+                            rawKey, HashInventoryStore.expireAt(month)
+                    );
+                }
+
+                hashKeys.add(hashKey);
+                if (samplePairs.size() < LATENCY_SAMPLES) {
+                    samplePairs.add(hotelId + ":" + categoryId);
+                }
+                result.migrated++;
+            }
+            return null;
+        });
+
+        if (deleteSource && !toDelete.isEmpty()) {
+            redisTemplate.delete(toDelete);
+        }
+
+        return result;
+    }
+
+    private long memoryUsage(List<String> keys) {
+
+        long total = 0;
+
+        for (int from = 0; from < keys.size(); from += batchSize) {
+
+            List<String> chunk = keys.subList(from, Math.min(from + batchSize, keys.size()));
+
+            List<Object> sizes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String key : chunk) {
+                    connection.execute("MEMORY", SERIALIZER.serialize("USAGE"), SERIALIZER.serialize(key));
+                }
+                return null;
+            });
+
+            for (Object size : sizes) {
+                if (size instanceof Number n) {
+                    total += n.longValue();
+                }
+            }
+        }
+
+        return total;
+    }
+
+    private void compareReadLatency(Set<String> samplePairs) {
+
+        if (samplePairs.isEmpty() || deleteSource) {
+            return;
+        }
+
+        InventoryStore stringStore = new StringInventoryStore(redisTemplate);
+        InventoryStore hashStore = new HashInventoryStore(redisTemplate);
+
+        LocalDate from = LocalDate.now();
+        LocalDate to = from.plusDays(SAMPLE_NIGHTS);
+
+        long stringNanos = 0;
+        long hashNanos = 0;
+
+        for (String pair : samplePairs) {
+
+            String[] ids = pair.split(":");
+            Long hotelId = Long.valueOf(ids[0]);
+            List<Long> categoryIds = List.of(Long.valueOf(ids[1]));
+
+            long start = System.nanoTime();
+            stringStore.read(hotelId, categoryIds, from, to);
+            stringNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            hashStore.read(hotelId, categoryIds, from, to);
+            hashNanos += System.nanoTime() - start;
+        }
+
+        log.info(
+                "Inventory {}-night read latency over {} samples: stringLayout={} us avg, hashLayout={} us avg",
+                SAMPLE_NIGHTS,
+                samplePairs.size(),
+                stringNanos / samplePairs.size() / 1_000,
+                hashNanos / samplePairs.size() / 1_000
+        );
+    }
+
+    private static class BatchResult {
+        long migrated;
+        long skippedPast;
+        long bytes;
+    }
+}
@@ -0,0 +1,121 @@
+package com.booking.bookingservice.repository.inventory;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis storage of the per-night availability counters.
+ *
+ * The layout is picked with {@code availability.storage.layout}:
+ * {@code string} (one key per night, the default) or {@code hash}
+ * (one hash per month with a field per day).
+ */
+public interface InventoryStore {
+
+    /**
+     * Counters for every night in [checkIn, checkOut) of each category,
+     * fetched in a single round trip. Nights without a counter are null.
+     */
+    Map<Long, Integer[]> read(
+            Long hotelId,
+            List<Long> categoryIds,
+            LocalDate checkIn,
+            LocalDate checkOut
+    );
+
+    /**
+     * Writes the given counters (categoryId → night → rooms) in one
+     * pipelined batch, leaving any counter that already exists untouched.
+     */
+    void seedIfAbsent(
+            Long hotelId,
+            Map<Long, Map<LocalDate, Integer>> counters
+    );
+
+    /**
+     * Removes the counters of every night in [from, to) for the given
+     * categories. Used to drop nights that are already in the past.
+     */
+    void delete(
+            Long hotelId,
+            List<Long> categoryIds,
+            LocalDate from,
+            LocalDate to
+    );
+
+    /**
+     * Atomically checks and decrements every night of the stay.
+     *
+     * @param seed total rooms used for missing nights, or null when unknown
+     * @return 0 on success, i when night i (1-based) has too few rooms,
+     *         -i when night i has no counter and no seed was given
+     */
+    long reserve(
+            Long hotelId,
+            Long categoryId,
+            LocalDate checkIn,
+            LocalDate checkOut,
+            int numberOfRooms,
+            Integer seed
+    );
+
+    /**
+     * Atomically checks and decrements every night of several categories
+     * for the same stay. Either every counter is decremented or none is.
+     *
+     * @param rooms categoryId → number of rooms to reserve
+     * @param seeds categoryId → total rooms used for missing nights
+     * @return 0 on success, or i when counter i (1-based, the nights of
+     *         each category in the iteration order of {@code rooms}) has
+     *         too few rooms
+     */
+    long reserveAll(
+            Long hotelId,
+            LocalDate checkIn,
+            LocalDate checkOut,
+            Map<Long, Integer> rooms,
+            Map<Long, Integer> seeds
+    );
+
+    /**
+     * Atomically returns rooms to every night of the stay. Nights without
+     * a counter are skipped.
+     */
+    void release(
+            Long hotelId,
+            Long categoryId,
+            LocalDate checkIn,
+            LocalDate checkOut,
+            int numberOfRooms
+    );
+
+    /**
+     * Atomically adds a signed delta to every existing counter of the
+     * category in [from, to). Nights without a counter are skipped.
+     *
+     * @param changeId id of the inventory change; a change that was
+     *                 already applied under the same id is ignored
+     * @return the number of counters shifted, or -1 for a duplicate change
+     */
+    long adjust(
+            Long hotelId,
+            Long categoryId,
+            LocalDate from,
+            LocalDate to,
+            int delta,
+            String changeId
+    );
+
+    /**
+     * Atomically moves each night's counter to its expected value where
+     * it still holds the observed one.
+     *
+     * @return the number of counters repaired
+     */
+    long repair(
+            Long hotelId,
+            Long categoryId,
+            List<CounterCorrection> corrections
+    );
+}
@@ -0,0 +1,93 @@
+package com.booking.bookingservice.repository.inventory;
+
+/**
+ * Segment tree over a fixed array of counters with lazy range add and
+ * range minimum, both in O(log n).
+ */
+public class RangeMinTree {
+
+    private final int size;
+    private final int[] min;
+    private final int[] pending;
+
+    public RangeMinTree(int[] values) {
+        if (values.length == 0) {
+            throw new IllegalArgumentException("Tree needs at least one value");
+        }
+        this.size = values.length;
+        this.min = new int[4 * size];
+        this.pending = new int[4 * size];
+        build(1, 0, size - 1, values);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds {@code delta} to every value in [from, to).
+     */
+    public synchronized void add(int from, int to, int delta) {
+        checkRange(from, to);
+        add(1, 0, size - 1, from, to - 1, delta);
+    }
+
+    /**
+     * Minimum of the values in [from, to).
+     */
+    public synchronized int min(int from, int to) {
+        checkRange(from, to);
+        return min(1, 0, size - 1, from, to - 1);
+    }
+
+    private void checkRange(int from, int to) {
+        if (from < 0 || to > size || from >= to) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + from + ", " + to + ") outside [0, " + size + ")"
+            );
+        }
+    }
+
+    private void build(int node, int lo, int hi, int[] values) {
+        if (lo == hi) {
+            min[node] = values[lo];
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        build(2 * node, lo, mid, values);
+        build(2 * node + 1, mid + 1, hi, values);
+        min[node] = Math.min(min[2 * node], min[2 * node + 1]);
+    }
+
+    private void add(int node, int lo, int hi, int from, int to, int delta) {
+        if (to < lo || hi < from) {
+            return;
+        }
+        if (from <= lo && hi <= to) {
+            min[node] += delta;
+            pending[node] += delta;
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        add(2 * node, lo, mid, from, to, delta);
+        add(2 * node + 1, mid + 1, hi, from, to, delta);
+        min[node] = Math.min(min[2 * node], min[2 * node + 1]) + pending[node];
+    }
+
+    // Pending adds are kept on the node rather than pushed down, so a
+    // query just accumulates them on the way to the covering nodes
+    private int min(int node, int lo, int hi, int from, int to) {
+        if (from <= lo && hi <= to) {
+            return min[node];
+        }
+        int mid = (lo + hi) >>> 1;
+        int result = Integer.MAX_VALUE;
+        if (from <= mid) {
+            result = Math.min(result, min(2 * node, lo, mid, from, to));
+        }
+        if (to > mid) {
+            result = Math.min(result, min(2 * node + 1, mid + 1, hi, from, to));
+        }
+        return result + pending[node];
+    }
+}
@@ -0,0 +1,308 @@
+package com.booking.bookingservice.repository.inventory;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One Redis string per hotel/category/night:
+ * {@code availability:<hotelId>:<categoryId>:<yyyy-MM-dd>}.
+ *
+ * Counters written through {@link #seedIfAbsent} carry a TTL; counters
+ * created by the reserve script on a cold night do not, and are removed by
+ * {@link #delete} once the night has passed.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = "availability.storage.layout",
+        havingValue = "string",
+        matchIfMissing = true
+)
+public class StringInventoryStore implements InventoryStore {
+
+    private static final RedisScript<Long> RESERVE_SCRIPT =
+            RedisScript.of(
+                    new ClassPathResource("redis/reserve_inventory.lua"),
+                    Long.class
+            );
+
+    private static final RedisScript<Long> RESERVE_MULTI_SCRIPT =
+            RedisScript.of(
+                    new ClassPathResource("redis/reserve_inventory_multi.lua"),
+                    Long.class
+            );
+
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(
+                    new ClassPathResource("redis/release_inventory.lua"),
+                    Long.class
+            );
+
+    private static final RedisScript<Long> ADJUST_SCRIPT =
+            RedisScript.of(
+                    new ClassPathResource("redis/adjust_inventory.lua"),
+                    Long.class
+            );
+
+    private static final RedisScript<Long> REPAIR_SCRIPT =
+            RedisScript.of(
+                    new ClassPathResource("redis/repair_inventory.lua"),
+                    Long.class
+            );
+
+    // Long enough to outlive any broker redelivery of the same change
+    private static final Duration CHANGE_MARKER_TTL = Duration.ofDays(7);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static String changeKey(String changeId) {
+        return "inventory:change:" + changeId;
+    }
+
+    public static String key(Long hotelId, Long categoryId, LocalDate date) {
+        return "availability:" + hotelId + ":" + categoryId + ":" + date;
+    }
+
+    /**
+     * Each night's counter expires two days after the night itself, so
+     * seeded keys for past dates clean themselves up.
+     */
+    public static long expireAt(LocalDate date) {
+        return date.plusDays(2)
+                .atStartOfDay()
+                .toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static List<String> keys(
+            Long hotelId,
+            Long categoryId,
+            LocalDate checkIn,
+            LocalDate checkOut
+    ) {
+        List<String> keys = new ArrayList<>();
+        LocalDate date = checkIn;
+
+        while (date.isBefore(checkOut)) {
+            keys.add(key(hotelId, categoryId, date));
+            date = date.plusDays(1);
+        }
+
+        return keys;
+    }
+
+    @Override
+    public Map<Long, Integer[]> read(
+            Long hotelId,
+            List<Long> categoryIds,
+            LocalDate checkIn,
+            LocalDate checkOut
+    ) {
+        int nights = (int) ChronoUnit.DAYS.between(checkIn, checkOut);
+
+        List<String> keys = new ArrayList<>(categoryIds.size() * nights);
+        for (Long categoryId : categoryIds) {
+            keys.addAll(keys(hotelId, categoryId, checkIn, checkOut));
+        }
+
+        List<String> values = keys.isEmpty()
+                ? List.of()
+                : redisTemplate.opsForValue().multiGet(keys);
+
+        Map<Long, Integer[]> counters = new LinkedHashMap<>();
+
+        for (int c = 0; c < categoryIds.size(); c++) {
+
+            Integer[] available = new Integer[nights];
+
+            for (int n = 0; n < nights; n++) {
+                String value = values != null ? values.get(c * nights + n) : null;
+                available[n] = value != null ? Integer.valueOf(value) : null;
+            }
+
+            counters.put(categoryIds.get(c), available);
+        }
+
+        return counters;
+    }
+
+    @Override
+    public void seedIfAbsent(
+            Long hotelId,
+            Map<Long, Map<LocalDate, Integer>> counters
+    ) {
+        if (counters.isEmpty()) {
+            return;
+        }
+
+        StringRedisSerializer serializer = StringRedisSerializer.UTF_8;
+
+        // SETNX rather than SET so a counter that another request seeded
+        // and decremented in the meantime is never overwritten
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            counters.forEach((categoryId, nights) ->
+                    nights.forEach((date, rooms) -> {
+                        byte[] key = serializer.serialize(key(hotelId, categoryId, date));
+                        connection.stringCommands().setNX(
+                                key,
+                                serializer.serialize(String.valueOf(rooms))
+                        );
+                        connection.keyCommands().expireAt(key, expireAt(date));
+                    })
+            );
+            return null;
+        });
+    }
+
+    @Override
+    public void delete(
+            Long hotelId,
+            List<Long> categoryIds,
+            LocalDate from,
+            LocalDate to
+    ) {
+        List<String> keys = new ArrayList<>();
+        for (Long categoryId : categoryIds) {
+            keys.addAll(keys(hotelId, categoryId, from, to));
+        }
+
+        if (!keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @Override
+    public long reserve(
+            Long hotelId,
+            Long categoryId,
+            LocalDate checkIn,
+            LocalDate checkOut,
+            int numberOfRooms,
+            Integer seed
+    ) {
+        Long result = redisTemplate.execute(
+                RESERVE_SCRIPT,
+                keys(hotelId, categoryId, checkIn, checkOut),
+                String.valueOf(numberOfRooms),
+                seed != null ? String.valueOf(seed) : ""
+        );
+
+        if (result == null) {
+            throw new IllegalStateException("Inventory script returned no result");
+        }
+
+        return result;
+    }
+
+    @Override
+    public long reserveAll(
+            Long hotelId,
+            LocalDate checkIn,
+            LocalDate checkOut,
+            Map<Long, Integer> rooms,
+            Map<Long, Integer> seeds
+    ) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+
+        rooms.forEach((categoryId, count) -> {
+            for (String key : keys(hotelId, categoryId, checkIn, checkOut)) {
+                keys.add(key);
+                args.add(String.valueOf(count));
+                args.add(String.valueOf(seeds.get(categoryId)));
+            }
+        });
+
+        Long result = redisTemplate.execute(
+                RESERVE_MULTI_SCRIPT, keys, args.toArray()
+        );
+
+        if (result == null) {
+            throw new IllegalStateException("Inventory script returned no result");
+        }
+
+        return result;
+    }
+
+    @Override
+    public void release(
+            Long hotelId,
+            Long categoryId,
+            LocalDate checkIn,
+            LocalDate checkOut,
+            int numberOfRooms
+    ) {
+        redisTemplate.execute(
+                RELEASE_SCRIPT,
+                keys(hotelId, categoryId, checkIn, checkOut),
+                String.valueOf(numberOfRooms)
+        );
+    }
+
+    @Override
+    public long adjust(
+            Long hotelId,
+            Long categoryId,
+            LocalDate from,
+            LocalDate to,
+            int delta,
+            String changeId
+    ) {
+        List<String> keys = new ArrayList<>();
+        keys.add(changeKey(changeId));
+        keys.addAll(keys(hotelId, categoryId, from, to));
+
+        Long result = redisTemplate.execute(
+                ADJUST_SCRIPT,
+                keys,
+                String.valueOf(delta),
+                String.valueOf(CHANGE_MARKER_TTL.toSeconds())
+        );
+
+        if (result == null) {
+            throw new IllegalStateException("Inventory script returned no result");
+        }
+
+        return result;
+    }
+
+    @Override
+    public long repair(
+            Long hotelId,
+            Long categoryId,
+            List<CounterCorrection> corrections
+    ) {
+        if (corrections.isEmpty()) {
+            return 0;
+        }
+
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+
+        for (CounterCorrection correction : corrections) {
+            keys.add(key(hotelId, categoryId, correction.getNight()));
+            args.add(String.valueOf(correction.getObserved()));
+            args.add(String.valueOf(correction.getExpected()));
+        }
+
+        Long result = redisTemplate.execute(
+                REPAIR_SCRIPT, keys, args.toArray()
+        );
+
+        return result != null ? result : 0;
+    }
+}
@@ -47,13 +47,15 @@ public interface BookingReportRepository extends JpaRepository<Reservation, Long
     		    WHERE r.hotelId = :hotelId
     		      AND r.paymentStatus = 'PAID'
     		      AND r.status = 'CHECKED_OUT'
-    		      AND EXTRACT(YEAR FROM r.checkOutDate) = :year
+    		      AND r.checkOutDate >= :from
+    		      AND r.checkOutDate < :to
     		    GROUP BY EXTRACT(MONTH FROM r.checkOutDate)
     		    ORDER BY EXTRACT(MONTH FROM r.checkOutDate)
     		""")
     		List<Object[]> getMonthlyRevenue(
     		        @Param("hotelId") Long hotelId,
-    		        @Param("year") int year
+    		        @Param("from") LocalDate from,
+    		        @Param("to") LocalDate to
     		);
     		
     		
@@ -64,11 +66,15 @@ public interface BookingReportRepository extends JpaRepository<Reservation, Long
     			    FROM Reservation r
     			    WHERE r.paymentStatus = 'PAID'
     			      AND r.status = 'CHECKED_OUT'
-    			      AND EXTRACT(YEAR FROM r.checkOutDate) = :year
+    			      AND r.checkOutDate >= :from
+    			      AND r.checkOutDate < :to
     			    GROUP BY r.hotelId, EXTRACT(MONTH FROM r.checkOutDate)
     			    ORDER BY r.hotelId, EXTRACT(MONTH FROM r.checkOutDate)
     			""")
-    			List<Object[]> getMonthlyRevenueForAllHotels(@Param("year") int year);
+    			List<Object[]> getMonthlyRevenueForAllHotels(
+    			        @Param("from") LocalDate from,
+    			        @Param("to") LocalDate to
+    			);
     			
     			
     			@Query("""
@@ -87,13 +93,15 @@ public interface BookingReportRepository extends JpaRepository<Reservation, Long
     					    FROM Reservation r
     					    WHERE r.hotelId = :hotelId
     					      AND r.status IN ('CHECKED_IN', 'CHECKED_OUT')
-    					      AND EXTRACT(YEAR FROM r.checkInDate) = :year
+    					      AND r.checkInDate >= :from
+    					      AND r.checkInDate < :to
     					    GROUP BY EXTRACT(MONTH FROM r.checkInDate)
     					    ORDER BY EXTRACT(MONTH FROM r.checkInDate)
     					""")
     					List<Object[]> getMonthlyOccupancy(
     					        @Param("hotelId") Long hotelId,
-    					        @Param("year") int year
+    					        @Param("from") LocalDate from,
+    					        @Param("to") LocalDate to
     					);
 
 
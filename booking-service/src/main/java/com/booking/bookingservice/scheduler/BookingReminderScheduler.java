@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -23,7 +24,9 @@ public class BookingReminderScheduler {
     private final BookingEventPublisher bookingEventPublisher;
 
     
+    // Reminder events go to the outbox together with the sent flags
     @Scheduled(cron = "0 41 20 * * *", zone = "Asia/Kolkata") 
+    @Transactional
     public void sendCheckInReminders() {
 
         LocalDate tomorrow = LocalDate.now().plusDays(1);
@@ -60,6 +63,7 @@ public class BookingReminderScheduler {
 
  
     @Scheduled(cron = "0 55 14 * * *", zone = "Asia/Kolkata")
+    @Transactional
     public void sendCheckOutReminders() {
 
         LocalDate tomorrow = LocalDate.now().plusDays(1);
@@ -0,0 +1,28 @@
+package com.booking.bookingservice.scheduler;
+
+import com.booking.bookingservice.service.HoldService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Releases expired holds. Claiming is atomic in Redis, so every instance
+ * can run the sweeper without releasing a hold twice.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HoldExpiryScheduler {
+
+    private final HoldService holdService;
+
+    @Scheduled(fixedDelayString = "${booking.hold.sweep-interval:PT15S}")
+    public void releaseExpiredHolds() {
+        try {
+            holdService.releaseExpiredHolds();
+        } catch (Exception e) {
+            log.error("Hold sweep failed", e);
+        }
+    }
+}
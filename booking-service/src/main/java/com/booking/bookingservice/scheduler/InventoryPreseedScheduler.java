@@ -0,0 +1,130 @@
+package com.booking.bookingservice.scheduler;
+
+import com.booking.bookingservice.client.HotelServiceClient;
+import com.booking.bookingservice.dto.response.HotelResponseDto;
+import com.booking.bookingservice.dto.response.RoomCategoryResponseDto;
+import com.booking.bookingservice.repository.inventory.InventoryStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps availability counters seeded for every hotel category over a
+ * rolling horizon, so availability search never has to fall back to
+ * hotel-service for a cold night. Each run extends the horizon by the days
+ * that have passed and drops counters for nights that are now in the past.
+ *
+ * Seeding uses SETNX, so running it on several instances is harmless.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = "availability.preseed.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class InventoryPreseedScheduler {
+
+    private final HotelServiceClient hotelServiceClient;
+    private final InventoryStore inventoryStore;
+
+    @Value("${availability.preseed.horizon-days:365}")
+    private int horizonDays;
+
+    // Counters written per pipeline
+    @Value("${availability.preseed.batch-size:1000}")
+    private int batchSize;
+
+    // How far back past nights are cleaned up, to cover missed runs
+    @Value("${availability.preseed.lookback-days:7}")
+    private int lookbackDays;
+
+    @Scheduled(cron = "${availability.preseed.cron:0 5 0 * * *}", zone = "Asia/Kolkata")
+    public void preseedInventory() {
+
+        LocalDate today = LocalDate.now();
+        LocalDate horizonEnd = today.plusDays(horizonDays);
+
+        List<HotelResponseDto> hotels;
+        try {
+            hotels = hotelServiceClient.getAllHotels();
+        } catch (Exception e) {
+            log.error("Inventory pre-seed skipped: could not load hotels", e);
+            return;
+        }
+
+        long counters = 0;
+
+        for (HotelResponseDto hotel : hotels) {
+
+            List<RoomCategoryResponseDto> categories = hotel.getRoomCategories();
+            if (categories == null || categories.isEmpty()) {
+                continue;
+            }
+
+            try {
+                counters += seedHotel(hotel.getId(), categories, today, horizonEnd);
+
+                inventoryStore.delete(
+                        hotel.getId(),
+                        categories.stream().map(RoomCategoryResponseDto::getId).toList(),
+                        today.minusDays(lookbackDays),
+                        today
+                );
+            } catch (Exception e) {
+                log.error("Inventory pre-seed failed for hotelId={}", hotel.getId(), e);
+            }
+        }
+
+        log.info(
+                "Inventory pre-seed done: hotels={}, counters={}, horizon={}..{}",
+                hotels.size(), counters, today, horizonEnd
+        );
+    }
+
+    private long seedHotel(
+            Long hotelId,
+            List<RoomCategoryResponseDto> categories,
+            LocalDate from,
+            LocalDate to
+    ) {
+        Map<Long, Map<LocalDate, Integer>> batch = new LinkedHashMap<>();
+        int batchCount = 0;
+        long total = 0;
+
+        for (RoomCategoryResponseDto category : categories) {
+
+            LocalDate date = from;
+
+            while (date.isBefore(to)) {
+
+                batch.computeIfAbsent(category.getId(), id -> new LinkedHashMap<>())
+                        .put(date, category.getTotalRooms());
+                total++;
+
+                if (++batchCount == batchSize) {
+                    inventoryStore.seedIfAbsent(hotelId, batch);
+                    batch = new LinkedHashMap<>();
+                    batchCount = 0;
+                }
+
+                date = date.plusDays(1);
+            }
+        }
+
+        if (batchCount > 0) {
+            inventoryStore.seedIfAbsent(hotelId, batch);
+        }
+
+        return total;
+    }
+}
@@ -0,0 +1,32 @@
+package com.booking.bookingservice.scheduler;
+
+import com.booking.bookingservice.service.InventoryReconciliationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = "availability.reconcile.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class InventoryReconciliationScheduler {
+
+    private final InventoryReconciliationService reconciliationService;
+
+    // Drift is repaired on the second run that sees it, so keep runs
+    // far enough apart for in-flight bookings to commit
+    @Scheduled(cron = "${availability.reconcile.cron:0 */30 * * * *}", zone = "Asia/Kolkata")
+    public void reconcileInventory() {
+        try {
+            reconciliationService.reconcile();
+        } catch (Exception e) {
+            log.error("Inventory reconciliation failed", e);
+        }
+    }
+}
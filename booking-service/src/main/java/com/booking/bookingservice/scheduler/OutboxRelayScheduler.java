@@ -0,0 +1,43 @@
+package com.booking.bookingservice.scheduler;
+
+import com.booking.bookingservice.event.OutboxRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelayScheduler {
+
+    private final OutboxRelay outboxRelay;
+
+    @Value("${booking.outbox.batch-size:100}")
+    private int batchSize;
+
+    // Keeps draining while batches come back full, so a backlog after a
+    // broker outage clears without waiting a full interval per batch
+    @Scheduled(fixedDelayString = "${booking.outbox.relay-interval:PT1S}")
+    public void relayOutbox() {
+        try {
+            int sent;
+            do {
+                sent = outboxRelay.relayBatch();
+            } while (sent == batchSize);
+        } catch (Exception e) {
+            log.error("Outbox relay failed", e);
+        }
+    }
+
+    @Scheduled(cron = "${booking.outbox.purge-cron:0 15 3 * * *}", zone = "Asia/Kolkata")
+    public void purgeSentEvents() {
+        try {
+            int deleted = outboxRelay.purgeSent();
+            log.info("Purged {} sent outbox events", deleted);
+        } catch (Exception e) {
+            log.error("Outbox purge failed", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.booking.bookingservice.scheduler;
+
+import com.booking.bookingservice.service.RoomAllocationSagaService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends again room allocation and release requests that got no answer.
+ * Each request is claimed with a conditional update, so every instance
+ * can run the sweep without sending a request twice in one round.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomAllocationSagaScheduler {
+
+    private final RoomAllocationSagaService roomAllocationSagaService;
+
+    @Scheduled(fixedDelayString = "${booking.saga.sweep-interval:PT1M}")
+    public void resendStaleRequests() {
+        try {
+            int resent = roomAllocationSagaService.resendStaleRequests();
+            if (resent > 0) {
+                log.info("Sent {} room allocation requests again", resent);
+            }
+        } catch (Exception e) {
+            log.error("Room allocation sweep failed", e);
+        }
+    }
+}
@@ -29,7 +29,8 @@ public class SecurityConfig {
                 .requestMatchers(
                     "/availability/**",
                     "/actuator/**",
-                    "/hotels/*/availability"
+                    "/hotels/*/availability",
+                    "/hotels/*/availability/calendar"
                 ).permitAll()
                 .anyRequest().authenticated()
             );
@@ -1,8 +1,13 @@
 package com.booking.bookingservice.service;
 
 import java.time.LocalDate;
+import java.util.Optional;
 
+import com.booking.bookingservice.dto.response.AvailabilityCalendarResponse;
 import com.booking.bookingservice.dto.response.HotelAvailabilityResponse;
+import com.booking.bookingservice.dto.response.RoomCategoryResponseDto;
+import java.util.List;
+import java.util.Map;
 
 public interface AvailabilityService {
 
@@ -14,6 +19,38 @@ public interface AvailabilityService {
             int numberOfRooms
     );
 
+    /**
+     * Checks and decrements every night of the stay in one atomic step.
+     *
+     * @return the first night without enough rooms, or empty when the
+     *         rooms were reserved for the whole stay
+     */
+    Optional<LocalDate> tryReserve(
+            Long hotelId,
+            Long categoryId,
+            LocalDate checkIn,
+            LocalDate checkOut,
+            int numberOfRooms
+    );
+
+    /**
+     * Checks and decrements every night of several categories for the same
+     * stay in one atomic step. Nothing is reserved unless every category
+     * has enough rooms on every night.
+     *
+     * @param rooms  categoryId → number of rooms to reserve
+     * @param totals categoryId → total rooms, used to seed missing nights
+     * @throws com.booking.bookingservice.exception.RoomNotAvailableException
+     *         naming the first category and night that is short of rooms
+     */
+    void reserveAll(
+            Long hotelId,
+            LocalDate checkIn,
+            LocalDate checkOut,
+            Map<Long, Integer> rooms,
+            Map<Long, Integer> totals
+    );
+
     void reserve(
             Long hotelId,
             Long categoryId,
@@ -30,10 +67,43 @@ public interface AvailabilityService {
             int numberOfRooms
     );
     
+    /**
+     * Shifts every seeded counter of the category from tonight onwards by
+     * the change in its total rooms. Counters may go negative when rooms
+     * are removed below what is already booked; they read as zero.
+     */
+    void applyTotalRoomsChange(
+            Long hotelId,
+            Long categoryId,
+            int delta,
+            String changeId
+    );
+
+    HotelAvailabilityResponse getHotelAvailability(
+            Long hotelId,
+            LocalDate checkIn,
+            LocalDate checkOut
+    );
+
+    /**
+     * Same as {@link #getHotelAvailability(Long, LocalDate, LocalDate)} for
+     * categories the caller already has, without a hotel-service lookup.
+     */
     HotelAvailabilityResponse getHotelAvailability(
             Long hotelId,
+            List<RoomCategoryResponseDto> categories,
             LocalDate checkIn,
             LocalDate checkOut
     );
 
+    /**
+     * Per-night availability and price of every category of the hotel for
+     * the nights in [from, to), at most 90 of them.
+     */
+    AvailabilityCalendarResponse getAvailabilityCalendar(
+            Long hotelId,
+            LocalDate from,
+            LocalDate to
+    );
+
 }
@@ -0,0 +1,25 @@
+package com.booking.bookingservice.service;
+
+import com.booking.bookingservice.repository.BookingView;
+
+import java.util.function.Supplier;
+
+public interface BookingCacheService {
+
+    /**
+     * Returns the cached booking, or runs {@code loader} and caches its
+     * result. Concurrent misses for the same booking share one load.
+     */
+    BookingView getById(Long bookingId, Supplier<BookingView> loader);
+
+    /**
+     * Same as {@link #getById}, looked up by booking reference.
+     */
+    BookingView getByReference(String bookingReference, Supplier<BookingView> loader);
+
+    /**
+     * Drops the cached booking once the current transaction commits, or
+     * right away outside a transaction. Call after every state change.
+     */
+    void evict(Long bookingId);
+}
@@ -1,8 +1,14 @@
 package com.booking.bookingservice.service;
 
+import com.booking.bookingservice.dto.request.BookingFilter;
 import com.booking.bookingservice.dto.request.CreateBookingRequest;
+import com.booking.bookingservice.dto.request.CreateGroupBookingRequest;
+import com.booking.bookingservice.dto.response.BookingPageResponse;
 import com.booking.bookingservice.dto.response.BookingResponse;
+import com.booking.bookingservice.dto.response.GroupBookingResponse;
 import java.util.List;
+import java.util.function.Consumer;
+
 public interface BookingService {
 
     BookingResponse createBooking(
@@ -11,6 +17,16 @@ public interface BookingService {
             String role
     );
 
+    /**
+     * Books several room categories for the same stay as one unit: every
+     * line gets a reservation under a shared group reference, or none does.
+     */
+    GroupBookingResponse createGroupBooking(
+            CreateGroupBookingRequest request,
+            String userEmail,
+            String role
+    );
+
     BookingResponse getBooking(
             Long bookingId,
             String userEmail,
@@ -43,4 +59,65 @@ public interface BookingService {
     List<BookingResponse> getMyBookings(String userEmail, String role);
     List<BookingResponse> getBookingsByHotel(Long hotelId, String role);
     List<BookingResponse> getBookingsForManager(String managerEmail);
+
+    /**
+     * One keyset page of the matching bookings, latest check-in first.
+     *
+     * @param cursor nextCursor of the previous page, or null for the first
+     * @param size   rows per page, at most 100
+     */
+    BookingPageResponse getMyBookings(
+            String userEmail,
+            String role,
+            BookingFilter filter,
+            String cursor,
+            int size
+    );
+
+    BookingPageResponse getBookingsByHotel(
+            Long hotelId,
+            String role,
+            BookingFilter filter,
+            String cursor,
+            int size
+    );
+
+    BookingPageResponse getBookingsForManager(
+            String managerEmail,
+            BookingFilter filter,
+            String cursor,
+            int size
+    );
+
+    /**
+     * Hands every matching booking to the sink as it is read from the
+     * database cursor, so memory use does not grow with the result.
+     */
+    void streamMyBookings(
+            String userEmail,
+            String role,
+            BookingFilter filter,
+            Consumer<BookingResponse> sink
+    );
+
+    void streamBookingsByHotel(
+            Long hotelId,
+            String role,
+            BookingFilter filter,
+            Consumer<BookingResponse> sink
+    );
+
+    void streamBookingsForManager(
+            String managerEmail,
+            BookingFilter filter,
+            Consumer<BookingResponse> sink
+    );
+
+    /**
+     * Cancels the given bookings that are still BOOKED and unpaid, releasing
+     * their rooms. Bookings that moved on in the meantime are skipped.
+     *
+     * @return the number of bookings cancelled
+     */
+    int expireUnpaidBookings(List<Long> bookingIds);
 }
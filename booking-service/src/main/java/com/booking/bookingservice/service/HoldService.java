@@ -0,0 +1,36 @@
+package com.booking.bookingservice.service;
+
+import com.booking.bookingservice.dto.request.CreateBookingRequest;
+import com.booking.bookingservice.dto.request.CreateHoldRequest;
+import com.booking.bookingservice.dto.response.HoldResponse;
+import com.booking.bookingservice.repository.inventory.InventoryHold;
+
+public interface HoldService {
+
+    HoldResponse createHold(
+            CreateHoldRequest request,
+            String userEmail,
+            String role
+    );
+
+    HoldResponse getHold(String holdId, String userEmail);
+
+    void releaseHold(String holdId, String userEmail);
+
+    /**
+     * Claims a hold for the booking being created. The hold's rooms are
+     * already reserved, so the caller must not reserve them again.
+     */
+    InventoryHold consumeHold(
+            String holdId,
+            CreateBookingRequest request,
+            String userEmail
+    );
+
+    /**
+     * Releases the rooms of every hold past its deadline.
+     *
+     * @return the number of holds released
+     */
+    int releaseExpiredHolds();
+}
@@ -0,0 +1,16 @@
+package com.booking.bookingservice.service;
+
+import java.time.LocalDate;
+
+import com.booking.bookingservice.dto.response.CityAvailabilityResponse;
+
+public interface HotelSearchService {
+
+    CityAvailabilityResponse searchByCity(
+            String city,
+            LocalDate checkIn,
+            LocalDate checkOut,
+            int numberOfRooms,
+            int numberOfGuests
+    );
+}
@@ -0,0 +1,21 @@
+package com.booking.bookingservice.service;
+
+import java.util.function.Supplier;
+
+public interface IdempotencyService {
+
+    /**
+     * Runs {@code action} once per key. A repeat of a completed request
+     * gets the stored response, and a repeat of one still in flight waits
+     * for its result instead of running the action again.
+     *
+     * @param key     caller-scoped idempotency key
+     * @param request request body; reusing a key with a different body fails
+     */
+    <T> T execute(
+            String key,
+            Object request,
+            Class<T> responseType,
+            Supplier<T> action
+    );
+}
@@ -0,0 +1,12 @@
+package com.booking.bookingservice.service;
+
+public interface InventoryReconciliationService {
+
+    /**
+     * Compares the Redis counters of every hotel with the availability
+     * implied by active reservations and repairs confirmed drift.
+     *
+     * @return the number of drifted nights found in this run
+     */
+    long reconcile();
+}
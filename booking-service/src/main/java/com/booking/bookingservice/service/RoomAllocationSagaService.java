@@ -0,0 +1,30 @@
+package com.booking.bookingservice.service;
+
+/**
+ * Booking side of the room allocation saga. Check-in asks hotel-service
+ * for rooms and check-out hands them back, both through the outbox; these
+ * methods apply hotel-service's answers. Each one is safe to call again
+ * for a redelivered answer.
+ */
+public interface RoomAllocationSagaService {
+
+    void onRoomsAllocated(Long bookingId);
+
+    /**
+     * Compensates a check-in the hotel could not give rooms to: the
+     * booking goes back to CONFIRMED and its stay record is removed.
+     */
+    void onAllocationFailed(Long bookingId, String reason);
+
+    void onRoomsReleased(Long bookingId);
+
+    /**
+     * Sends again the allocation and release requests that have waited
+     * longer than {@code booking.saga.resend-after} for an answer, so a
+     * lost command or reply cannot leave a booking pending forever.
+     * hotel-service answers a repeated request without repeating its work.
+     *
+     * @return the number of requests sent again
+     */
+    int resendStaleRequests();
+}
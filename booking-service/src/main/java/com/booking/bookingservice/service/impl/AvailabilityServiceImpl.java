@@ -1,34 +1,42 @@
 package com.booking.bookingservice.service.impl;
 
-import com.booking.bookingservice.client.HotelServiceClient;
+import com.booking.bookingservice.client.ResilientHotelServiceClient;
+import com.booking.bookingservice.dto.response.AvailabilityCalendarResponse;
+import com.booking.bookingservice.dto.response.CalendarDayResponse;
 import com.booking.bookingservice.dto.response.CategoryAvailabilityResponse;
+import com.booking.bookingservice.dto.response.CategoryCalendarResponse;
 import com.booking.bookingservice.dto.response.HotelAvailabilityResponse;
 import com.booking.bookingservice.dto.response.RoomCategoryResponseDto;
+import com.booking.bookingservice.exception.RoomNotAvailableException;
+import com.booking.bookingservice.repository.inventory.AvailabilityIndex;
+import com.booking.bookingservice.repository.inventory.InventoryStore;
 import com.booking.bookingservice.service.AvailabilityService;
 import java.util.*;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AvailabilityServiceImpl implements AvailabilityService {
 
-    private final StringRedisTemplate redisTemplate;
-    private final HotelServiceClient hotelServiceClient;
+    private static final int MAX_CALENDAR_DAYS = 90;
 
-    private String key(Long hotelId, Long categoryId, LocalDate date) {
-        return String.format(
-                "availability:%d:%d:%s",
-                hotelId,
-                categoryId,
-                date
-        );
-    }
+    private final InventoryStore inventoryStore;
+    private final AvailabilityIndex availabilityIndex;
+    private final ResilientHotelServiceClient hotelServiceClient;
+
+    // How far ahead a total rooms change is applied; must cover the
+    // pre-seed horizon and the furthest night that can be booked
+    @Value("${availability.adjust.horizon-days:730}")
+    private int adjustHorizonDays;
 
     @Override
     public boolean isAvailable(
@@ -39,22 +47,64 @@ public class AvailabilityServiceImpl implements AvailabilityService {
             int numberOfRooms
     ) {
 
-        LocalDate date = checkIn;
+        int[] counters = readCounters(
+                hotelId,
+                List.of(categoryId),
+                checkIn,
+                checkOut,
+                id -> hotelServiceClient.getCategoryById(id).getTotalRooms()
+        ).get(categoryId);
 
-        while (date.isBefore(checkOut)) {
+        for (int available : counters) {
+            if (available < numberOfRooms) {
+                return false;
+            }
+        }
 
-            Integer available = initializeIfMissing(
-                    hotelId, categoryId, date
+        return true;
+    }
+
+    @Override
+    public Optional<LocalDate> tryReserve(
+            Long hotelId,
+            Long categoryId,
+            LocalDate checkIn,
+            LocalDate checkOut,
+            int numberOfRooms
+    ) {
+
+        // First attempt without a seed value: the common case is that every
+        // night is already in Redis, so hotel-service is not called at all.
+        availabilityIndex.beginChange(hotelId, categoryId);
+        long result;
+        try {
+            result = inventoryStore.reserve(
+                    hotelId, categoryId, checkIn, checkOut, numberOfRooms, null
             );
 
-            if (available < numberOfRooms) {
-                return false;
+            if (result < 0) {
+                int totalRooms =
+                        hotelServiceClient
+                                .getCategoryById(categoryId)
+                                .getTotalRooms();
+
+                result = inventoryStore.reserve(
+                        hotelId, categoryId, checkIn, checkOut, numberOfRooms, totalRooms
+                );
             }
+        } catch (RuntimeException e) {
+            availabilityIndex.abandonChange(hotelId, categoryId);
+            throw e;
+        }
 
-            date = date.plusDays(1);
+        if (result > 0) {
+            availabilityIndex.abandonChange(hotelId, categoryId);
+            return Optional.of(checkIn.plusDays(result - 1));
         }
 
-        return true;
+        availabilityIndex.add(hotelId, categoryId, checkIn, checkOut, -numberOfRooms);
+
+        return Optional.empty();
     }
 
     @Override
@@ -66,20 +116,58 @@ public class AvailabilityServiceImpl implements AvailabilityService {
             int numberOfRooms
     ) {
 
-        LocalDate date = checkIn;
+        tryReserve(hotelId, categoryId, checkIn, checkOut, numberOfRooms)
+                .ifPresent(night -> {
+                    throw new RoomNotAvailableException(
+                            "Room not available on " + night
+                    );
+                });
+    }
+
+    @Override
+    public void reserveAll(
+            Long hotelId,
+            LocalDate checkIn,
+            LocalDate checkOut,
+            Map<Long, Integer> rooms,
+            Map<Long, Integer> totals
+    ) {
 
-        while (date.isBefore(checkOut)) {
+        rooms.keySet().forEach(categoryId ->
+                availabilityIndex.beginChange(hotelId, categoryId)
+        );
 
-            initializeIfMissing(hotelId, categoryId, date);
+        long result;
+        try {
+            result = inventoryStore.reserveAll(
+                    hotelId, checkIn, checkOut, rooms, totals
+            );
+        } catch (RuntimeException e) {
+            rooms.keySet().forEach(categoryId ->
+                    availabilityIndex.abandonChange(hotelId, categoryId)
+            );
+            throw e;
+        }
 
-            redisTemplate.opsForValue()
-            .decrement(
-                key(hotelId, categoryId, date),
-                numberOfRooms
+        if (result > 0) {
+            rooms.keySet().forEach(categoryId ->
+                    availabilityIndex.abandonChange(hotelId, categoryId)
             );
 
-            date = date.plusDays(1);
+            // Counters are laid out category by category, night by night
+            long nights = ChronoUnit.DAYS.between(checkIn, checkOut);
+            Long categoryId = new ArrayList<>(rooms.keySet())
+                    .get((int) ((result - 1) / nights));
+
+            throw new RoomNotAvailableException(
+                    "Room category " + categoryId + " not available on "
+                            + checkIn.plusDays((result - 1) % nights)
+            );
         }
+
+        rooms.forEach((categoryId, count) ->
+                availabilityIndex.add(hotelId, categoryId, checkIn, checkOut, -count)
+        );
     }
 
     @Override
@@ -91,41 +179,107 @@ public class AvailabilityServiceImpl implements AvailabilityService {
             int numberOfRooms
     ) {
 
-        LocalDate date = checkIn;
+        availabilityIndex.beginChange(hotelId, categoryId);
+        try {
+            inventoryStore.release(
+                    hotelId, categoryId, checkIn, checkOut, numberOfRooms
+            );
+        } catch (RuntimeException e) {
+            availabilityIndex.abandonChange(hotelId, categoryId);
+            throw e;
+        }
 
-        while (date.isBefore(checkOut)) {
+        availabilityIndex.add(hotelId, categoryId, checkIn, checkOut, numberOfRooms);
+    }
+
+    @Override
+    public void applyTotalRoomsChange(
+            Long hotelId,
+            Long categoryId,
+            int delta,
+            String changeId
+    ) {
 
-            initializeIfMissing(hotelId, categoryId, date);
+        if (delta == 0) {
+            return;
+        }
 
-            redisTemplate.opsForValue()
-                    .increment(key(hotelId, categoryId, date), numberOfRooms);
+        LocalDate today = LocalDate.now();
+
+        availabilityIndex.beginChange(hotelId, categoryId);
+        long shifted;
+        try {
+            shifted = inventoryStore.adjust(
+                    hotelId,
+                    categoryId,
+                    today,
+                    today.plusDays(adjustHorizonDays),
+                    delta,
+                    changeId
+            );
+        } finally {
+            availabilityIndex.invalidate(hotelId, categoryId);
+            availabilityIndex.abandonChange(hotelId, categoryId);
+        }
 
-            date = date.plusDays(1);
+        if (shifted < 0) {
+            log.info("Inventory change {} already applied, skipping", changeId);
+            return;
         }
+
+        log.info(
+                "Applied inventory change: hotelId={}, categoryId={}, delta={}, counters={}",
+                hotelId, categoryId, delta, shifted
+        );
     }
 
-    private Integer initializeIfMissing(
+    /**
+     * Reads every (category, night) counter of the range in one round trip.
+     * Counters that are not in Redis yet are seeded with the category total
+     * in one pipelined batch.
+     */
+    private Map<Long, int[]> readCounters(
             Long hotelId,
-            Long categoryId,
-            LocalDate date
+            List<Long> categoryIds,
+            LocalDate checkIn,
+            LocalDate checkOut,
+            Function<Long, Integer> totalRooms
     ) {
-        String redisKey = key(hotelId, categoryId, date);
-
-        String value = redisTemplate.opsForValue().get(redisKey);
-
-        if (value == null) {
-            int totalRooms =
-                    hotelServiceClient
-                            .getCategoryById(categoryId)
-                            .getTotalRooms();
+        Map<Long, Integer[]> stored =
+                inventoryStore.read(hotelId, categoryIds, checkIn, checkOut);
+
+        Map<Long, int[]> counters = new LinkedHashMap<>();
+        Map<Long, Map<LocalDate, Integer>> missing = new LinkedHashMap<>();
+
+        for (Long categoryId : categoryIds) {
+
+            Integer[] values = stored.get(categoryId);
+            int[] available = new int[values.length];
+            Integer total = null;
+
+            for (int n = 0; n < values.length; n++) {
+
+                if (values[n] == null) {
+                    if (total == null) {
+                        total = totalRooms.apply(categoryId);
+                    }
+                    missing.computeIfAbsent(categoryId, id -> new LinkedHashMap<>())
+                            .put(checkIn.plusDays(n), total);
+                    available[n] = total;
+                } else {
+                    // Negative after rooms were removed below bookings
+                    available[n] = Math.max(0, values[n]);
+                }
+            }
 
-            redisTemplate.opsForValue()
-                    .set(redisKey, String.valueOf(totalRooms));
+            counters.put(categoryId, available);
+        }
 
-            return totalRooms;
+        if (!missing.isEmpty()) {
+            inventoryStore.seedIfAbsent(hotelId, missing);
         }
 
-        return Integer.parseInt(value);
+        return counters;
     }
     
     @Override
@@ -135,27 +289,62 @@ public class AvailabilityServiceImpl implements AvailabilityService {
             LocalDate checkOut
     ) {
 
-        List<RoomCategoryResponseDto> categories =
-                hotelServiceClient.getCategoriesByHotel(hotelId);
+        return getHotelAvailability(
+                hotelId,
+                hotelServiceClient.getCategoriesByHotel(hotelId),
+                checkIn,
+                checkOut
+        );
+    }
 
-        List<CategoryAvailabilityResponse> availability = new ArrayList<>();
+    @Override
+    public HotelAvailabilityResponse getHotelAvailability(
+            Long hotelId,
+            List<RoomCategoryResponseDto> categories,
+            LocalDate checkIn,
+            LocalDate checkOut
+    ) {
+
+        Map<Long, Integer> minimums = new HashMap<>();
+        Map<Long, Integer> unindexed = new LinkedHashMap<>();
 
         for (RoomCategoryResponseDto category : categories) {
+            availabilityIndex
+                    .minAvailable(hotelId, category.getId(), checkIn, checkOut)
+                    .ifPresentOrElse(
+                            min -> minimums.put(category.getId(), min),
+                            () -> unindexed.put(category.getId(), category.getTotalRooms())
+                    );
+        }
 
-            int minAvailable = Integer.MAX_VALUE;
-            LocalDate date = checkIn;
+        if (!unindexed.isEmpty()) {
 
-            while (date.isBefore(checkOut)) {
+            Map<Long, int[]> counters = readCounters(
+                    hotelId,
+                    new ArrayList<>(unindexed.keySet()),
+                    checkIn,
+                    checkOut,
+                    unindexed::get
+            );
 
-                Integer available = initializeIfMissing(
-                        hotelId,
-                        category.getId(),
-                        date
-                );
+            counters.forEach((categoryId, nights) -> {
+                int minAvailable = Integer.MAX_VALUE;
+                for (int available : nights) {
+                    minAvailable = Math.min(minAvailable, available);
+                }
+                minimums.put(categoryId, minAvailable);
+            });
+
+            // Later searches for these categories are answered in memory;
+            // the full horizon is read off this thread
+            availabilityIndex.loadInBackground(hotelId, unindexed);
+        }
 
-                minAvailable = Math.min(minAvailable, available);
-                date = date.plusDays(1);
-            }
+        List<CategoryAvailabilityResponse> availability = new ArrayList<>();
+
+        for (RoomCategoryResponseDto category : categories) {
+
+            int minAvailable = minimums.get(category.getId());
 
             availability.add(
                     new CategoryAvailabilityResponse(
@@ -175,4 +364,61 @@ public class AvailabilityServiceImpl implements AvailabilityService {
         );
     }
 
-}
\ No newline at end of file
+    @Override
+    public AvailabilityCalendarResponse getAvailabilityCalendar(
+            Long hotelId,
+            LocalDate from,
+            LocalDate to
+    ) {
+
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Invalid date range");
+        }
+
+        if (ChronoUnit.DAYS.between(from, to) > MAX_CALENDAR_DAYS) {
+            throw new IllegalArgumentException(
+                    "Calendar range cannot exceed " + MAX_CALENDAR_DAYS + " days"
+            );
+        }
+
+        List<RoomCategoryResponseDto> categories =
+                hotelServiceClient.getCategoriesByHotel(hotelId);
+
+        Map<Long, Integer> totals = new HashMap<>();
+        categories.forEach(c -> totals.put(c.getId(), c.getTotalRooms()));
+
+        // Whole calendar comes from one read across all categories and nights
+        Map<Long, int[]> counters = readCounters(
+                hotelId,
+                categories.stream().map(RoomCategoryResponseDto::getId).toList(),
+                from,
+                to,
+                totals::get
+        );
+
+        List<CategoryCalendarResponse> calendar = new ArrayList<>();
+
+        for (RoomCategoryResponseDto category : categories) {
+
+            int[] available = counters.get(category.getId());
+            List<CalendarDayResponse> days = new ArrayList<>(available.length);
+
+            for (int n = 0; n < available.length; n++) {
+                days.add(new CalendarDayResponse(
+                        from.plusDays(n),
+                        available[n],
+                        category.getBasePrice()
+                ));
+            }
+
+            calendar.add(new CategoryCalendarResponse(
+                    category.getId(),
+                    category.getCategory(),
+                    days
+            ));
+        }
+
+        return new AvailabilityCalendarResponse(hotelId, from, to, calendar);
+    }
+
+}
@@ -0,0 +1,208 @@
+package com.booking.bookingservice.service.impl;
+
+import com.booking.bookingservice.repository.BookingView;
+import com.booking.bookingservice.service.BookingCacheService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Read-through Redis cache of single bookings.
+ *
+ * {@code booking:id:{id}} holds the booking as JSON and
+ * {@code booking:ref:{reference}} the id it belongs to; a reference never
+ * changes owner, so that mapping is kept much longer.
+ *
+ * Eviction overwrites the entry with a short-lived tombstone instead of
+ * deleting it. Loads only populate with SET NX, so a load that read the
+ * row before the change committed cannot put the old state back while
+ * the tombstone lives. Misses for the same key on one instance share a
+ * single database load. Redis errors fall back to the loader.
+ */
+@Slf4j
+@Service
+public class BookingCacheServiceImpl implements BookingCacheService {
+
+    private static final String ID_PREFIX = "booking:id:";
+    private static final String REF_PREFIX = "booking:ref:";
+    private static final String TOMBSTONE = "-";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration referenceTtl;
+    private final Duration evictionHold;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+
+    private final ConcurrentMap<String, CompletableFuture<BookingView>> inFlight =
+            new ConcurrentHashMap<>();
+
+    public BookingCacheServiceImpl(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${booking.cache.bookings.ttl:PT5M}") Duration ttl,
+            @Value("${booking.cache.bookings.reference-ttl:PT24H}") Duration referenceTtl,
+            // Must outlast the slowest read that can race a state change
+            @Value("${booking.cache.bookings.eviction-hold:PT5S}") Duration evictionHold
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.referenceTtl = referenceTtl;
+        this.evictionHold = evictionHold;
+
+        this.hits = Counter.builder("booking.cache.bookings.hits")
+                .description("Booking lookups answered from Redis")
+                .register(meterRegistry);
+        this.misses = Counter.builder("booking.cache.bookings.misses")
+                .description("Booking lookups that went to the database")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("booking.cache.bookings.coalesced")
+                .description("Misses that waited for a load already in flight")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public BookingView getById(Long bookingId, Supplier<BookingView> loader) {
+
+        String key = ID_PREFIX + bookingId;
+
+        BookingView cached = read(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        return coalesce(key, () -> populate(loader.get()));
+    }
+
+    @Override
+    public BookingView getByReference(String bookingReference, Supplier<BookingView> loader) {
+
+        String key = REF_PREFIX + bookingReference;
+
+        String id = get(key);
+        if (id != null) {
+            return getById(Long.valueOf(id), loader);
+        }
+
+        misses.increment();
+        return coalesce(key, () -> {
+            BookingView view = populate(loader.get());
+            set(key, String.valueOf(view.getId()), referenceTtl);
+            return view;
+        });
+    }
+
+    @Override
+    public void evict(Long bookingId) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            set(ID_PREFIX + bookingId, TOMBSTONE, evictionHold);
+            return;
+        }
+
+        // Before the commit, a load would still read the old row
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        set(ID_PREFIX + bookingId, TOMBSTONE, evictionHold);
+                    }
+                }
+        );
+    }
+
+    private BookingView coalesce(String key, Supplier<BookingView> load) {
+
+        CompletableFuture<BookingView> mine = new CompletableFuture<>();
+        CompletableFuture<BookingView> running = inFlight.putIfAbsent(key, mine);
+
+        if (running != null) {
+            coalesced.increment();
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            BookingView view = load.get();
+            mine.complete(view);
+            return view;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private BookingView populate(BookingView view) {
+        try {
+            redisTemplate.opsForValue().setIfAbsent(
+                    ID_PREFIX + view.getId(),
+                    objectMapper.writeValueAsString(view),
+                    ttl
+            );
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Could not cache bookingId={}", view.getId(), e);
+        }
+        return view;
+    }
+
+    private BookingView read(String key) {
+
+        String raw = get(key);
+        if (raw == null || TOMBSTONE.equals(raw)) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(raw, BookingView.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring unreadable cache entry {}", key, e);
+            return null;
+        }
+    }
+
+    private String get(String key) {
+        try {
+            return redisTemplate.opsForValue().get(key);
+        } catch (RuntimeException e) {
+            log.warn("Booking cache read failed for {}", key, e);
+            return null;
+        }
+    }
+
+    private void set(String key, String value, Duration expiry) {
+        try {
+            redisTemplate.opsForValue().set(key, value, expiry);
+        } catch (RuntimeException e) {
+            log.warn("Booking cache write failed for {}", key, e);
+        }
+    }
+}
@@ -3,32 +3,61 @@ package com.booking.bookingservice.service.impl;
 import com.booking.bookingservice.client.ResilientHotelServiceClient;
 import com.booking.bookingservice.event.BookingEventDTO;
 import com.booking.bookingservice.dto.request.AllocateRoomRequest;
+import com.booking.bookingservice.dto.request.BookingFilter;
 import com.booking.bookingservice.dto.request.CreateBookingRequest;
+import com.booking.bookingservice.dto.request.CreateGroupBookingRequest;
+import com.booking.bookingservice.dto.request.GroupBookingItemRequest;
 import com.booking.bookingservice.dto.request.ReleaseRoomRequest;
+import com.booking.bookingservice.dto.response.BookingPageResponse;
 import com.booking.bookingservice.dto.response.BookingResponse;
+import com.booking.bookingservice.dto.response.GroupBookingResponse;
 import com.booking.bookingservice.dto.response.HotelResponseDto;
 import com.booking.bookingservice.dto.response.RoomCategoryResponseDto;
 import com.booking.bookingservice.event.BookingEventPublisher;
+import com.booking.bookingservice.event.PaymentDeadlinePublisher;
 import com.booking.bookingservice.exception.*;
 import com.booking.bookingservice.model.PaymentStatus;
 import com.booking.bookingservice.model.Reservation;
 import com.booking.bookingservice.model.ReservationStatus;
 import com.booking.bookingservice.model.StayRecord;
+import com.booking.bookingservice.repository.BookingView;
+import com.booking.bookingservice.repository.ReservationBatchRepository;
 import com.booking.bookingservice.repository.ReservationRepository;
 import com.booking.bookingservice.repository.StayRecordRepository;
 import com.booking.bookingservice.service.AvailabilityService;
+import com.booking.bookingservice.service.BookingCacheService;
 import com.booking.bookingservice.service.BookingService;
+import com.booking.bookingservice.service.HoldService;
+import com.booking.bookingservice.util.BookingCursor;
 import com.booking.bookingservice.util.BookingReferenceGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.stream.Collectors;
+
+import static com.booking.bookingservice.config.BookingRabbitMQConfig.ALLOCATION_REQUESTED_ROUTING_KEY;
+import static com.booking.bookingservice.config.BookingRabbitMQConfig.RELEASE_REQUESTED_ROUTING_KEY;
 
 @Slf4j
 @Service
@@ -37,10 +66,15 @@ import java.time.temporal.ChronoUnit;
 public class BookingServiceImpl implements BookingService {
 
     private final ReservationRepository reservationRepository;
+    private final ReservationBatchRepository reservationBatchRepository;
     private final ResilientHotelServiceClient hotelServiceClient;
     private final AvailabilityService availabilityService;
     private final StayRecordRepository stayRecordRepository;
     private final BookingEventPublisher bookingEventPublisher;
+    private final HoldService holdService;
+    private final PaymentDeadlinePublisher paymentDeadlinePublisher;
+    private final BookingReferenceGenerator bookingReferenceGenerator;
+    private final BookingCacheService bookingCache;
     
     
     private static final String ROLE_GUEST = "GUEST";
@@ -48,6 +82,13 @@ public class BookingServiceImpl implements BookingService {
     private static final String ROLE_MANAGER = "MANAGER";
     private static final String ROLE_RECEPTIONIST = "RECEPTIONIST";
 
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final Set<ReservationStatus> CANCELLABLE = EnumSet.of(
+            ReservationStatus.BOOKED,
+            ReservationStatus.CONFIRMED
+    );
+
     @Override
     public BookingResponse createBooking(
             CreateBookingRequest request,
@@ -68,40 +109,36 @@ public class BookingServiceImpl implements BookingService {
                         request.getRoomCategoryId()
                 );
         
-        int maxAllowedGuests =
-                category.getCapacity() * request.getNumberOfRooms();
+        validateGuestCount(
+                category,
+                request.getNumberOfRooms(),
+                request.getNumberOfGuests()
+        );
+        
+        if (request.getHoldId() != null) {
 
-        if (request.getNumberOfGuests() > maxAllowedGuests) {
-            throw new InvalidGuestCountException(
-                    String.format(
-                            "Maximum allowed guests for %d %s room(s) is %d",
-                            request.getNumberOfRooms(),
-                            category.getCategory(),
-                            maxAllowedGuests
-                    )
+            // The hold already took the rooms out of the counters
+            holdService.consumeHold(request.getHoldId(), request, userEmail);
+
+        } else {
+
+            // Check and decrement all nights in one atomic Redis call so a
+            // concurrent booking cannot slip in between the two steps
+            Optional<LocalDate> unavailableNight = availabilityService.tryReserve(
+                    request.getHotelId(),
+                    request.getRoomCategoryId(),
+                    request.getCheckInDate(),
+                    request.getCheckOutDate(),
+                    request.getNumberOfRooms()
             );
-        }
-        
-        boolean available = availabilityService.isAvailable(
-                request.getHotelId(),
-                request.getRoomCategoryId(),
-                request.getCheckInDate(),
-                request.getCheckOutDate(),
-                request.getNumberOfRooms()
-        );
 
-        if (!available) {
-            throw new RoomNotAvailableException("Room not available");
+            if (unavailableNight.isPresent()) {
+                throw new RoomNotAvailableException(
+                        "Room not available on " + unavailableNight.get()
+                );
+            }
         }
 
-        availabilityService.reserve(
-                request.getHotelId(),
-                request.getRoomCategoryId(),
-                request.getCheckInDate(),
-                request.getCheckOutDate(),
-                request.getNumberOfRooms()
-        );
-
         try {
 
             long nights = ChronoUnit.DAYS.between(
@@ -115,7 +152,7 @@ public class BookingServiceImpl implements BookingService {
                             .multiply(BigDecimal.valueOf(request.getNumberOfRooms()));
 
             Reservation reservation = Reservation.builder()
-                    .bookingReference(BookingReferenceGenerator.generate())
+                    .bookingReference(bookingReferenceGenerator.generate())
                     .userEmail(userEmail)
                     .guestName(request.getGuestName())
                     .numberOfGuests(request.getNumberOfGuests())
@@ -134,16 +171,13 @@ public class BookingServiceImpl implements BookingService {
 
             Reservation saved = reservationRepository.save(reservation);
 
+            paymentDeadlinePublisher.schedule(saved.getId());
 
-            try {
-                bookingEventPublisher.publish(
-                        "booking.created",
-                        buildEvent("BOOKING_CREATED", saved, category)
-                );
-            } catch (Exception e) {
-                log.error("Failed to publish BOOKING_CREATED event for bookingId={}",
-                        saved.getId(), e);
-            }
+
+            bookingEventPublisher.publish(
+                    "booking.created",
+                    buildEvent("BOOKING_CREATED", saved, category)
+            );
 
             return mapToResponse(saved);
 
@@ -162,23 +196,184 @@ public class BookingServiceImpl implements BookingService {
 
 
     @Override
+    public GroupBookingResponse createGroupBooking(
+            CreateGroupBookingRequest request,
+            String userEmail,
+            String role
+    ) {
+
+        if (!ROLE_GUEST.equals(role)) {
+            throw new UnauthorizedException("Only GUEST can create bookings");
+        }
+
+        if (!request.getCheckInDate().isBefore(request.getCheckOutDate())) {
+            throw new IllegalArgumentException("Invalid date range");
+        }
+
+        // One lookup covers every line instead of one call per category
+        Map<Long, RoomCategoryResponseDto> categories = new HashMap<>();
+        hotelServiceClient.getCategoriesByHotel(request.getHotelId())
+                .forEach(c -> categories.put(c.getId(), c));
+
+        Map<Long, Integer> rooms = new LinkedHashMap<>();
+        Map<Long, Integer> totals = new HashMap<>();
+
+        for (GroupBookingItemRequest item : request.getItems()) {
+
+            RoomCategoryResponseDto category =
+                    categories.get(item.getRoomCategoryId());
+
+            if (category == null) {
+                throw new IllegalArgumentException(
+                        "Room category " + item.getRoomCategoryId()
+                                + " does not belong to hotel " + request.getHotelId()
+                );
+            }
+
+            if (rooms.putIfAbsent(category.getId(), item.getNumberOfRooms()) != null) {
+                throw new IllegalArgumentException(
+                        "Room category " + category.getId() + " is listed more than once"
+                );
+            }
+
+            validateGuestCount(
+                    category,
+                    item.getNumberOfRooms(),
+                    item.getNumberOfGuests()
+            );
+
+            totals.put(category.getId(), category.getTotalRooms());
+        }
+
+        // Every line is checked and decremented in one atomic Redis call:
+        // either all categories are reserved or none is
+        availabilityService.reserveAll(
+                request.getHotelId(),
+                request.getCheckInDate(),
+                request.getCheckOutDate(),
+                rooms,
+                totals
+        );
+
+        try {
+
+            long nights = ChronoUnit.DAYS.between(
+                    request.getCheckInDate(),
+                    request.getCheckOutDate()
+            );
+
+            String groupReference = bookingReferenceGenerator.generateGroup();
+            List<Reservation> reservations = new ArrayList<>();
+
+            for (GroupBookingItemRequest item : request.getItems()) {
+
+                RoomCategoryResponseDto category =
+                        categories.get(item.getRoomCategoryId());
+
+                reservations.add(Reservation.builder()
+                        .bookingReference(bookingReferenceGenerator.generate())
+                        .groupReference(groupReference)
+                        .userEmail(userEmail)
+                        .guestName(request.getGuestName())
+                        .numberOfGuests(item.getNumberOfGuests())
+                        .numberOfRooms(item.getNumberOfRooms())
+                        .hotelId(request.getHotelId())
+                        .roomCategoryId(category.getId())
+                        .checkInDate(request.getCheckInDate())
+                        .checkOutDate(request.getCheckOutDate())
+                        .pricePerNight(category.getBasePrice())
+                        .totalAmount(category.getBasePrice()
+                                .multiply(BigDecimal.valueOf(nights))
+                                .multiply(BigDecimal.valueOf(item.getNumberOfRooms())))
+                        .status(ReservationStatus.BOOKED)
+                        .paymentStatus(PaymentStatus.PENDING)
+                        .checkInReminderSent(false)
+                        .checkOutReminderSent(false)
+                        .build());
+            }
+
+            List<Reservation> saved =
+                    reservationBatchRepository.insertAll(reservations);
+
+            saved.forEach(r -> paymentDeadlinePublisher.schedule(r.getId()));
+
+            int totalRooms = saved.stream()
+                    .mapToInt(Reservation::getNumberOfRooms)
+                    .sum();
+
+            bookingEventPublisher.publish(
+                    "booking.group.created",
+                    buildGroupEvent(groupReference, saved, categories, totalRooms)
+            );
+
+            return GroupBookingResponse.builder()
+                    .groupReference(groupReference)
+                    .bookings(saved.stream().map(this::mapToResponse).toList())
+                    .totalRooms(totalRooms)
+                    .totalAmount(saved.stream()
+                            .map(Reservation::getTotalAmount)
+                            .reduce(BigDecimal.ZERO, BigDecimal::add))
+                    .build();
+
+        } catch (Exception ex) {
+
+            rooms.forEach((categoryId, count) ->
+                    availabilityService.release(
+                            request.getHotelId(),
+                            categoryId,
+                            request.getCheckInDate(),
+                            request.getCheckOutDate(),
+                            count
+                    )
+            );
+            throw ex;
+        }
+    }
+
+    private void validateGuestCount(
+            RoomCategoryResponseDto category,
+            int numberOfRooms,
+            int numberOfGuests
+    ) {
+
+        int maxAllowedGuests = category.getCapacity() * numberOfRooms;
+
+        if (numberOfGuests > maxAllowedGuests) {
+            throw new InvalidGuestCountException(
+                    String.format(
+                            "Maximum allowed guests for %d %s room(s) is %d",
+                            numberOfRooms,
+                            category.getCategory(),
+                            maxAllowedGuests
+                    )
+            );
+        }
+    }
+
+    // A cache hit needs no connection. Misses load outside a read-only
+    // transaction, so from the primary: clients read a booking right after
+    // writing it, before a replica may have caught up
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public BookingResponse getBooking(
             Long bookingId,
             String userEmail,
             String role
     ) {
 
-        Reservation reservation = reservationRepository.findById(bookingId)
-                .orElseThrow(() ->
-                        new ReservationNotFoundException("Booking not found")
-                );
+        BookingView booking = bookingCache.getById(bookingId, () ->
+                reservationRepository.findViewById(bookingId)
+                        .orElseThrow(() ->
+                                new ReservationNotFoundException("Booking not found")
+                        )
+        );
 
         if (ROLE_GUEST.equals(role)
-                && !reservation.getUserEmail().equals(userEmail)) {
+                && !booking.getUserEmail().equals(userEmail)) {
             throw new UnauthorizedException("Access denied");
         }
 
-        return mapToResponse(reservation);
+        return mapToResponse(booking);
     }
 
 
@@ -189,25 +384,30 @@ public class BookingServiceImpl implements BookingService {
             String role
     ) {
 
-        Reservation reservation = reservationRepository.findById(bookingId)
-                .orElseThrow(() ->
-                        new ReservationNotFoundException("Booking not found")
-                );
+        String owner = ROLE_GUEST.equals(role) ? userEmail : null;
+
+        int updated = owner != null
+                ? reservationRepository.transitionOwned(
+                        bookingId, owner, CANCELLABLE, ReservationStatus.CANCELLED)
+                : reservationRepository.transition(
+                        bookingId, CANCELLABLE, ReservationStatus.CANCELLED);
 
-        if (reservation.getStatus() == ReservationStatus.CHECKED_IN) {
+        if (updated == 0) {
+            Reservation current = loadAfterFailedTransition(bookingId, owner);
             throw new InvalidReservationStateException(
-                    "Cannot cancel after check-in"
+                    current.getStatus() == ReservationStatus.CHECKED_IN
+                            ? "Cannot cancel after check-in"
+                            : "Booking is already " + current.getStatus()
             );
         }
 
-        if (ROLE_GUEST.equals(role)
-                && !reservation.getUserEmail().equals(userEmail)) {
-            throw new UnauthorizedException("Access denied");
-        }
+        bookingCache.evict(bookingId);
 
-        reservation.setStatus(ReservationStatus.CANCELLED);
+        // Only the call whose UPDATE matched gets here, so concurrent
+        // cancels can no longer release the rooms twice
+        Reservation reservation = findReservation(bookingId);
 
-        availabilityService.release(
+        releaseAfterCommit(
                 reservation.getHotelId(),
                 reservation.getRoomCategoryId(),
                 reservation.getCheckInDate(),
@@ -215,18 +415,10 @@ public class BookingServiceImpl implements BookingService {
                 reservation.getNumberOfRooms()
         );
         
-        try {
-            bookingEventPublisher.publish(
-                    "booking.cancelled",
-                    buildEvent("BOOKING_CANCELLED", reservation, null)
-            );
-        } catch (Exception e) {
-            log.error(
-                    "Failed to publish BOOKING_CANCELLED event for bookingId={}",
-                    reservation.getId(),
-                    e
-            );
-        }
+        bookingEventPublisher.publish(
+                "booking.cancelled",
+                buildEvent("BOOKING_CANCELLED", reservation, null)
+        );
         
     }
 
@@ -240,23 +432,28 @@ public class BookingServiceImpl implements BookingService {
             throw new UnauthorizedException("Access denied");
         }
 
-        Reservation reservation = reservationRepository.findById(bookingId)
-                .orElseThrow(() ->
-                        new ReservationNotFoundException("Booking not found")
-                );
+        int updated = reservationRepository.transition(
+                bookingId,
+                EnumSet.of(ReservationStatus.BOOKED),
+                ReservationStatus.CONFIRMED
+        );
 
-        reservation.setStatus(ReservationStatus.CONFIRMED);
-        
-        try {
-            bookingEventPublisher.publish(
-                    "booking.confirmed",
-                    buildEvent("BOOKING_CONFIRMED", reservation, null)
+        if (updated == 0) {
+            loadAfterFailedTransition(bookingId, null);
+            throw new InvalidReservationStateException(
+                    "Only BOOKED bookings can be confirmed"
             );
-        } catch (Exception e) {
-            log.error("Failed to publish BOOKING_CONFIRMED event for bookingId={}",
-                    reservation.getId(), e);
         }
 
+        bookingCache.evict(bookingId);
+
+        Reservation reservation = findReservation(bookingId);
+        
+        bookingEventPublisher.publish(
+                "booking.confirmed",
+                buildEvent("BOOKING_CONFIRMED", reservation, null)
+        );
+
 
         return mapToResponse(reservation);
     }
@@ -270,20 +467,16 @@ public class BookingServiceImpl implements BookingService {
             throw new UnauthorizedException("Access denied");
         }
 
-        Reservation reservation = reservationRepository.findById(bookingId)
-                .orElseThrow(() ->
-                        new ReservationNotFoundException("Booking not found")
-                );
-
-        if (reservation.getStatus() != ReservationStatus.CONFIRMED) {
+        if (reservationRepository.checkInIfConfirmed(bookingId) == 0) {
+            loadAfterFailedTransition(bookingId, null);
             throw new InvalidReservationStateException(
                     "Only CONFIRMED bookings can be checked in"
             );
         }
-        
-        
 
-        reservation.setStatus(ReservationStatus.CHECKED_IN);
+        bookingCache.evict(bookingId);
+
+        Reservation reservation = findReservation(bookingId);
 
         StayRecord stayRecord = StayRecord.builder()
                 .reservation(reservation)
@@ -291,8 +484,11 @@ public class BookingServiceImpl implements BookingService {
                 .build();
 
         stayRecordRepository.save(stayRecord);
-        
-        hotelServiceClient.allocateRooms(
+
+        // Rooms are assigned by hotel-service once this commits; its answer
+        // marks them allocated or undoes the check-in (RoomAllocationSagaService)
+        bookingEventPublisher.publishCommand(
+                ALLOCATION_REQUESTED_ROUTING_KEY,
                 new AllocateRoomRequest(
                         reservation.getId(),
                         reservation.getHotelId(),
@@ -312,34 +508,28 @@ public class BookingServiceImpl implements BookingService {
             throw new UnauthorizedException("Access denied");
         }
 
-        Reservation reservation = reservationRepository.findById(bookingId)
-                .orElseThrow(() ->
-                        new ReservationNotFoundException("Booking not found")
-                );
-
-        if (reservation.getStatus() != ReservationStatus.CHECKED_IN) {
+        if (reservationRepository.checkOutIfPaid(bookingId) == 0) {
+            Reservation current = loadAfterFailedTransition(bookingId, null);
             throw new InvalidReservationStateException(
-                    "Only CHECKED_IN bookings can be checked out"
+                    current.getStatus() != ReservationStatus.CHECKED_IN
+                            ? "Only CHECKED_IN bookings can be checked out"
+                            : "Payment not completed yet"
             );
         }
 
-        if (reservation.getPaymentStatus() != PaymentStatus.PAID) {
-            throw new InvalidReservationStateException(
-                    "Payment not completed yet"
-            );
-        }
+        bookingCache.evict(bookingId);
 
         StayRecord stayRecord = stayRecordRepository
-                .findByReservationId(reservation.getId())
+                .findByReservationId(bookingId)
                 .orElseThrow(() ->
                         new IllegalStateException("Stay record missing")
                 );
 
         stayRecord.setCheckOutTime(LocalDateTime.now());
-        reservation.setStatus(ReservationStatus.CHECKED_OUT);
-        
-        hotelServiceClient.releaseRooms(
-                new ReleaseRoomRequest(reservation.getId())
+
+        bookingEventPublisher.publishCommand(
+                RELEASE_REQUESTED_ROUTING_KEY,
+                new ReleaseRoomRequest(bookingId)
         );
     }
 
@@ -350,52 +540,67 @@ public class BookingServiceImpl implements BookingService {
             throw new UnauthorizedException("Only GUEST can make payment");
         }
 
-        Reservation reservation = reservationRepository.findById(bookingId)
+        if (reservationRepository.markPaid(bookingId, userEmail) == 0) {
+            Reservation current = loadAfterFailedTransition(bookingId, userEmail);
+            throw new InvalidReservationStateException(
+                    current.getStatus() != ReservationStatus.CONFIRMED
+                            ? "Payment allowed only for CONFIRMED bookings"
+                            : "Payment already completed"
+            );
+        }
+
+        bookingCache.evict(bookingId);
+    }
+
+    private Reservation findReservation(Long bookingId) {
+        return reservationRepository.findById(bookingId)
                 .orElseThrow(() ->
                         new ReservationNotFoundException("Booking not found")
                 );
+    }
 
-        if (!reservation.getUserEmail().equals(userEmail)) {
-            throw new UnauthorizedException("Access denied");
-        }
+    /**
+     * Loads a reservation whose conditional UPDATE matched no row, to tell
+     * a missing booking or a foreign owner apart from a state conflict.
+     * Callers throw the state error themselves.
+     */
+    private Reservation loadAfterFailedTransition(Long bookingId, String owner) {
 
-        if (reservation.getStatus() != ReservationStatus.CONFIRMED) {
-            throw new InvalidReservationStateException(
-                    "Payment allowed only for CONFIRMED bookings"
-            );
-        }
+        Reservation reservation = findReservation(bookingId);
 
-        if (reservation.getPaymentStatus() == PaymentStatus.PAID) {
-            throw new InvalidReservationStateException(
-                    "Payment already completed"
-            );
+        if (owner != null && !reservation.getUserEmail().equals(owner)) {
+            throw new UnauthorizedException("Access denied");
         }
 
-        reservation.setPaymentStatus(PaymentStatus.PAID);
+        return reservation;
     }
    
+    // Cached and loaded like getBooking
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public BookingResponse getBookingByReference(
             String bookingReference,
             String userEmail,
             String role
     ) {
-        Reservation reservation = reservationRepository
-                .findByBookingReference(bookingReference)
-                .orElseThrow(() ->
-                        new ReservationNotFoundException("Booking not found")
-                );
+        BookingView booking = bookingCache.getByReference(bookingReference, () ->
+                reservationRepository.findViewByBookingReference(bookingReference)
+                        .orElseThrow(() ->
+                                new ReservationNotFoundException("Booking not found")
+                        )
+        );
 
         if (ROLE_GUEST.equals(role)
-                && !reservation.getUserEmail().equals(userEmail)) {
+                && !booking.getUserEmail().equals(userEmail)) {
             throw new UnauthorizedException("Access denied");
         }
 
-        return mapToResponse(reservation);
+        return mapToResponse(booking);
     }
     
     
     @Override
+    @Transactional(readOnly = true)
     public List<BookingResponse> getMyBookings(String userEmail, String role) {
 
         if (!ROLE_GUEST.equals(role)) {
@@ -403,13 +608,14 @@ public class BookingServiceImpl implements BookingService {
         }
 
         return reservationRepository
-                .findByUserEmailOrderByCheckInDateDesc(userEmail)
+                .findViewsByUserEmail(userEmail)
                 .stream()
                 .map(this::mapToResponse)
                 .toList();
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<BookingResponse> getBookingsByHotel(Long hotelId, String role) {
 
         if (!role.equals(ROLE_ADMIN) && !role.equals(ROLE_MANAGER)) {
@@ -417,13 +623,273 @@ public class BookingServiceImpl implements BookingService {
         }
 
         return reservationRepository
-                .findByHotelId(hotelId)
+                .findViewsByHotelId(hotelId)
                 .stream()
                 .map(this::mapToResponse)
                 .toList();
     }
 
     
+    @Override
+    @Transactional(readOnly = true)
+    public BookingPageResponse getMyBookings(
+            String userEmail,
+            String role,
+            BookingFilter filter,
+            String cursor,
+            int size
+    ) {
+
+        if (!ROLE_GUEST.equals(role)) {
+            throw new UnauthorizedException("Only GUEST can view their bookings");
+        }
+
+        validatePageSize(size);
+        BookingCursor after = cursor != null ? BookingCursor.decode(cursor) : null;
+
+        return toPage(
+                reservationRepository.findPageByUserEmail(
+                        userEmail,
+                        filter.getStatus(),
+                        filter.getFrom(),
+                        filter.getTo(),
+                        after != null ? after.getCheckInDate() : null,
+                        after != null ? after.getId() : null,
+                        PageRequest.of(0, size + 1)
+                ),
+                size
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookingPageResponse getBookingsByHotel(
+            Long hotelId,
+            String role,
+            BookingFilter filter,
+            String cursor,
+            int size
+    ) {
+
+        if (!(ROLE_ADMIN.equals(role) || ROLE_MANAGER.equals(role))) {
+            throw new UnauthorizedException("Access denied");
+        }
+
+        return hotelPage(hotelId, filter, cursor, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookingPageResponse getBookingsForManager(
+            String managerEmail,
+            BookingFilter filter,
+            String cursor,
+            int size
+    ) {
+
+        HotelResponseDto hotel =
+            hotelServiceClient.getHotelByManager(managerEmail, ROLE_MANAGER);
+
+        return hotelPage(hotel.getId(), filter, cursor, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamMyBookings(
+            String userEmail,
+            String role,
+            BookingFilter filter,
+            Consumer<BookingResponse> sink
+    ) {
+
+        if (!ROLE_GUEST.equals(role)) {
+            throw new UnauthorizedException("Only GUEST can view their bookings");
+        }
+
+        try (Stream<BookingView> rows = reservationRepository.streamByUserEmail(
+                userEmail, filter.getStatus(), filter.getFrom(), filter.getTo())) {
+            streamTo(rows, sink);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamBookingsByHotel(
+            Long hotelId,
+            String role,
+            BookingFilter filter,
+            Consumer<BookingResponse> sink
+    ) {
+
+        if (!(ROLE_ADMIN.equals(role) || ROLE_MANAGER.equals(role))) {
+            throw new UnauthorizedException("Access denied");
+        }
+
+        try (Stream<BookingView> rows = reservationRepository.streamByHotelId(
+                hotelId, filter.getStatus(), filter.getFrom(), filter.getTo())) {
+            streamTo(rows, sink);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamBookingsForManager(
+            String managerEmail,
+            BookingFilter filter,
+            Consumer<BookingResponse> sink
+    ) {
+
+        HotelResponseDto hotel =
+            hotelServiceClient.getHotelByManager(managerEmail, ROLE_MANAGER);
+
+        try (Stream<BookingView> rows = reservationRepository.streamByHotelId(
+                hotel.getId(), filter.getStatus(), filter.getFrom(), filter.getTo())) {
+            streamTo(rows, sink);
+        }
+    }
+
+    private BookingPageResponse hotelPage(
+            Long hotelId,
+            BookingFilter filter,
+            String cursor,
+            int size
+    ) {
+
+        validatePageSize(size);
+        BookingCursor after = cursor != null ? BookingCursor.decode(cursor) : null;
+
+        return toPage(
+                reservationRepository.findPageByHotelId(
+                        hotelId,
+                        filter.getStatus(),
+                        filter.getFrom(),
+                        filter.getTo(),
+                        after != null ? after.getCheckInDate() : null,
+                        after != null ? after.getId() : null,
+                        PageRequest.of(0, size + 1)
+                ),
+                size
+        );
+    }
+
+    private static void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                    "Page size must be between 1 and " + MAX_PAGE_SIZE
+            );
+        }
+    }
+
+    // Pages are fetched one row long: the extra row only says whether
+    // there is a next page
+    private BookingPageResponse toPage(List<BookingView> rows, int size) {
+
+        boolean hasMore = rows.size() > size;
+        List<BookingView> page = hasMore ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            BookingView last = page.get(page.size() - 1);
+            nextCursor = new BookingCursor(last.getCheckInDate(), last.getId()).encode();
+        }
+
+        return BookingPageResponse.builder()
+                .items(page.stream().map(this::mapToResponse).toList())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private void streamTo(Stream<BookingView> rows, Consumer<BookingResponse> sink) {
+        rows.forEach(r -> sink.accept(mapToResponse(r)));
+    }
+
+    @Override
+    public int expireUnpaidBookings(List<Long> bookingIds) {
+
+        // The conditional UPDATE decides: a booking paid or cancelled since
+        // it was loaded is skipped instead of being cancelled again
+        List<Reservation> expired = reservationRepository.findAllById(bookingIds)
+                .stream()
+                .filter(r -> r.getStatus() == ReservationStatus.BOOKED
+                        && r.getPaymentStatus() == PaymentStatus.PENDING)
+                .filter(r -> reservationRepository.cancelIfUnpaid(r.getId()) == 1)
+                .toList();
+
+        // Bookings for the same stay go back to Redis in one release
+        Map<List<Object>, Integer> rooms = new LinkedHashMap<>();
+
+        for (Reservation reservation : expired) {
+            reservation.setStatus(ReservationStatus.CANCELLED);
+            bookingCache.evict(reservation.getId());
+            rooms.merge(
+                    List.of(
+                            reservation.getHotelId(),
+                            reservation.getRoomCategoryId(),
+                            reservation.getCheckInDate(),
+                            reservation.getCheckOutDate()
+                    ),
+                    reservation.getNumberOfRooms(),
+                    Integer::sum
+            );
+        }
+
+        rooms.forEach((stay, count) ->
+                releaseAfterCommit(
+                        (Long) stay.get(0),
+                        (Long) stay.get(1),
+                        (LocalDate) stay.get(2),
+                        (LocalDate) stay.get(3),
+                        count
+                )
+        );
+
+        for (Reservation reservation : expired) {
+            bookingEventPublisher.publish(
+                    "booking.cancelled",
+                    buildEvent("BOOKING_CANCELLED", reservation, null)
+            );
+        }
+
+        return expired.size();
+    }
+
+    // Rooms go back to Redis only once the cancellation has committed. A
+    // rollback after an early release would leave them sold twice
+    private void releaseAfterCommit(
+            Long hotelId,
+            Long categoryId,
+            LocalDate checkIn,
+            LocalDate checkOut,
+            int numberOfRooms
+    ) {
+        Runnable release = () -> availabilityService.release(
+                hotelId, categoryId, checkIn, checkOut, numberOfRooms
+        );
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        try {
+                            release.run();
+                        } catch (Exception e) {
+                            // The cancellation stands; reconciliation
+                            // restores the counters
+                            log.error(
+                                    "Release after commit failed for hotelId={} categoryId={}",
+                                    hotelId, categoryId, e
+                            );
+                        }
+                    }
+                }
+        );
+    }
+
     private BookingEventDTO buildEvent(
             String eventType,
             Reservation r,
@@ -444,6 +910,48 @@ public class BookingServiceImpl implements BookingService {
                 .build();
     }
 
+    private BookingEventDTO buildGroupEvent(
+            String groupReference,
+            List<Reservation> reservations,
+            Map<Long, RoomCategoryResponseDto> categories,
+            int totalRooms
+    ) {
+        Reservation first = reservations.get(0);
+
+        return BookingEventDTO.builder()
+                .eventType("GROUP_BOOKING_CREATED")
+                .groupReference(groupReference)
+                .numberOfRooms(totalRooms)
+                .guestEmail(first.getUserEmail())
+                .guestName(first.getGuestName())
+                .hotelName("HOTEL")
+                .roomCategory(reservations.stream()
+                        .map(r -> r.getNumberOfRooms() + " x "
+                                + categories.get(r.getRoomCategoryId()).getCategory())
+                        .collect(Collectors.joining(", ")))
+                .checkInDate(first.getCheckInDate())
+                .checkOutDate(first.getCheckOutDate())
+                .eventTime(LocalDateTime.now())
+                .build();
+    }
+
+    private BookingResponse mapToResponse(BookingView v) {
+        return BookingResponse.builder()
+                .bookingId(v.getId())
+                .bookingReference(v.getBookingReference())
+                .guestName(v.getGuestName())
+                .numberOfGuests(v.getNumberOfGuests())
+                .numberOfRooms(v.getNumberOfRooms())
+                .status(v.getStatus())
+                .hotelId(v.getHotelId())
+                .roomCategoryId(v.getRoomCategoryId())
+                .checkInDate(v.getCheckInDate())
+                .checkOutDate(v.getCheckOutDate())
+                .totalAmount(v.getTotalAmount())
+                .roomAllocation(v.getRoomAllocation())
+                .build();
+    }
+
     private BookingResponse mapToResponse(Reservation r) {
         return BookingResponse.builder()
                 .bookingId(r.getId())
@@ -457,19 +965,21 @@ public class BookingServiceImpl implements BookingService {
                 .checkInDate(r.getCheckInDate())
                 .checkOutDate(r.getCheckOutDate())
                 .totalAmount(r.getTotalAmount())
+                .roomAllocation(r.getRoomAllocation())
                 .build();
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<BookingResponse> getBookingsForManager(String managerEmail) {
 
         HotelResponseDto hotel =
             hotelServiceClient.getHotelByManager(managerEmail, ROLE_MANAGER);
 
-        List<Reservation>reservation =
-            reservationRepository.findByHotelId(hotel.getId());
+        List<BookingView> bookings =
+            reservationRepository.findViewsByHotelId(hotel.getId());
 
-        return reservation.stream()
+        return bookings.stream()
             .map(this::mapToResponse)
             .toList();
     }
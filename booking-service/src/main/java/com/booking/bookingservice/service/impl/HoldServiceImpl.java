@@ -0,0 +1,234 @@
+package com.booking.bookingservice.service.impl;
+
+import com.booking.bookingservice.dto.request.CreateBookingRequest;
+import com.booking.bookingservice.dto.request.CreateHoldRequest;
+import com.booking.bookingservice.dto.response.HoldResponse;
+import com.booking.bookingservice.exception.InvalidReservationStateException;
+import com.booking.bookingservice.exception.ReservationNotFoundException;
+import com.booking.bookingservice.exception.RoomNotAvailableException;
+import com.booking.bookingservice.exception.UnauthorizedException;
+import com.booking.bookingservice.repository.inventory.HoldStore;
+import com.booking.bookingservice.repository.inventory.InventoryHold;
+import com.booking.bookingservice.service.AvailabilityService;
+import com.booking.bookingservice.service.HoldService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HoldServiceImpl implements HoldService {
+
+    private static final String ROLE_GUEST = "GUEST";
+
+    private final HoldStore holdStore;
+    private final AvailabilityService availabilityService;
+
+    @Value("${booking.hold.ttl:PT10M}")
+    private Duration defaultTtl;
+
+    @Value("${booking.hold.max-ttl:PT30M}")
+    private Duration maxTtl;
+
+    // Holds claimed per sweeper script call
+    @Value("${booking.hold.sweep-batch-size:500}")
+    private int sweepBatchSize;
+
+    @Override
+    public HoldResponse createHold(
+            CreateHoldRequest request,
+            String userEmail,
+            String role
+    ) {
+
+        if (!ROLE_GUEST.equals(role)) {
+            throw new UnauthorizedException("Only GUEST can hold rooms");
+        }
+
+        if (!request.getCheckInDate().isBefore(request.getCheckOutDate())) {
+            throw new IllegalArgumentException("Invalid date range");
+        }
+
+        Duration ttl = request.getHoldMinutes() != null
+                ? Duration.ofMinutes(request.getHoldMinutes())
+                : defaultTtl;
+
+        if (ttl.compareTo(maxTtl) > 0) {
+            ttl = maxTtl;
+        }
+
+        Optional<LocalDate> unavailableNight = availabilityService.tryReserve(
+                request.getHotelId(),
+                request.getRoomCategoryId(),
+                request.getCheckInDate(),
+                request.getCheckOutDate(),
+                request.getNumberOfRooms()
+        );
+
+        if (unavailableNight.isPresent()) {
+            throw new RoomNotAvailableException(
+                    "Room not available on " + unavailableNight.get()
+            );
+        }
+
+        InventoryHold hold = InventoryHold.builder()
+                .holdId(UUID.randomUUID().toString())
+                .userEmail(userEmail)
+                .hotelId(request.getHotelId())
+                .roomCategoryId(request.getRoomCategoryId())
+                .checkInDate(request.getCheckInDate())
+                .checkOutDate(request.getCheckOutDate())
+                .numberOfRooms(request.getNumberOfRooms())
+                .expiresAt(Instant.now().plus(ttl))
+                .build();
+
+        try {
+            holdStore.save(hold);
+        } catch (Exception ex) {
+            release(hold);
+            throw ex;
+        }
+
+        return mapToResponse(hold);
+    }
+
+    @Override
+    public HoldResponse getHold(String holdId, String userEmail) {
+        return mapToResponse(findOwned(holdId, userEmail));
+    }
+
+    @Override
+    public void releaseHold(String holdId, String userEmail) {
+
+        findOwned(holdId, userEmail);
+
+        // Already claimed by a booking or the sweeper: nothing to give back
+        holdStore.claim(holdId).ifPresent(this::release);
+    }
+
+    @Override
+    public InventoryHold consumeHold(
+            String holdId,
+            CreateBookingRequest request,
+            String userEmail
+    ) {
+
+        InventoryHold hold = findOwned(holdId, userEmail);
+
+        if (!Objects.equals(hold.getHotelId(), request.getHotelId())
+                || !Objects.equals(hold.getRoomCategoryId(), request.getRoomCategoryId())
+                || !Objects.equals(hold.getCheckInDate(), request.getCheckInDate())
+                || !Objects.equals(hold.getCheckOutDate(), request.getCheckOutDate())
+                || !Objects.equals(hold.getNumberOfRooms(), request.getNumberOfRooms())) {
+            throw new IllegalArgumentException("Booking does not match the hold");
+        }
+
+        if (!hold.getExpiresAt().isAfter(Instant.now())) {
+            throw new InvalidReservationStateException("Hold has expired");
+        }
+
+        return holdStore.claim(holdId)
+                .orElseThrow(() ->
+                        new InvalidReservationStateException("Hold has expired")
+                );
+    }
+
+    @Override
+    public int releaseExpiredHolds() {
+
+        Instant now = Instant.now();
+        int released = 0;
+        List<InventoryHold> batch;
+
+        do {
+            batch = holdStore.claimExpired(now, sweepBatchSize);
+
+            // Holds for the same stay are released with one script call
+            Map<List<Object>, Integer> rooms = new LinkedHashMap<>();
+            for (InventoryHold hold : batch) {
+                rooms.merge(
+                        List.of(
+                                hold.getHotelId(),
+                                hold.getRoomCategoryId(),
+                                hold.getCheckInDate(),
+                                hold.getCheckOutDate()
+                        ),
+                        hold.getNumberOfRooms(),
+                        Integer::sum
+                );
+            }
+
+            rooms.forEach((stay, count) -> {
+                try {
+                    availabilityService.release(
+                            (Long) stay.get(0),
+                            (Long) stay.get(1),
+                            (LocalDate) stay.get(2),
+                            (LocalDate) stay.get(3),
+                            count
+                    );
+                } catch (Exception e) {
+                    // Left for the inventory reconciliation to repair
+                    log.error("Failed to release expired holds for {}", stay, e);
+                }
+            });
+
+            released += batch.size();
+
+        } while (batch.size() == sweepBatchSize);
+
+        if (released > 0) {
+            log.info("Released {} expired holds", released);
+        }
+
+        return released;
+    }
+
+    private InventoryHold findOwned(String holdId, String userEmail) {
+
+        InventoryHold hold = holdStore.find(holdId)
+                .orElseThrow(() ->
+                        new ReservationNotFoundException("Hold not found")
+                );
+
+        if (!hold.getUserEmail().equals(userEmail)) {
+            throw new UnauthorizedException("Access denied");
+        }
+
+        return hold;
+    }
+
+    private void release(InventoryHold hold) {
+        availabilityService.release(
+                hold.getHotelId(),
+                hold.getRoomCategoryId(),
+                hold.getCheckInDate(),
+                hold.getCheckOutDate(),
+                hold.getNumberOfRooms()
+        );
+    }
+
+    private HoldResponse mapToResponse(InventoryHold hold) {
+        return HoldResponse.builder()
+                .holdId(hold.getHoldId())
+                .hotelId(hold.getHotelId())
+                .roomCategoryId(hold.getRoomCategoryId())
+                .checkInDate(hold.getCheckInDate())
+                .checkOutDate(hold.getCheckOutDate())
+                .numberOfRooms(hold.getNumberOfRooms())
+                .expiresAt(hold.getExpiresAt())
+                .build();
+    }
+}
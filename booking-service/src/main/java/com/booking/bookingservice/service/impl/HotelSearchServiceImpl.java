@@ -0,0 +1,197 @@
+package com.booking.bookingservice.service.impl;
+
+import com.booking.bookingservice.client.ResilientHotelServiceClient;
+import com.booking.bookingservice.dto.response.CategoryAvailabilityResponse;
+import com.booking.bookingservice.dto.response.CityAvailabilityResponse;
+import com.booking.bookingservice.dto.response.HotelResponseDto;
+import com.booking.bookingservice.dto.response.HotelSearchResultResponse;
+import com.booking.bookingservice.dto.response.RoomCategoryResponseDto;
+import com.booking.bookingservice.service.AvailabilityService;
+import com.booking.bookingservice.service.HotelSearchService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.booking.bookingservice.config.SearchExecutorConfig.CITY_SEARCH_EXECUTOR;
+
+@Slf4j
+@Service
+public class HotelSearchServiceImpl implements HotelSearchService {
+
+    private final ResilientHotelServiceClient hotelServiceClient;
+    private final AvailabilityService availabilityService;
+    private final Executor searchExecutor;
+
+    // Overall budget for one city search; slower hotels are left out
+    @Value("${availability.search.timeout:PT2S}")
+    private Duration timeout = Duration.ofSeconds(2);
+
+    // Hotels of one search checked in parallel, so a large city cannot
+    // take the whole shared pool
+    @Value("${availability.search.per-request-concurrency:4}")
+    private int perRequestConcurrency = 4;
+
+    public HotelSearchServiceImpl(
+            ResilientHotelServiceClient hotelServiceClient,
+            AvailabilityService availabilityService,
+            @Qualifier(CITY_SEARCH_EXECUTOR) Executor searchExecutor
+    ) {
+        this.hotelServiceClient = hotelServiceClient;
+        this.availabilityService = availabilityService;
+        this.searchExecutor = searchExecutor;
+    }
+
+    @Override
+    public CityAvailabilityResponse searchByCity(
+            String city,
+            LocalDate checkIn,
+            LocalDate checkOut,
+            int numberOfRooms,
+            int numberOfGuests
+    ) {
+
+        if (!checkIn.isBefore(checkOut)) {
+            throw new IllegalArgumentException("Invalid date range");
+        }
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        // Categories come embedded in the search result, so this is the
+        // only hotel-service call for the whole request
+        List<HotelResponseDto> hotels = hotelServiceClient.searchHotelsByCity(city);
+
+        // FutureTask-backed, so cancel() keeps queued hotels from running
+        // and interrupts running ones once the deadline has passed
+        CompletionService<HotelSearchResultResponse> completion =
+                new ExecutorCompletionService<>(searchExecutor);
+        List<Future<HotelSearchResultResponse>> submitted = new ArrayList<>();
+        Iterator<HotelResponseDto> pending = hotels.iterator();
+
+        boolean complete = true;
+        int inFlight = 0;
+        List<HotelSearchResultResponse> results = new ArrayList<>();
+
+        try {
+            // At most perRequestConcurrency hotels of this search sit on the
+            // shared pool; the next one goes in as each finishes
+            while (pending.hasNext() || inFlight > 0) {
+
+                while (inFlight < perRequestConcurrency && pending.hasNext()) {
+                    HotelResponseDto hotel = pending.next();
+                    try {
+                        submitted.add(completion.submit(() -> cheapestMatch(
+                                hotel, checkIn, checkOut, numberOfRooms, numberOfGuests, deadline
+                        )));
+                        inFlight++;
+                    } catch (RejectedExecutionException e) {
+                        log.warn("City search queue full, skipping hotelId={}", hotel.getId());
+                        complete = false;
+                    }
+                }
+
+                if (inFlight == 0) {
+                    continue;
+                }
+
+                long remaining = deadline - System.nanoTime();
+                Future<HotelSearchResultResponse> done = remaining > 0
+                        ? completion.poll(remaining, TimeUnit.NANOSECONDS)
+                        : null;
+
+                if (done == null) {
+                    complete = false;
+                    break;
+                }
+
+                inFlight--;
+
+                try {
+                    HotelSearchResultResponse result = done.get();
+                    if (result != null) {
+                        results.add(result);
+                    }
+                } catch (ExecutionException e) {
+                    log.warn("City search failed for one hotel", e.getCause());
+                    complete = false;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            complete = false;
+        } finally {
+            submitted.forEach(future -> future.cancel(true));
+        }
+
+        results.sort(Comparator.comparing(HotelSearchResultResponse::getPricePerNight));
+
+        return new CityAvailabilityResponse(
+                city,
+                checkIn,
+                checkOut,
+                complete,
+                results
+        );
+    }
+
+    private HotelSearchResultResponse cheapestMatch(
+            HotelResponseDto hotel,
+            LocalDate checkIn,
+            LocalDate checkOut,
+            int numberOfRooms,
+            int numberOfGuests,
+            long deadline
+    ) {
+        // Still queued when the search gave up on it
+        if (System.nanoTime() - deadline >= 0) {
+            return null;
+        }
+
+        List<RoomCategoryResponseDto> fitting = hotel.getRoomCategories() == null
+                ? List.of()
+                : hotel.getRoomCategories().stream()
+                        .filter(c -> c.getCapacity() != null
+                                && c.getCapacity() * numberOfRooms >= numberOfGuests)
+                        .toList();
+
+        if (fitting.isEmpty()) {
+            return null;
+        }
+
+        return availabilityService
+                .getHotelAvailability(hotel.getId(), fitting, checkIn, checkOut)
+                .getCategories()
+                .stream()
+                .filter(c -> c.getAvailableRooms() >= numberOfRooms)
+                .min(Comparator.comparing(CategoryAvailabilityResponse::getPricePerNight))
+                .map(c -> HotelSearchResultResponse.builder()
+                        .hotelId(hotel.getId())
+                        .hotelName(hotel.getName())
+                        .categoryId(c.getCategoryId())
+                        .categoryName(c.getCategoryName())
+                        .availableRooms(c.getAvailableRooms())
+                        .pricePerNight(c.getPricePerNight())
+                        .totalPrice(c.getPricePerNight()
+                                .multiply(BigDecimal.valueOf(
+                                        ChronoUnit.DAYS.between(checkIn, checkOut)))
+                                .multiply(BigDecimal.valueOf(numberOfRooms)))
+                        .build())
+                .orElse(null);
+    }
+}
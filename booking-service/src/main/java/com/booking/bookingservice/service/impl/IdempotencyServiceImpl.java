@@ -0,0 +1,180 @@
+package com.booking.bookingservice.service.impl;
+
+import com.booking.bookingservice.exception.IdempotencyConflictException;
+import com.booking.bookingservice.service.IdempotencyService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Keeps one Redis record per idempotency key: IN_PROGRESS while the first
+ * request runs, then COMPLETED with the serialized response. The
+ * IN_PROGRESS record expires on its own if the instance running the
+ * request dies, so a retry can take over.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final long MAX_POLL_MILLIS = 500;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // How long a completed response is replayed
+    @Value("${booking.idempotency.ttl:PT24H}")
+    private Duration responseTtl;
+
+    // Must outlast the slowest request, or a duplicate may run it again
+    @Value("${booking.idempotency.lock-ttl:PT30S}")
+    private Duration lockTtl;
+
+    // How long a duplicate waits for the in-flight request
+    @Value("${booking.idempotency.wait-timeout:PT10S}")
+    private Duration waitTimeout;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class IdempotencyRecord {
+
+        private String status;
+        private String owner;
+        private String fingerprint;
+        private String response;
+    }
+
+    @Override
+    public <T> T execute(
+            String key,
+            Object request,
+            Class<T> responseType,
+            Supplier<T> action
+    ) {
+        String redisKey = KEY_PREFIX + key;
+        String fingerprint = fingerprint(request);
+        String owner = UUID.randomUUID().toString();
+
+        Instant deadline = Instant.now().plus(waitTimeout);
+        long pollMillis = 25;
+
+        while (true) {
+
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(
+                    redisKey,
+                    write(new IdempotencyRecord("IN_PROGRESS", owner, fingerprint, null)),
+                    lockTtl
+            );
+
+            if (Boolean.TRUE.equals(acquired)) {
+                return runFirst(redisKey, owner, fingerprint, action);
+            }
+
+            String raw = redisTemplate.opsForValue().get(redisKey);
+
+            // The first request failed or its lock expired: try to take over
+            if (raw == null) {
+                continue;
+            }
+
+            IdempotencyRecord record = read(raw, IdempotencyRecord.class);
+
+            if (!fingerprint.equals(record.getFingerprint())) {
+                throw new IllegalArgumentException(
+                        "Idempotency-Key was already used for a different request"
+                );
+            }
+
+            if ("COMPLETED".equals(record.getStatus())) {
+                log.info("Replaying idempotent response for key={}", key);
+                return read(record.getResponse(), responseType);
+            }
+
+            if (Instant.now().isAfter(deadline)) {
+                throw new IdempotencyConflictException(
+                        "A request with this Idempotency-Key is still in progress"
+                );
+            }
+
+            sleep(pollMillis);
+            pollMillis = Math.min(pollMillis * 2, MAX_POLL_MILLIS);
+        }
+    }
+
+    private <T> T runFirst(
+            String redisKey,
+            String owner,
+            String fingerprint,
+            Supplier<T> action
+    ) {
+        T response;
+
+        try {
+            response = action.get();
+        } catch (RuntimeException ex) {
+            // Failures are not replayed: drop our marker so a retry runs again
+            String raw = redisTemplate.opsForValue().get(redisKey);
+            if (raw != null && owner.equals(read(raw, IdempotencyRecord.class).getOwner())) {
+                redisTemplate.delete(redisKey);
+            }
+            throw ex;
+        }
+
+        redisTemplate.opsForValue().set(
+                redisKey,
+                write(new IdempotencyRecord("COMPLETED", owner, fingerprint, write(response))),
+                responseTtl
+        );
+
+        return response;
+    }
+
+    private String fingerprint(Object request) {
+        return DigestUtils.md5DigestAsHex(
+                write(request).getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize idempotent payload", e);
+        }
+    }
+
+    private <T> T read(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read idempotent payload", e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException(
+                    "Interrupted while waiting for the in-flight request"
+            );
+        }
+    }
+}
@@ -0,0 +1,408 @@
+package com.booking.bookingservice.service.impl;
+
+import com.booking.bookingservice.client.HotelServiceClient;
+import com.booking.bookingservice.dto.response.HotelResponseDto;
+import com.booking.bookingservice.dto.response.RoomCategoryResponseDto;
+import com.booking.bookingservice.model.ReservationStatus;
+import com.booking.bookingservice.repository.ReservationInventoryView;
+import com.booking.bookingservice.repository.ReservationRepository;
+import com.booking.bookingservice.repository.inventory.CounterCorrection;
+import com.booking.bookingservice.repository.inventory.HoldStore;
+import com.booking.bookingservice.repository.inventory.InventoryHold;
+import com.booking.bookingservice.repository.inventory.InventoryStore;
+import com.booking.bookingservice.service.InventoryReconciliationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Rebuilds the expected availability of every hotel/category/night from
+ * the reservations and checkout holds that still take rooms and compares
+ * it with Redis.
+ *
+ * Missing counters are seeded with the expected value straight away. A
+ * counter that disagrees is only repaired once two consecutive runs have
+ * seen the same observed and expected values, so a booking that is between
+ * its Redis reserve and its database commit is never "repaired" away.
+ * The repair itself is a compare-and-set, so concurrent reserves win.
+ *
+ * Runs are serialized across instances by a Redis lock, and the drift
+ * awaiting confirmation is kept in Redis next to it, so consecutive runs
+ * on different instances still confirm each other.
+ */
+@Slf4j
+@Service
+public class InventoryReconciliationServiceImpl implements InventoryReconciliationService {
+
+    // Statuses whose rooms are still taken out of the counters
+    private static final Set<ReservationStatus> HOLDING_STATUSES = EnumSet.of(
+            ReservationStatus.BOOKED,
+            ReservationStatus.CONFIRMED,
+            ReservationStatus.CHECKED_IN,
+            ReservationStatus.CHECKED_OUT
+    );
+
+    private static final String LOCK_KEY = "inventory:reconcile:lock";
+
+    // hotelId:categoryId:night -> observed:expected seen by the last run
+    private static final String SUSPECTED_KEY = "inventory:reconcile:suspected";
+
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/release_lock.lua"), Long.class);
+
+    private final ReservationRepository reservationRepository;
+    private final InventoryStore inventoryStore;
+    private final HoldStore holdStore;
+    private final HotelServiceClient hotelServiceClient;
+    private final StringRedisTemplate redisTemplate;
+
+    private final Counter overNights;
+    private final Counter underNights;
+    private final Counter missingNights;
+    private final Counter driftRooms;
+    private final Counter repairedNights;
+    private final Timer duration;
+    private final AtomicLong lastDriftedNights = new AtomicLong();
+
+    @Value("${availability.reconcile.horizon-days:365}")
+    private int horizonDays;
+
+    // Reservations loaded per query
+    @Value("${availability.reconcile.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${availability.reconcile.lock-ttl:PT30M}")
+    private Duration lockTtl;
+
+    // Long enough to reach the next run; older suspicions are dropped
+    @Value("${availability.reconcile.suspect-ttl:PT2H}")
+    private Duration suspectTtl;
+
+    public InventoryReconciliationServiceImpl(
+            ReservationRepository reservationRepository,
+            InventoryStore inventoryStore,
+            HoldStore holdStore,
+            HotelServiceClient hotelServiceClient,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.inventoryStore = inventoryStore;
+        this.holdStore = holdStore;
+        this.hotelServiceClient = hotelServiceClient;
+        this.redisTemplate = redisTemplate;
+
+        // over: Redis shows more rooms than are free, so it can overbook
+        this.overNights = driftCounter(meterRegistry, "over");
+        this.underNights = driftCounter(meterRegistry, "under");
+        this.missingNights = driftCounter(meterRegistry, "missing");
+        this.driftRooms = Counter.builder("inventory.reconciliation.drift.rooms")
+                .description("Absolute room difference across drifted nights")
+                .register(meterRegistry);
+        this.repairedNights = Counter.builder("inventory.reconciliation.repaired")
+                .description("Counters set back to their expected value")
+                .register(meterRegistry);
+        this.duration = Timer.builder("inventory.reconciliation.duration")
+                .register(meterRegistry);
+        meterRegistry.gauge(
+                "inventory.reconciliation.last.drifted",
+                lastDriftedNights
+        );
+    }
+
+    private static Counter driftCounter(MeterRegistry registry, String type) {
+        return Counter.builder("inventory.reconciliation.drift.nights")
+                .description("Nights whose Redis counter disagreed with reservations")
+                .tag("type", type)
+                .register(registry);
+    }
+
+    @Override
+    public long reconcile() {
+
+        // One run at a time across instances
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue()
+                .setIfAbsent(LOCK_KEY, token, lockTtl);
+
+        if (!Boolean.TRUE.equals(locked)) {
+            log.info("Inventory reconciliation already running elsewhere, skipping");
+            return 0;
+        }
+
+        try {
+            return duration.record(this::reconcileAll);
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), token);
+        }
+    }
+
+    private long reconcileAll() {
+
+        LocalDate from = LocalDate.now();
+        LocalDate to = from.plusDays(horizonDays);
+
+        List<HotelResponseDto> hotels = hotelServiceClient.getAllHotels();
+
+        // Held rooms are out of the counters without a reservation row
+        Map<Long, List<InventoryHold>> holds = holdStore.findAll().stream()
+                .collect(Collectors.groupingBy(InventoryHold::getHotelId));
+        Map<String, CounterCorrection> suspected = loadSuspected();
+        Map<String, CounterCorrection> seen = new HashMap<>();
+        long drifted = 0;
+
+        for (HotelResponseDto hotel : hotels) {
+
+            List<RoomCategoryResponseDto> categories = hotel.getRoomCategories();
+            if (categories == null || categories.isEmpty()) {
+                continue;
+            }
+
+            try {
+                drifted += reconcileHotel(
+                        hotel.getId(),
+                        categories,
+                        holds.getOrDefault(hotel.getId(), List.of()),
+                        from,
+                        to,
+                        suspected,
+                        seen
+                );
+            } catch (Exception e) {
+                log.error("Inventory reconciliation failed for hotelId={}", hotel.getId(), e);
+            }
+        }
+
+        saveSuspected(seen);
+        lastDriftedNights.set(drifted);
+
+        log.info(
+                "Inventory reconciliation done: hotels={}, driftedNights={}, pending={}",
+                hotels.size(), drifted, seen.size()
+        );
+
+        return drifted;
+    }
+
+    private long reconcileHotel(
+            Long hotelId,
+            List<RoomCategoryResponseDto> categories,
+            List<InventoryHold> holds,
+            LocalDate from,
+            LocalDate to,
+            Map<String, CounterCorrection> suspected,
+            Map<String, CounterCorrection> seen
+    ) {
+        List<Long> categoryIds = categories.stream()
+                .map(RoomCategoryResponseDto::getId)
+                .toList();
+
+        Map<Long, int[]> expected = expectedAvailability(hotelId, categories, from, to);
+
+        for (InventoryHold hold : holds) {
+            take(
+                    expected.get(hold.getRoomCategoryId()),
+                    hold.getCheckInDate(),
+                    hold.getCheckOutDate(),
+                    hold.getNumberOfRooms(),
+                    from,
+                    to
+            );
+        }
+        Map<Long, Integer[]> stored = inventoryStore.read(hotelId, categoryIds, from, to);
+
+        Map<Long, Map<LocalDate, Integer>> missing = new LinkedHashMap<>();
+        long drifted = 0;
+
+        for (RoomCategoryResponseDto category : categories) {
+
+            int[] wanted = expected.get(category.getId());
+            Integer[] actual = stored.get(category.getId());
+            List<CounterCorrection> corrections = new ArrayList<>();
+
+            for (int n = 0; n < wanted.length; n++) {
+
+                LocalDate night = from.plusDays(n);
+
+                if (actual[n] == null) {
+                    // A lazy seed would use the full total and forget bookings
+                    if (wanted[n] != category.getTotalRooms()) {
+                        missing.computeIfAbsent(category.getId(), id -> new LinkedHashMap<>())
+                                .put(night, wanted[n]);
+                        missingNights.increment();
+                        driftRooms.increment(category.getTotalRooms() - wanted[n]);
+                        drifted++;
+                    }
+                    continue;
+                }
+
+                if (actual[n] == wanted[n]) {
+                    continue;
+                }
+
+                (actual[n] > wanted[n] ? overNights : underNights).increment();
+                driftRooms.increment(Math.abs(actual[n] - wanted[n]));
+                drifted++;
+
+                String key = hotelId + ":" + category.getId() + ":" + night;
+                CounterCorrection correction =
+                        new CounterCorrection(night, actual[n], wanted[n]);
+                CounterCorrection previous = suspected.get(key);
+
+                if (previous != null
+                        && previous.getObserved() == correction.getObserved()
+                        && previous.getExpected() == correction.getExpected()) {
+                    corrections.add(correction);
+                } else {
+                    seen.put(key, correction);
+                }
+            }
+
+            if (!corrections.isEmpty()) {
+                long repaired = inventoryStore.repair(hotelId, category.getId(), corrections);
+                repairedNights.increment(repaired);
+
+                log.warn(
+                        "Repaired inventory drift: hotelId={}, categoryId={}, nights={}",
+                        hotelId, category.getId(), repaired
+                );
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            inventoryStore.seedIfAbsent(hotelId, missing);
+        }
+
+        return drifted;
+    }
+
+    private Map<String, CounterCorrection> loadSuspected() {
+
+        HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+        Map<String, CounterCorrection> suspected = new HashMap<>();
+
+        hash.entries(SUSPECTED_KEY).forEach((key, value) -> {
+            String[] counts = value.split(":");
+            suspected.put(key, new CounterCorrection(
+                    LocalDate.parse(key.substring(key.lastIndexOf(':') + 1)),
+                    Integer.parseInt(counts[0]),
+                    Integer.parseInt(counts[1])
+            ));
+        });
+
+        return suspected;
+    }
+
+    // Only the lock holder writes, so replacing the hash needs no script
+    private void saveSuspected(Map<String, CounterCorrection> seen) {
+
+        redisTemplate.delete(SUSPECTED_KEY);
+
+        if (seen.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> values = new HashMap<>();
+        seen.forEach((key, correction) -> values.put(
+                key, correction.getObserved() + ":" + correction.getExpected()
+        ));
+
+        HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+        hash.putAll(SUSPECTED_KEY, values);
+        redisTemplate.expire(SUSPECTED_KEY, suspectTtl);
+    }
+
+    /**
+     * Category total minus the rooms held by reservations, per night of
+     * [from, to). Reservations are read in id-ordered chunks so memory
+     * stays bounded by the horizon, not by the number of bookings.
+     */
+    private Map<Long, int[]> expectedAvailability(
+            Long hotelId,
+            List<RoomCategoryResponseDto> categories,
+            LocalDate from,
+            LocalDate to
+    ) {
+        int nights = (int) ChronoUnit.DAYS.between(from, to);
+
+        Map<Long, int[]> expected = new LinkedHashMap<>();
+        for (RoomCategoryResponseDto category : categories) {
+            int[] available = new int[nights];
+            Arrays.fill(available, category.getTotalRooms());
+            expected.put(category.getId(), available);
+        }
+
+        PageRequest chunk = PageRequest.ofSize(chunkSize);
+        long afterId = 0;
+        List<ReservationInventoryView> reservations;
+
+        do {
+            reservations = reservationRepository
+                    .findByHotelIdAndStatusInAndCheckOutDateAfterAndIdGreaterThanOrderByIdAsc(
+                            hotelId, HOLDING_STATUSES, from, afterId, chunk
+                    );
+
+            for (ReservationInventoryView reservation : reservations) {
+                take(
+                        expected.get(reservation.getRoomCategoryId()),
+                        reservation.getCheckInDate(),
+                        reservation.getCheckOutDate(),
+                        reservation.getNumberOfRooms(),
+                        from,
+                        to
+                );
+            }
+
+            if (!reservations.isEmpty()) {
+                afterId = reservations.get(reservations.size() - 1).getId();
+            }
+
+        } while (reservations.size() == chunkSize);
+
+        return expected;
+    }
+
+    // Subtracts rooms from the nights of [checkIn, checkOut) inside [from, to)
+    private static void take(
+            int[] available,
+            LocalDate checkIn,
+            LocalDate checkOut,
+            int rooms,
+            LocalDate from,
+            LocalDate to
+    ) {
+        if (available == null) {
+            return;
+        }
+
+        LocalDate start = checkIn.isAfter(from) ? checkIn : from;
+        LocalDate end = checkOut.isBefore(to) ? checkOut : to;
+
+        for (LocalDate night = start; night.isBefore(end); night = night.plusDays(1)) {
+            available[(int) ChronoUnit.DAYS.between(from, night)] -= rooms;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.booking.bookingservice.service.impl;
+
+import com.booking.bookingservice.dto.request.AllocateRoomRequest;
+import com.booking.bookingservice.dto.request.ReleaseRoomRequest;
+import com.booking.bookingservice.event.BookingEventPublisher;
+import com.booking.bookingservice.model.Reservation;
+import com.booking.bookingservice.model.ReservationStatus;
+import com.booking.bookingservice.model.RoomAllocationStatus;
+import com.booking.bookingservice.repository.ReservationRepository;
+import com.booking.bookingservice.repository.StayRecordRepository;
+import com.booking.bookingservice.service.BookingCacheService;
+import com.booking.bookingservice.service.RoomAllocationSagaService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.booking.bookingservice.config.BookingRabbitMQConfig.ALLOCATION_REQUESTED_ROUTING_KEY;
+import static com.booking.bookingservice.config.BookingRabbitMQConfig.RELEASE_REQUESTED_ROUTING_KEY;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class RoomAllocationSagaServiceImpl implements RoomAllocationSagaService {
+
+    private static final Set<RoomAllocationStatus> PENDING_STATUSES = EnumSet.of(
+            RoomAllocationStatus.PENDING,
+            RoomAllocationStatus.RELEASE_PENDING
+    );
+
+    private final ReservationRepository reservationRepository;
+    private final StayRecordRepository stayRecordRepository;
+    private final BookingEventPublisher bookingEventPublisher;
+    private final BookingCacheService bookingCache;
+
+    @Value("${booking.saga.resend-after:PT5M}")
+    private Duration resendAfter;
+
+    @Value("${booking.saga.resend-batch-size:100}")
+    private int resendBatchSize;
+
+    @Override
+    public void onRoomsAllocated(Long bookingId) {
+
+        if (reservationRepository.markRoomsAllocated(bookingId) == 1) {
+            bookingCache.evict(bookingId);
+            log.info("Rooms allocated for bookingId={}", bookingId);
+            return;
+        }
+
+        ReservationStatus status = reservationRepository.findById(bookingId)
+                .map(Reservation::getStatus)
+                .orElse(null);
+
+        // Redelivered answer for a stay that is already marked allocated
+        if (status == ReservationStatus.CHECKED_IN) {
+            return;
+        }
+
+        // The stay was checked out or undone before the rooms arrived, so
+        // nobody will release them otherwise. Releasing twice is harmless.
+        log.warn(
+            "Rooms allocated for bookingId={} in status {}, releasing them",
+            bookingId,
+            status
+        );
+        bookingEventPublisher.publishCommand(
+                RELEASE_REQUESTED_ROUTING_KEY,
+                new ReleaseRoomRequest(bookingId)
+        );
+    }
+
+    @Override
+    public void onAllocationFailed(Long bookingId, String reason) {
+
+        // Only a check-in still waiting for its rooms is undone; a guest who
+        // has meanwhile checked out keeps that state
+        if (reservationRepository.undoCheckIn(bookingId) == 0) {
+            log.info("Ignoring allocation failure for bookingId={}", bookingId);
+            return;
+        }
+
+        stayRecordRepository.deleteByReservationId(bookingId);
+        bookingCache.evict(bookingId);
+
+        log.warn("Check-in of bookingId={} undone, no rooms allocated: {}", bookingId, reason);
+    }
+
+    @Override
+    public void onRoomsReleased(Long bookingId) {
+
+        if (reservationRepository.markRoomsReleased(bookingId) == 1) {
+            bookingCache.evict(bookingId);
+            log.info("Rooms released for bookingId={}", bookingId);
+        }
+    }
+
+    @Override
+    public int resendStaleRequests() {
+
+        List<Reservation> stale = reservationRepository
+                .findByRoomAllocationInAndRoomAllocationRequestedAtBeforeOrderByRoomAllocationRequestedAtAsc(
+                        PENDING_STATUSES,
+                        LocalDateTime.now().minus(resendAfter),
+                        PageRequest.ofSize(resendBatchSize)
+                );
+
+        int resent = 0;
+
+        for (Reservation reservation : stale) {
+
+            // Another instance's sweep, or the answer, got there first
+            if (reservationRepository.claimRoomAllocationResend(
+                    reservation.getId(),
+                    reservation.getRoomAllocation(),
+                    reservation.getRoomAllocationRequestedAt()
+            ) == 0) {
+                continue;
+            }
+
+            log.warn(
+                "No answer from hotel-service for bookingId={} since {}, sending {} again",
+                reservation.getId(),
+                reservation.getRoomAllocationRequestedAt(),
+                reservation.getRoomAllocation()
+            );
+
+            if (reservation.getRoomAllocation() == RoomAllocationStatus.PENDING) {
+                bookingEventPublisher.publishCommand(
+                        ALLOCATION_REQUESTED_ROUTING_KEY,
+                        new AllocateRoomRequest(
+                                reservation.getId(),
+                                reservation.getHotelId(),
+                                reservation.getRoomCategoryId(),
+                                reservation.getNumberOfRooms()
+                        )
+                );
+            } else {
+                bookingEventPublisher.publishCommand(
+                        RELEASE_REQUESTED_ROUTING_KEY,
+                        new ReleaseRoomRequest(reservation.getId())
+                );
+            }
+
+            resent++;
+        }
+
+        return resent;
+    }
+}
@@ -1,6 +1,6 @@
 package com.booking.bookingservice.service.impl.report;
 
-import com.booking.bookingservice.client.HotelServiceClient;
+import com.booking.bookingservice.client.ResilientHotelServiceClient;
 import com.booking.bookingservice.dto.response.HotelResponseDto;
 import com.booking.bookingservice.dto.response.report.AdminMonthlyRevenueResponse;
 import com.booking.bookingservice.dto.response.report.AvgRevenuePerBookingResponse;
@@ -11,9 +11,9 @@ import com.booking.bookingservice.dto.response.report.RevenueReportResponse;
 import com.booking.bookingservice.exception.UnauthorizedException;
 import com.booking.bookingservice.repository.report.BookingReportRepository;
 import com.booking.bookingservice.service.report.ReportService;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -21,15 +21,17 @@ import java.time.Month;
 import java.util.List;
 import java.util.stream.Collectors;
 
+// Read-only throughout, so every report runs on the read replica when one
+// is configured
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class ReportServiceImpl implements ReportService {
 
     private final BookingReportRepository bookingReportRepository;
-    private final HotelServiceClient hotelServiceClient;
+    private final ResilientHotelServiceClient hotelServiceClient;
 
     @Override
-    @Transactional(Transactional.TxType.SUPPORTS)
     public List<OccupancyReportResponse> getOccupancyReport(
             Long hotelId,
             LocalDate from,
@@ -60,7 +62,6 @@ public class ReportServiceImpl implements ReportService {
     }
     
     @Override
-    @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public RevenueReportResponse getRevenueReport(
             Long hotelId,
             LocalDate from,
@@ -95,7 +96,6 @@ public class ReportServiceImpl implements ReportService {
     }
    
     @Override
-    @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public List<MonthlyRevenueReportResponse> getMonthlyRevenueReport(
             Long hotelId,
             int year,
@@ -113,7 +113,8 @@ public class ReportServiceImpl implements ReportService {
             throw new IllegalArgumentException("Invalid year");
         }
 
-        return bookingReportRepository.getMonthlyRevenue(hotelId, year)
+        return bookingReportRepository.getMonthlyRevenue(
+                        hotelId, yearStart(year), yearStart(year + 1))
                 .stream()
                 .map(row -> {
                     int monthNumber = ((Number) row[0]).intValue();
@@ -128,7 +129,6 @@ public class ReportServiceImpl implements ReportService {
     }
    
     @Override
-    @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public List<AdminMonthlyRevenueResponse> getAdminMonthlyRevenue(
             int year, String role) {
 
@@ -136,7 +136,8 @@ public class ReportServiceImpl implements ReportService {
             throw new UnauthorizedException("Admin access required");
         }
 
-        return bookingReportRepository.getMonthlyRevenueForAllHotels(year)
+        return bookingReportRepository.getMonthlyRevenueForAllHotels(
+                        yearStart(year), yearStart(year + 1))
                 .stream()
                 .map(r -> new AdminMonthlyRevenueResponse(
                         (Long) r[0],
@@ -147,7 +148,6 @@ public class ReportServiceImpl implements ReportService {
     }
     
     @Override
-    @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public AvgRevenuePerBookingResponse getAverageRevenue(
             Long hotelId, String role, String userEmail) {
 
@@ -176,7 +176,6 @@ public class ReportServiceImpl implements ReportService {
     }
     
     @Override
-    @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public List<MonthlyOccupancyResponse> getMonthlyOccupancy(
             Long hotelId, int year, String role, String userEmail) {
 
@@ -186,7 +185,8 @@ public class ReportServiceImpl implements ReportService {
         
         validateManagerHotelAccess(role, userEmail, hotelId);
 
-        return bookingReportRepository.getMonthlyOccupancy(hotelId, year)
+        return bookingReportRepository.getMonthlyOccupancy(
+                        hotelId, yearStart(year), yearStart(year + 1))
                 .stream()
                 .map(r -> new MonthlyOccupancyResponse(
                         Month.of(((Number) r[0]).intValue()).name(),
@@ -195,6 +195,12 @@ public class ReportServiceImpl implements ReportService {
                 .toList();
     }
     
+    // Years are queried as [Jan 1, next Jan 1) date ranges so the date
+    // indexes apply; EXTRACT(YEAR ...) = ? would scan every row
+    private static LocalDate yearStart(int year) {
+        return LocalDate.of(year, 1, 1);
+    }
+
     private void validateManagerHotelAccess(
             String role,
             String userEmail,
@@ -0,0 +1,45 @@
+package com.booking.bookingservice.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Position in a booking list ordered by check-in date and id, both
+ * descending. Encoded as an opaque URL-safe token so clients do not
+ * build cursors themselves.
+ */
+@Getter
+@AllArgsConstructor
+public final class BookingCursor {
+
+    private final LocalDate checkInDate;
+    private final Long id;
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(
+                        (checkInDate + ":" + id).getBytes(StandardCharsets.UTF_8)
+                );
+    }
+
+    public static BookingCursor decode(String cursor) {
+        try {
+            String[] parts = new String(
+                    Base64.getUrlDecoder().decode(cursor),
+                    StandardCharsets.UTF_8
+            ).split(":");
+
+            return new BookingCursor(
+                    LocalDate.parse(parts[0]),
+                    Long.valueOf(parts[1])
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
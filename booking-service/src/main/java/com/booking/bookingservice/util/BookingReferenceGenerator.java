@@ -1,18 +1,89 @@
 package com.booking.bookingservice.util;
 
-import java.util.UUID;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
+/**
+ * Short, time-ordered booking references that are unique across instances.
+ *
+ * Each id packs milliseconds since 2024-01-01 (41 bits), the node id of
+ * this instance (10 bits) and a per-millisecond sequence (12 bits), and is
+ * written as 13 Crockford base32 characters. The text therefore sorts the
+ * same way as the id, so new references land at the right edge of the
+ * booking_reference index.
+ *
+ * Timestamp and sequence live in one AtomicLong and advance with a CAS. A
+ * sequence that overflows carries into the timestamp, and a clock that
+ * steps back is ignored, so ids never repeat and callers never wait.
+ */
 public final class BookingReferenceGenerator {
 
-    private BookingReferenceGenerator() {
-        // prevent instantiation
+    public static final int MAX_NODE_ID = (1 << 10) - 1;
+
+    private static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final int LENGTH = 13;
+    private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final long node;
+    private final LongSupplier clock;
+
+    // (millis since EPOCH << SEQUENCE_BITS) | sequence of the last id
+    private final AtomicLong last = new AtomicLong();
+
+    public BookingReferenceGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    BookingReferenceGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException(
+                    "Node id must be between 0 and " + MAX_NODE_ID
+            );
+        }
+        this.node = nodeId;
+        this.clock = clock;
+    }
+
+    public String generate() {
+        return encode("BK-", nextId());
+    }
+
+    public String generateGroup() {
+        return encode("GR-", nextId());
     }
 
-    public static String generate() {
-        return "BK-" + UUID.randomUUID()
-                .toString()
-                .replace("-", "")
-                .substring(0, 10)
-                .toUpperCase();
+    long nextId() {
+        long now = (clock.getAsLong() - EPOCH) << SEQUENCE_BITS;
+
+        while (true) {
+            long previous = last.get();
+            long next = Math.max(now, previous + 1);
+
+            if (last.compareAndSet(previous, next)) {
+                long millis = next >>> SEQUENCE_BITS;
+                return (millis << (NODE_BITS + SEQUENCE_BITS))
+                        | (node << SEQUENCE_BITS)
+                        | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    // Fixed width, most significant digit first, so references sort by id
+    private static String encode(String prefix, long id) {
+        char[] chars = new char[prefix.length() + LENGTH];
+        prefix.getChars(0, prefix.length(), chars, 0);
+
+        for (int i = chars.length - 1; i >= prefix.length(); i--) {
+            chars[i] = CROCKFORD[(int) (id & 31)];
+            id >>>= 5;
+        }
+
+        return new String(chars);
     }
 }
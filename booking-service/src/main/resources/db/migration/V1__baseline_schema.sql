@@ -0,0 +1,49 @@
+-- Schema as Hibernate used to create it with ddl-auto. Everything is
+-- IF NOT EXISTS so databases that were created that way baseline cleanly.
+
+CREATE TABLE IF NOT EXISTS reservations (
+    id                       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    version                  BIGINT DEFAULT 0 NOT NULL,
+    booking_reference        VARCHAR(255) NOT NULL UNIQUE,
+    group_reference          VARCHAR(255),
+    user_email               VARCHAR(255) NOT NULL,
+    guest_name               VARCHAR(255) NOT NULL,
+    number_of_guests         INTEGER NOT NULL,
+    number_of_rooms          INTEGER NOT NULL,
+    hotel_id                 BIGINT NOT NULL,
+    room_category_id         BIGINT NOT NULL,
+    check_in_date            DATE NOT NULL,
+    check_out_date           DATE NOT NULL,
+    price_per_night          NUMERIC(38, 2) NOT NULL,
+    total_amount             NUMERIC(38, 2) NOT NULL,
+    status                   VARCHAR(255) NOT NULL
+        CHECK (status IN ('BOOKED', 'CONFIRMED', 'CHECKED_IN', 'CHECKED_OUT', 'CANCELLED')),
+    payment_status           VARCHAR(255) NOT NULL
+        CHECK (payment_status IN ('PENDING', 'PAID')),
+    check_in_reminder_sent   BOOLEAN NOT NULL,
+    check_out_reminder_sent  BOOLEAN NOT NULL
+);
+
+-- Columns added after the first schema was generated
+ALTER TABLE reservations ADD COLUMN IF NOT EXISTS group_reference VARCHAR(255);
+ALTER TABLE reservations ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+
+CREATE TABLE IF NOT EXISTS stay_records (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    reservation_id  BIGINT NOT NULL UNIQUE REFERENCES reservations (id),
+    check_in_time   TIMESTAMP(6),
+    check_out_time  TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS booking_outbox (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    routing_key   VARCHAR(255) NOT NULL,
+    payload_type  VARCHAR(255) NOT NULL,
+    payload       TEXT NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    sent_at       TIMESTAMP(6),
+    attempts      INTEGER NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_booking_outbox_unsent
+    ON booking_outbox (sent_at, id);
@@ -0,0 +1,38 @@
+-- Indexes for the reservation lookups, reminder scans and reports.
+-- Built CONCURRENTLY so bookings keep being written while they build;
+-- see the .conf file next to this script.
+
+-- Guest bookings, newest check-in first, and their keyset pages
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reservations_user_checkin
+    ON reservations (user_email, check_in_date DESC, id DESC);
+
+-- Hotel bookings and their keyset pages, occupancy reports by check-in
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reservations_hotel_checkin
+    ON reservations (hotel_id, check_in_date DESC, id DESC);
+
+-- Reminder scans only look at rows whose reminder is still due, which is
+-- a sliver of the table
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reservations_checkin_reminder_due
+    ON reservations (check_in_date, status)
+    WHERE check_in_reminder_sent = false;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reservations_checkout_reminder_due
+    ON reservations (check_out_date, status)
+    WHERE check_out_reminder_sent = false;
+
+-- Inventory reconciliation walks a hotel's room-holding bookings by id
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reservations_hotel_holding
+    ON reservations (hotel_id, id)
+    WHERE status IN ('BOOKED', 'CONFIRMED', 'CHECKED_IN', 'CHECKED_OUT');
+
+-- Revenue reports only count settled stays; the included columns let the
+-- aggregates run from the index alone
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reservations_hotel_revenue
+    ON reservations (hotel_id, check_out_date)
+    INCLUDE (check_in_date, total_amount)
+    WHERE status = 'CHECKED_OUT' AND payment_status = 'PAID';
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reservations_revenue_checkout
+    ON reservations (check_out_date)
+    INCLUDE (hotel_id, total_amount)
+    WHERE status = 'CHECKED_OUT' AND payment_status = 'PAID';
@@ -0,0 +1,4 @@
+-- Tracks the room allocation saga started by check-in and check-out.
+-- Adding a nullable column without a default only touches the catalog.
+ALTER TABLE reservations ADD COLUMN IF NOT EXISTS room_allocation VARCHAR(255)
+    CHECK (room_allocation IN ('PENDING', 'ALLOCATED', 'FAILED', 'RELEASE_PENDING', 'RELEASED'));
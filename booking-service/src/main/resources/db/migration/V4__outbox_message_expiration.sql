@@ -0,0 +1,3 @@
+-- Per-message TTL for outbox rows that feed a delay queue, such as the
+-- payment deadlines. Nullable without a default, so only the catalog changes.
+ALTER TABLE booking_outbox ADD COLUMN IF NOT EXISTS expiration VARCHAR(32);
@@ -0,0 +1,3 @@
+-- When the current room allocation or release request was last sent, so
+-- requests whose answer never arrived can be sent again.
+ALTER TABLE reservations ADD COLUMN IF NOT EXISTS room_allocation_requested_at TIMESTAMP(6);
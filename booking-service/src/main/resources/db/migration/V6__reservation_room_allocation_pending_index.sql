@@ -0,0 +1,6 @@
+-- The saga sweep only looks at requests still waiting for hotel-service,
+-- which is a sliver of the table. Built CONCURRENTLY; see the .conf file
+-- next to this script.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reservations_room_allocation_pending
+    ON reservations (room_allocation_requested_at)
+    WHERE room_allocation IN ('PENDING', 'RELEASE_PENDING');
@@ -0,0 +1,25 @@
+-- Atomically shifts every existing night counter of a category by a delta,
+-- applying each inventory change at most once.
+-- KEYS[1]     : marker key of the inventory change being applied
+-- KEYS[2..n]  : one availability counter per night, in date order
+-- ARGV[1]     : signed number of rooms to add
+-- ARGV[2]     : seconds to keep the marker
+-- Returns -1 when the change was already applied, otherwise the number of
+-- counters shifted. Missing counters are left alone: they are seeded from
+-- the new category total on next access.
+
+if not redis.call('SET', KEYS[1], '1', 'NX', 'EX', tonumber(ARGV[2])) then
+    return -1
+end
+
+local delta = tonumber(ARGV[1])
+local shifted = 0
+
+for i = 2, #KEYS do
+    if redis.call('EXISTS', KEYS[i]) == 1 then
+        redis.call('INCRBY', KEYS[i], delta)
+        shifted = shifted + 1
+    end
+end
+
+return shifted
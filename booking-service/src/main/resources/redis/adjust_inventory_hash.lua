@@ -0,0 +1,23 @@
+-- Hash-per-month variant of adjust_inventory.lua.
+-- KEYS[1]      : marker key of the inventory change being applied
+-- KEYS[1 + i]  : month hash of night i, in date order
+-- ARGV[1]      : signed number of rooms to add
+-- ARGV[2]      : seconds to keep the marker
+-- ARGV[2 + i]  : day-of-month field of night i
+
+if not redis.call('SET', KEYS[1], '1', 'NX', 'EX', tonumber(ARGV[2])) then
+    return -1
+end
+
+local delta = tonumber(ARGV[1])
+local shifted = 0
+
+for i = 2, #KEYS do
+    local field = ARGV[1 + i]
+    if redis.call('HEXISTS', KEYS[i], field) == 1 then
+        redis.call('HINCRBY', KEYS[i], field, delta)
+        shifted = shifted + 1
+    end
+end
+
+return shifted
@@ -0,0 +1,32 @@
+-- Claims up to ARGV[3] holds whose deadline is at or before ARGV[2], in
+-- deadline order, deleting each one.
+-- KEYS[1]    : expiry sorted set (member = hold id, score = deadline ms)
+-- ARGV[1]    : prefix of the hold hashes
+-- ARGV[2]    : now, epoch millis
+-- ARGV[3]    : maximum holds to claim
+-- ARGV[4..n] : hash fields to return per hold
+-- Returns a flat list: id followed by the requested fields, per hold.
+
+local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[2], 'LIMIT', 0, tonumber(ARGV[3]))
+
+local fields = {}
+for i = 4, #ARGV do
+    fields[#fields + 1] = ARGV[i]
+end
+
+local claimed = {}
+
+for _, id in ipairs(ids) do
+    redis.call('ZREM', KEYS[1], id)
+
+    local key = ARGV[1] .. id
+    local values = redis.call('HMGET', key, unpack(fields))
+    redis.call('DEL', key)
+
+    claimed[#claimed + 1] = id
+    for _, value in ipairs(values) do
+        claimed[#claimed + 1] = value
+    end
+end
+
+return claimed
@@ -0,0 +1,22 @@
+-- Takes a hold out of the expiry index and deletes it, returning its
+-- fields. Only one caller can claim a given hold, so it is either turned
+-- into a booking or released by the sweeper, never both.
+-- KEYS[1] : hold hash
+-- KEYS[2] : expiry sorted set
+-- ARGV[1] : hold id
+-- ARGV[2..n] : hash fields to return
+-- Returns nil when the hold was already claimed.
+
+if redis.call('ZREM', KEYS[2], ARGV[1]) == 0 then
+    return nil
+end
+
+local fields = {}
+for i = 2, #ARGV do
+    fields[#fields + 1] = ARGV[i]
+end
+
+local values = redis.call('HMGET', KEYS[1], unpack(fields))
+redis.call('DEL', KEYS[1])
+
+return values
@@ -0,0 +1,15 @@
+-- Atomically returns rooms to every night of a stay.
+-- KEYS    : one availability counter per night, in date order
+-- ARGV[1] : number of rooms to release
+-- Missing counters are left alone: they are seeded with the full
+-- category total on next access, which already includes these rooms.
+
+local rooms = tonumber(ARGV[1])
+
+for _, key in ipairs(KEYS) do
+    if redis.call('EXISTS', key) == 1 then
+        redis.call('INCRBY', key, rooms)
+    end
+end
+
+return 0
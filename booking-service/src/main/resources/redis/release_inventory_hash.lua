@@ -0,0 +1,16 @@
+-- Hash-per-month variant of release_inventory.lua.
+-- KEYS         : month hash of each night, in date order
+-- ARGV[1]      : number of rooms to release
+-- ARGV[1 + i]  : day-of-month field of night i
+-- Missing counters are left alone, as in the string layout.
+
+local rooms = tonumber(ARGV[1])
+
+for i, key in ipairs(KEYS) do
+    local field = ARGV[1 + i]
+    if redis.call('HEXISTS', key, field) == 1 then
+        redis.call('HINCRBY', key, field, rooms)
+    end
+end
+
+return 0
@@ -0,0 +1,11 @@
+-- Deletes a lock only while it still holds the caller's token, so a run
+-- whose lock expired cannot delete the lock of the run that took over.
+-- KEYS[1] : lock key
+-- ARGV[1] : token set when the lock was taken
+-- Returns 1 when the lock was deleted, 0 otherwise.
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+
+return 0
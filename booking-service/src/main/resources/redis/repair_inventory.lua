@@ -0,0 +1,19 @@
+-- Sets drifted counters to their expected value, but only where the
+-- counter still holds the value the reconciler observed, so a reserve or
+-- release that ran in between is never overwritten.
+-- KEYS       : one availability counter per night
+-- ARGV[2i-1] : observed value of KEYS[i]
+-- ARGV[2i]   : expected value of KEYS[i]
+-- Returns the number of counters repaired. INCRBY keeps the key's TTL.
+
+local repaired = 0
+
+for i, key in ipairs(KEYS) do
+    local current = redis.call('GET', key)
+    if current and tonumber(current) == tonumber(ARGV[2 * i - 1]) then
+        redis.call('INCRBY', key, tonumber(ARGV[2 * i]) - tonumber(current))
+        repaired = repaired + 1
+    end
+end
+
+return repaired
@@ -0,0 +1,18 @@
+-- Hash-per-month variant of repair_inventory.lua.
+-- KEYS       : month hash of each night
+-- ARGV[3i-2] : day-of-month field of night i
+-- ARGV[3i-1] : observed value of night i
+-- ARGV[3i]   : expected value of night i
+
+local repaired = 0
+
+for i, key in ipairs(KEYS) do
+    local field = ARGV[3 * i - 2]
+    local current = redis.call('HGET', key, field)
+    if current and tonumber(current) == tonumber(ARGV[3 * i - 1]) then
+        redis.call('HINCRBY', key, field, tonumber(ARGV[3 * i]) - tonumber(current))
+        repaired = repaired + 1
+    end
+end
+
+return repaired
@@ -0,0 +1,29 @@
+-- Atomically checks and decrements every night of a stay.
+-- KEYS    : one availability counter per night, in date order
+-- ARGV[1] : number of rooms to reserve
+-- ARGV[2] : total rooms used to seed missing counters ('' when unknown)
+-- Returns 0 on success, i when night i has too few rooms,
+-- and -i when night i is missing and no seed value was supplied.
+
+local rooms = tonumber(ARGV[1])
+local seed = ARGV[2]
+
+for i, key in ipairs(KEYS) do
+    local value = redis.call('GET', key)
+    if not value then
+        if seed == '' then
+            return -i
+        end
+        value = seed
+    end
+    if tonumber(value) < rooms then
+        return i
+    end
+end
+
+for _, key in ipairs(KEYS) do
+    redis.call('SETNX', key, seed)
+    redis.call('DECRBY', key, rooms)
+end
+
+return 0
@@ -0,0 +1,34 @@
+-- Hash-per-month variant of reserve_inventory.lua.
+-- KEYS         : month hash of each night, in date order
+-- ARGV[1]      : number of rooms to reserve
+-- ARGV[2]      : total rooms used to seed missing counters ('' when unknown)
+-- ARGV[1 + 2i] : day-of-month field of night i
+-- ARGV[2 + 2i] : unix time at which KEYS[i] expires
+-- Returns 0 on success, i when night i has too few rooms,
+-- and -i when night i is missing and no seed value was supplied.
+
+local rooms = tonumber(ARGV[1])
+local seed = ARGV[2]
+
+for i, key in ipairs(KEYS) do
+    local value = redis.call('HGET', key, ARGV[1 + 2 * i])
+    if not value then
+        if seed == '' then
+            return -i
+        end
+        value = seed
+    end
+    if tonumber(value) < rooms then
+        return i
+    end
+end
+
+for i, key in ipairs(KEYS) do
+    local field = ARGV[1 + 2 * i]
+    if seed ~= '' and redis.call('HSETNX', key, field, seed) == 1 then
+        redis.call('EXPIREAT', key, ARGV[2 + 2 * i])
+    end
+    redis.call('HINCRBY', key, field, -rooms)
+end
+
+return 0
@@ -0,0 +1,21 @@
+-- Atomically checks and decrements every night of several categories,
+-- e.g. all the lines of a group booking.
+-- KEYS         : one availability counter per (category, night)
+-- ARGV[2i - 1] : number of rooms to take from KEYS[i]
+-- ARGV[2i]     : total rooms used to seed KEYS[i] when it is missing
+-- Returns 0 on success and i when KEYS[i] has too few rooms; nothing is
+-- decremented unless every counter can cover its line.
+
+for i, key in ipairs(KEYS) do
+    local value = redis.call('GET', key) or ARGV[2 * i]
+    if tonumber(value) < tonumber(ARGV[2 * i - 1]) then
+        return i
+    end
+end
+
+for i, key in ipairs(KEYS) do
+    redis.call('SETNX', key, ARGV[2 * i])
+    redis.call('DECRBY', key, ARGV[2 * i - 1])
+end
+
+return 0
@@ -0,0 +1,25 @@
+-- Hash-per-month variant of reserve_inventory_multi.lua.
+-- KEYS         : month hash of each (category, night)
+-- ARGV[4i - 3] : day-of-month field of KEYS[i]
+-- ARGV[4i - 2] : unix time at which KEYS[i] expires
+-- ARGV[4i - 1] : number of rooms to take from the field
+-- ARGV[4i]     : total rooms used to seed the field when it is missing
+-- Returns 0 on success and i when entry i has too few rooms; nothing is
+-- decremented unless every counter can cover its line.
+
+for i, key in ipairs(KEYS) do
+    local value = redis.call('HGET', key, ARGV[4 * i - 3]) or ARGV[4 * i]
+    if tonumber(value) < tonumber(ARGV[4 * i - 1]) then
+        return i
+    end
+end
+
+for i, key in ipairs(KEYS) do
+    local field = ARGV[4 * i - 3]
+    if redis.call('HSETNX', key, field, ARGV[4 * i]) == 1 then
+        redis.call('EXPIREAT', key, ARGV[4 * i - 2])
+    end
+    redis.call('HINCRBY', key, field, -tonumber(ARGV[4 * i - 1]))
+end
+
+return 0
@@ -0,0 +1,90 @@
+package com.booking.bookingservice.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.booking.bookingservice.repository.inventory.RangeMinTree;
+
+/**
+ * Minimum rooms free over a stay: the per-night loop used on counters read
+ * from Redis against a {@link RangeMinTree} query over the horizon.
+ *
+ * Not run by the build. Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.booking.bookingservice.benchmark.AvailabilityIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AvailabilityIndexBenchmark {
+
+    private static final int HORIZON = 365;
+
+    @Param({"1", "7", "30", "90"})
+    private int nights;
+
+    private int[] counters;
+    private RangeMinTree tree;
+    private int[] starts;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        counters = new int[HORIZON];
+        for (int n = 0; n < HORIZON; n++) {
+            counters[n] = random.nextInt(50);
+        }
+        tree = new RangeMinTree(counters);
+
+        starts = new int[1024];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = random.nextInt(HORIZON - nights + 1);
+        }
+    }
+
+    private int nextStart() {
+        return starts[next++ & (starts.length - 1)];
+    }
+
+    @Benchmark
+    public int loopOverNights() {
+        int from = nextStart();
+        int min = Integer.MAX_VALUE;
+        for (int n = from; n < from + nights; n++) {
+            min = Math.min(min, counters[n]);
+        }
+        return min;
+    }
+
+    @Benchmark
+    public int rangeMinTree() {
+        int from = nextStart();
+        return tree.min(from, from + nights);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AvailabilityIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
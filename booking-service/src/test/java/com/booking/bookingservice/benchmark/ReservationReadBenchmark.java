@@ -0,0 +1,211 @@
+package com.booking.bookingservice.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.booking.bookingservice.dto.response.BookingResponse;
+import com.booking.bookingservice.model.Reservation;
+import com.booking.bookingservice.repository.BookingView;
+import com.booking.bookingservice.repository.ReservationRepository;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * A hotel's 10,000 bookings read as managed entities in a read-write
+ * transaction (the old read path), as entities in a read-only transaction,
+ * and as {@link BookingView} projections in a read-only transaction. Each
+ * list is mapped to {@link BookingResponse}s, as the service does.
+ *
+ * Runs against an embedded PostgreSQL with the Flyway schema. The GC
+ * profiler reports allocation per call as gc.alloc.rate.norm.
+ *
+ * Not run by the build. JMH forks a JVM that needs the test classpath on
+ * the command line, so run it with java rather than exec:java:
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt
+ * java -cp target/test-classes:target/classes:$(cat cp.txt)
+ *     com.booking.bookingservice.benchmark.ReservationReadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationReadBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final long HOTEL_ID = 1L;
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+
+    private ReservationRepository reservationRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @Setup
+    public void setUp() throws IOException {
+        postgres = EmbeddedPostgres.start();
+
+        context = new SpringApplicationBuilder(BenchmarkConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.cloud.config.enabled=false",
+                        "spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "spring.datasource.username=postgres",
+                        "spring.datasource.password=postgres"
+                )
+                .run();
+
+        context.getBean(JdbcTemplate.class).update("""
+                INSERT INTO reservations (
+                    booking_reference, user_email, guest_name,
+                    number_of_guests, number_of_rooms, hotel_id, room_category_id,
+                    check_in_date, check_out_date, price_per_night, total_amount,
+                    status, payment_status, check_in_reminder_sent, check_out_reminder_sent
+                )
+                SELECT 'BK' || i, 'guest' || i || '@test.com', 'Guest ' || i,
+                       2, 1, ?, i % 7,
+                       DATE '2025-01-01' + (i % 365), DATE '2025-01-03' + (i % 365),
+                       3000, 6000, 'CONFIRMED', 'PENDING', false, false
+                FROM generate_series(1, ?) AS i
+                """, HOTEL_ID, ROWS);
+
+        reservationRepository = context.getBean(ReservationRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+
+        PlatformTransactionManager transactionManager =
+                context.getBean(PlatformTransactionManager.class);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public List<BookingResponse> entitiesReadWrite() {
+        return readWrite.execute(status -> loadEntities());
+    }
+
+    @Benchmark
+    public List<BookingResponse> entitiesReadOnly() {
+        return readOnly.execute(status -> loadEntities());
+    }
+
+    @Benchmark
+    public List<BookingResponse> projectionsReadOnly() {
+        return readOnly.execute(status ->
+                reservationRepository.findViewsByHotelId(HOTEL_ID)
+                        .stream()
+                        .map(ReservationReadBenchmark::toResponse)
+                        .toList()
+        );
+    }
+
+    private List<BookingResponse> loadEntities() {
+        return entityManager
+                .createQuery(
+                        "SELECT r FROM Reservation r WHERE r.hotelId = :hotelId",
+                        Reservation.class
+                )
+                .setParameter("hotelId", HOTEL_ID)
+                .getResultStream()
+                .map(ReservationReadBenchmark::toResponse)
+                .toList();
+    }
+
+    private static BookingResponse toResponse(Reservation r) {
+        return BookingResponse.builder()
+                .bookingId(r.getId())
+                .bookingReference(r.getBookingReference())
+                .guestName(r.getGuestName())
+                .numberOfGuests(r.getNumberOfGuests())
+                .numberOfRooms(r.getNumberOfRooms())
+                .status(r.getStatus())
+                .hotelId(r.getHotelId())
+                .roomCategoryId(r.getRoomCategoryId())
+                .checkInDate(r.getCheckInDate())
+                .checkOutDate(r.getCheckOutDate())
+                .totalAmount(r.getTotalAmount())
+                .build();
+    }
+
+    private static BookingResponse toResponse(BookingView v) {
+        return BookingResponse.builder()
+                .bookingId(v.getId())
+                .bookingReference(v.getBookingReference())
+                .guestName(v.getGuestName())
+                .numberOfGuests(v.getNumberOfGuests())
+                .numberOfRooms(v.getNumberOfRooms())
+                .status(v.getStatus())
+                .hotelId(v.getHotelId())
+                .roomCategoryId(v.getRoomCategoryId())
+                .checkInDate(v.getCheckInDate())
+                .checkOutDate(v.getCheckOutDate())
+                .totalAmount(v.getTotalAmount())
+                .build();
+    }
+
+    // Only the persistence stack; no web, messaging, Redis or discovery
+    @Configuration
+    @ImportAutoConfiguration({
+            DataSourceAutoConfiguration.class,
+            FlywayAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            JdbcTemplateAutoConfiguration.class,
+            TransactionAutoConfiguration.class
+    })
+    @EntityScan(basePackageClasses = Reservation.class)
+    @EnableJpaRepositories(basePackageClasses = ReservationRepository.class)
+    static class BenchmarkConfig {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ReservationReadBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,80 @@
+package com.booking.bookingservice.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+
+class MethodTimeoutCapabilityTest {
+
+    private static final Request.Options DEFAULTS =
+            new Request.Options(10, TimeUnit.SECONDS, 60, TimeUnit.SECONDS, true);
+
+    private static final Request.Options CATEGORY =
+            new Request.Options(1, TimeUnit.SECONDS, 2, TimeUnit.SECONDS, true);
+
+    private final List<MethodMetadata> metadata =
+            new SpringMvcContract().parseAndValidateMetadata(HotelServiceClient.class);
+
+    private final MethodTimeoutCapability capability =
+            new MethodTimeoutCapability(Map.of("getCategoryById", CATEGORY));
+
+    private Request requestFor(String methodName) {
+        MethodMetadata method = metadata.stream()
+                .filter(m -> m.method().getName().equals(methodName))
+                .findFirst()
+                .orElseThrow();
+
+        RequestTemplate template = new RequestTemplate().methodMetadata(method);
+
+        return Request.create(
+                Request.HttpMethod.GET, "http://hotel-service/x", new HashMap<>(),
+                null, StandardCharsets.UTF_8, template
+        );
+    }
+
+    @Test
+    void enrich_shouldPassMethodOptionsToWrappedClient() throws Exception {
+
+        AtomicReference<Request.Options> used = new AtomicReference<>();
+        Client delegate = (request, options) -> {
+            used.set(options);
+            return Response.builder().status(200).request(request).build();
+        };
+
+        capability.enrich(delegate).execute(requestFor("getCategoryById"), DEFAULTS);
+
+        assertSame(CATEGORY, used.get());
+    }
+
+    @Test
+    void optionsFor_methodWithoutEntry_shouldKeepClientOptions() {
+
+        assertSame(DEFAULTS, capability.optionsFor(requestFor("getAllHotels"), DEFAULTS));
+    }
+
+    @Test
+    void optionsFor_requestWithoutMetadata_shouldKeepClientOptions() {
+
+        Request request = Request.create(
+                Request.HttpMethod.GET, "http://hotel-service/x", new HashMap<>(),
+                null, StandardCharsets.UTF_8, new RequestTemplate()
+        );
+
+        assertEquals(DEFAULTS, capability.optionsFor(request, DEFAULTS));
+    }
+}
@@ -0,0 +1,107 @@
+package com.booking.bookingservice.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import com.booking.bookingservice.dto.response.RoomCategoryResponseDto;
+import com.booking.bookingservice.exception.ServiceUnavailableException;
+
+import io.github.resilience4j.springboot3.bulkhead.autoconfigure.BulkheadAutoConfiguration;
+import io.github.resilience4j.springboot3.circuitbreaker.autoconfigure.CircuitBreakerAutoConfiguration;
+
+@SpringBootTest(
+        classes = ResilientHotelServiceClient.class,
+        properties = {
+                "resilience4j.bulkhead.instances.hotelCategoryById.max-concurrent-calls=2",
+                "resilience4j.bulkhead.instances.hotelCategoryById.max-wait-duration=0",
+                "resilience4j.bulkhead.instances.hotelCategoriesByHotel.max-concurrent-calls=2",
+                "resilience4j.bulkhead.instances.hotelCategoriesByHotel.max-wait-duration=0",
+                "resilience4j.circuitbreaker.instances.hotelService.ignore-exceptions="
+                        + "io.github.resilience4j.bulkhead.BulkheadFullException"
+        }
+)
+@ImportAutoConfiguration({
+        AopAutoConfiguration.class,
+        CircuitBreakerAutoConfiguration.class,
+        BulkheadAutoConfiguration.class
+})
+class ResilientHotelServiceClientBulkheadTest {
+
+    @Autowired
+    private ResilientHotelServiceClient client;
+
+    @MockBean
+    private HotelServiceClient hotelServiceClient;
+
+    @Test
+    void getCategoryById_whenBulkheadFull_shouldFailFastWithServiceUnavailable()
+            throws Exception {
+
+        CountDownLatch inFlight = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // hotel-service hangs on every category lookup
+        when(hotelServiceClient.getCategoryById(1L)).thenAnswer(inv -> {
+            inFlight.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new RoomCategoryResponseDto();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            executor.submit(() -> client.getCategoryById(1L));
+            executor.submit(() -> client.getCategoryById(1L));
+            assertTrue(inFlight.await(5, TimeUnit.SECONDS));
+
+            long start = System.nanoTime();
+            assertThrows(ServiceUnavailableException.class, () ->
+                    client.getCategoryById(1L));
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void getCategoriesByHotel_whenCategoryByIdBulkheadFull_shouldStillBeServed()
+            throws Exception {
+
+        CountDownLatch inFlight = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(hotelServiceClient.getCategoryById(2L)).thenAnswer(inv -> {
+            inFlight.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new RoomCategoryResponseDto();
+        });
+        when(hotelServiceClient.getCategoriesByHotel(7L)).thenReturn(List.of());
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            executor.submit(() -> client.getCategoryById(2L));
+            executor.submit(() -> client.getCategoryById(2L));
+            assertTrue(inFlight.await(5, TimeUnit.SECONDS));
+
+            assertEquals(List.of(), client.getCategoriesByHotel(7L));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+}
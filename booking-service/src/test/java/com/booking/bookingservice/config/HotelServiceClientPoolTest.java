@@ -0,0 +1,54 @@
+package com.booking.bookingservice.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import org.apache.hc.client5.http.config.Configurable;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.openfeign.clientconfig.HttpClient5FeignConfiguration;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+// Builds the Feign HttpClient 5 transport from application.properties
+@SpringBootTest(classes = HotelServiceClientPoolTest.PoolConfig.class)
+class HotelServiceClientPoolTest {
+
+    @Configuration
+    @EnableConfigurationProperties(FeignHttpClientProperties.class)
+    @Import(HttpClient5FeignConfiguration.class)
+    static class PoolConfig {
+    }
+
+    @Autowired
+    private CloseableHttpClient httpClient;
+
+    @Autowired
+    private HttpClientConnectionManager connectionManager;
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void connectionRequestTimeout_shouldBeOneSecond() {
+
+        RequestConfig config = assertInstanceOf(Configurable.class, httpClient).getConfig();
+
+        assertEquals(1000, config.getConnectionRequestTimeout().toMilliseconds());
+    }
+
+    @Test
+    void pool_shouldUseConfiguredSizes() {
+
+        PoolingHttpClientConnectionManager pool =
+                assertInstanceOf(PoolingHttpClientConnectionManager.class, connectionManager);
+
+        assertEquals(200, pool.getMaxTotal());
+        assertEquals(50, pool.getDefaultMaxPerRoute());
+    }
+}
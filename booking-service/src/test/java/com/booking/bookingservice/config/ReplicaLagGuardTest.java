@@ -0,0 +1,67 @@
+package com.booking.bookingservice.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagGuardTest {
+
+    @Mock
+    private JdbcTemplate replica;
+
+    private ReplicaLagGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        guard = new ReplicaLagGuard(replica, Duration.ofSeconds(5), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void isReplicaUsable_beforeFirstCheck_shouldBeFalse() {
+        assertFalse(guard.isReplicaUsable());
+    }
+
+    @Test
+    void check_shouldFollowLagAgainstLimit() {
+
+        when(replica.queryForObject(anyString(), eq(Double.class)))
+                .thenReturn(1.5, 12.0, 0.0);
+
+        guard.check();
+        assertTrue(guard.isReplicaUsable());
+
+        guard.check();
+        assertFalse(guard.isReplicaUsable());
+
+        guard.check();
+        assertTrue(guard.isReplicaUsable());
+    }
+
+    @Test
+    void check_whenReplicaUnreachable_shouldStopUsingIt() {
+
+        when(replica.queryForObject(anyString(), eq(Double.class)))
+                .thenReturn(0.0)
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        guard.check();
+        guard.check();
+
+        assertFalse(guard.isReplicaUsable());
+    }
+}
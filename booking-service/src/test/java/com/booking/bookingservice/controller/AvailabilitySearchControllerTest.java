@@ -0,0 +1,63 @@
+package com.booking.bookingservice.controller;
+
+import com.booking.bookingservice.config.TestSecurityConfig;
+import com.booking.bookingservice.dto.response.CityAvailabilityResponse;
+import com.booking.bookingservice.dto.response.HotelSearchResultResponse;
+import com.booking.bookingservice.service.HotelSearchService;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AvailabilitySearchController.class)
+@Import(TestSecurityConfig.class)
+class AvailabilitySearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private HotelSearchService hotelSearchService;
+
+    @Test
+    void searchByCity_shouldReturn200() throws Exception {
+
+        LocalDate checkIn = LocalDate.of(2026, 1, 10);
+        LocalDate checkOut = LocalDate.of(2026, 1, 12);
+
+        HotelSearchResultResponse hotel = HotelSearchResultResponse.builder()
+                .hotelId(1L)
+                .hotelName("Grand")
+                .categoryId(2L)
+                .categoryName("DELUXE")
+                .availableRooms(3)
+                .pricePerNight(BigDecimal.valueOf(3500))
+                .totalPrice(BigDecimal.valueOf(7000))
+                .build();
+
+        when(hotelSearchService.searchByCity("Pune", checkIn, checkOut, 1, 2))
+                .thenReturn(new CityAvailabilityResponse(
+                        "Pune", checkIn, checkOut, true, List.of(hotel)
+                ));
+
+        mockMvc.perform(get("/availability/search")
+                .param("city", "Pune")
+                .param("checkIn", "2026-01-10")
+                .param("checkOut", "2026-01-12")
+                .param("guests", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.complete").value(true))
+                .andExpect(jsonPath("$.hotels[0].categoryName").value("DELUXE"));
+    }
+}
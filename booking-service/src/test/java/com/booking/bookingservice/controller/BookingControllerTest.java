@@ -2,10 +2,15 @@ package com.booking.bookingservice.controller;
 
 import com.booking.bookingservice.config.TestSecurityConfig;
 import com.booking.bookingservice.dto.request.CreateBookingRequest;
+import com.booking.bookingservice.dto.request.CreateGroupBookingRequest;
+import com.booking.bookingservice.dto.request.GroupBookingItemRequest;
+import com.booking.bookingservice.dto.response.BookingPageResponse;
 import com.booking.bookingservice.dto.response.BookingResponse;
+import com.booking.bookingservice.dto.response.GroupBookingResponse;
 import com.booking.bookingservice.exception.UnauthorizedException;
 import com.booking.bookingservice.model.ReservationStatus;
 import com.booking.bookingservice.service.BookingService;
+import com.booking.bookingservice.service.IdempotencyService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.junit.jupiter.api.Test;
@@ -18,10 +23,15 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -37,6 +47,9 @@ class BookingControllerTest {
     @MockBean
     private BookingService bookingService;
 
+    @MockBean
+    private IdempotencyService idempotencyService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -73,6 +86,96 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$.bookingReference").value("BK123"));
     }
 
+    @Test
+    void createBooking_withIdempotencyKey_shouldGoThroughIdempotencyService() throws Exception {
+
+        BookingResponse response = BookingResponse.builder()
+                .bookingId(1L)
+                .bookingReference("BK123")
+                .status(ReservationStatus.BOOKED)
+                .build();
+
+        when(idempotencyService.execute(
+                eq("bookings:john@test.com:retry-1"),
+                any(),
+                eq(BookingResponse.class),
+                any()))
+                .thenReturn(response);
+
+        CreateBookingRequest request = new CreateBookingRequest();
+        request.setHotelId(1L);
+        request.setRoomCategoryId(2L);
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(2));
+        request.setGuestName("John Doe");
+        request.setNumberOfGuests(2);
+        request.setNumberOfRooms(1);
+
+        mockMvc.perform(post("/bookings")
+                .header("X-User-Email", "john@test.com")
+                .header("X-User-Role", "GUEST")
+                .header("Idempotency-Key", "retry-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.bookingReference").value("BK123"));
+
+        verifyNoInteractions(bookingService);
+    }
+
+    @Test
+    void createGroupBooking_validRequest_shouldReturn201() throws Exception {
+
+        GroupBookingResponse response = GroupBookingResponse.builder()
+                .groupReference("GR123")
+                .bookings(List.of())
+                .totalRooms(7)
+                .build();
+
+        when(bookingService.createGroupBooking(any(), eq("planner@test.com"), eq("GUEST")))
+                .thenReturn(response);
+
+        GroupBookingItemRequest item = new GroupBookingItemRequest();
+        item.setRoomCategoryId(2L);
+        item.setNumberOfGuests(10);
+        item.setNumberOfRooms(7);
+
+        CreateGroupBookingRequest request = new CreateGroupBookingRequest();
+        request.setHotelId(1L);
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(2));
+        request.setGuestName("Planner");
+        request.setItems(List.of(item));
+
+        mockMvc.perform(post("/bookings/group")
+                .header("X-User-Email", "planner@test.com")
+                .header("X-User-Role", "GUEST")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.groupReference").value("GR123"));
+    }
+
+    @Test
+    void createGroupBooking_withoutItems_shouldReturn400() throws Exception {
+
+        CreateGroupBookingRequest request = new CreateGroupBookingRequest();
+        request.setHotelId(1L);
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(2));
+        request.setGuestName("Planner");
+        request.setItems(List.of());
+
+        mockMvc.perform(post("/bookings/group")
+                .header("X-User-Email", "planner@test.com")
+                .header("X-User-Role", "GUEST")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(bookingService);
+    }
+
     @Test
     void createBooking_invalidRequest_shouldReturn400() throws Exception {
 
@@ -213,4 +316,63 @@ class BookingControllerTest {
                 .header("X-User-Role", "GUEST"))
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    void getMyBookingsPage_shouldBindFilterAndReturnNextCursor() throws Exception {
+
+        BookingPageResponse page = BookingPageResponse.builder()
+                .items(List.of(BookingResponse.builder().bookingId(7L).build()))
+                .nextCursor("abc")
+                .build();
+
+        when(bookingService.getMyBookings(
+                eq("john@test.com"), eq("GUEST"),
+                argThat(f -> f.getStatus() == ReservationStatus.CONFIRMED
+                        && LocalDate.of(2026, 1, 1).equals(f.getFrom())),
+                eq("prev"), eq(10)))
+                .thenReturn(page);
+
+        mockMvc.perform(get("/bookings/my/page")
+                .header("X-User-Email", "john@test.com")
+                .header("X-User-Role", "GUEST")
+                .param("status", "CONFIRMED")
+                .param("from", "2026-01-01")
+                .param("cursor", "prev")
+                .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].bookingId").value(7))
+                .andExpect(jsonPath("$.nextCursor").value("abc"));
+    }
+
+    @Test
+    void streamHotelBookings_shouldWriteOneJsonLinePerBooking() throws Exception {
+
+        doAnswer(inv -> {
+            Consumer<BookingResponse> sink = inv.getArgument(3);
+            sink.accept(BookingResponse.builder().bookingId(1L).build());
+            sink.accept(BookingResponse.builder().bookingId(2L).build());
+            return null;
+        }).when(bookingService).streamBookingsByHotel(eq(1L), eq("MANAGER"), any(), any());
+
+        String body = mockMvc.perform(get("/bookings/hotel/1/stream")
+                .header("X-User-Role", "MANAGER"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(2L, objectMapper.readTree(lines[1]).get("bookingId").asLong());
+    }
+
+    @Test
+    void getManagerBookingsPage_asNonManager_shouldReturn401() throws Exception {
+
+        mockMvc.perform(get("/bookings/manager/page")
+                .header("X-User-Email", "john@test.com")
+                .header("X-User-Role", "GUEST"))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(bookingService);
+    }
 }
@@ -0,0 +1,75 @@
+package com.booking.bookingservice.controller;
+
+import com.booking.bookingservice.config.TestSecurityConfig;
+import com.booking.bookingservice.dto.request.CreateHoldRequest;
+import com.booking.bookingservice.dto.response.HoldResponse;
+import com.booking.bookingservice.service.HoldService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(HoldController.class)
+@Import(TestSecurityConfig.class)
+class HoldControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private HoldService holdService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void createHold_shouldReturn201() throws Exception {
+
+        CreateHoldRequest request = new CreateHoldRequest();
+        request.setHotelId(1L);
+        request.setRoomCategoryId(2L);
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(3));
+        request.setNumberOfRooms(1);
+
+        when(holdService.createHold(any(), eq("guest@test.com"), eq("GUEST")))
+                .thenReturn(HoldResponse.builder()
+                        .holdId("hold-1")
+                        .expiresAt(Instant.now().plusSeconds(600))
+                        .build());
+
+        mockMvc.perform(post("/bookings/holds")
+                .header("X-User-Email", "guest@test.com")
+                .header("X-User-Role", "GUEST")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.holdId").value("hold-1"));
+    }
+
+    @Test
+    void releaseHold_shouldReturn204() throws Exception {
+
+        mockMvc.perform(delete("/bookings/holds/hold-1")
+                .header("X-User-Email", "guest@test.com"))
+                .andExpect(status().isNoContent());
+
+        verify(holdService).releaseHold("hold-1", "guest@test.com");
+    }
+}
@@ -1,7 +1,10 @@
 package com.booking.bookingservice.controller;
 
 import com.booking.bookingservice.config.TestSecurityConfig;
+import com.booking.bookingservice.dto.response.AvailabilityCalendarResponse;
 import com.booking.bookingservice.dto.response.BookingResponse;
+import com.booking.bookingservice.dto.response.CalendarDayResponse;
+import com.booking.bookingservice.dto.response.CategoryCalendarResponse;
 import com.booking.bookingservice.dto.response.CategoryAvailabilityResponse;
 import com.booking.bookingservice.dto.response.HotelAvailabilityResponse;
 import com.booking.bookingservice.model.ReservationStatus;
@@ -108,4 +111,35 @@ class HotelAvailabilityControllerTest {
                 .header("X-User-Role", "ADMIN"))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    void getAvailabilityCalendar_shouldReturn200() throws Exception {
+
+        LocalDate from = LocalDate.of(2026, 1, 10);
+        LocalDate to = LocalDate.of(2026, 1, 12);
+
+        AvailabilityCalendarResponse response =
+                new AvailabilityCalendarResponse(
+                        1L,
+                        from,
+                        to,
+                        List.of(new CategoryCalendarResponse(
+                                1L,
+                                "DELUXE",
+                                List.of(
+                                        new CalendarDayResponse(from, 3, BigDecimal.valueOf(3500)),
+                                        new CalendarDayResponse(from.plusDays(1), 0, BigDecimal.valueOf(3500))
+                                )
+                        ))
+                );
+
+        when(availabilityService.getAvailabilityCalendar(1L, from, to))
+                .thenReturn(response);
+
+        mockMvc.perform(get("/hotels/1/availability/calendar")
+                .param("from", "2026-01-10")
+                .param("to", "2026-01-12"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categories[0].days[1].availableRooms").value(0));
+    }
 }
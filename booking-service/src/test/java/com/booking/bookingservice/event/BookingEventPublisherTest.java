@@ -0,0 +1,70 @@
+package com.booking.bookingservice.event;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import com.booking.bookingservice.model.OutboxEvent;
+import com.booking.bookingservice.repository.OutboxEventRepository;
+
+class BookingEventPublisherTest {
+
+    private OutboxEventRepository outboxEventRepository;
+    private BookingEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        publisher = new BookingEventPublisher(
+                outboxEventRepository,
+                new Jackson2JsonMessageConverter()
+        );
+    }
+
+    @Test
+    void publish_shouldWriteConvertedEventToOutbox() {
+
+        publisher.publish(
+                "booking.created",
+                BookingEventDTO.builder()
+                        .eventType("BOOKING_CREATED")
+                        .bookingId(7L)
+                        .checkInDate(LocalDate.of(2030, 1, 10))
+                        .build()
+        );
+
+        ArgumentCaptor<OutboxEvent> saved = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(saved.capture());
+
+        OutboxEvent event = saved.getValue();
+        assertEquals("booking.created", event.getRoutingKey());
+        assertEquals(BookingEventDTO.class.getName(), event.getPayloadType());
+        assertTrue(event.getPayload().contains("\"eventType\":\"BOOKING_CREATED\""));
+        assertTrue(event.getPayload().contains("\"bookingId\":7"));
+        assertNull(event.getSentAt());
+        assertEquals(0, event.getAttempts());
+    }
+
+    @Test
+    void publishDelayed_shouldStoreExpirationInMillis() {
+
+        publisher.publishDelayed(
+                "payment.deadline",
+                new PaymentDeadlineMessage(7L),
+                Duration.ofMinutes(30)
+        );
+
+        ArgumentCaptor<OutboxEvent> saved = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(saved.capture());
+
+        assertEquals("payment.deadline", saved.getValue().getRoutingKey());
+        assertEquals("1800000", saved.getValue().getExpiration());
+    }
+}
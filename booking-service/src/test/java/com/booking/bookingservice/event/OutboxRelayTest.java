@@ -0,0 +1,136 @@
+package com.booking.bookingservice.event;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.booking.bookingservice.model.OutboxEvent;
+import com.booking.bookingservice.repository.OutboxEventRepository;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @InjectMocks
+    private OutboxRelay outboxRelay;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 100);
+        ReflectionTestUtils.setField(outboxRelay, "confirmTimeout", Duration.ofMillis(200));
+
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> ((TransactionCallback<?>) inv.getArgument(0))
+                        .doInTransaction(null));
+    }
+
+    @Test
+    void relayBatch_shouldMarkOnlyAckedEventsSent() {
+
+        OutboxEvent acked = event(1L);
+        OutboxEvent nacked = event(2L);
+
+        when(outboxEventRepository.lockUnsent(100))
+                .thenReturn(List.of(acked, nacked));
+
+        doAnswer(inv -> {
+            CorrelationData correlation = inv.getArgument(3);
+            boolean ack = "1".equals(correlation.getId());
+            correlation.getFuture().complete(
+                    new CorrelationData.Confirm(ack, ack ? null : "queue full")
+            );
+            return null;
+        }).when(rabbitTemplate).send(
+                eq("booking.events.exchange"), eq("booking.created"),
+                any(Message.class), any(CorrelationData.class)
+        );
+
+        int sent = outboxRelay.relayBatch();
+
+        assertEquals(1, sent);
+        verify(outboxEventRepository).markSent(eq(List.of(1L)), any(LocalDateTime.class));
+        assertEquals(0, acked.getAttempts());
+        assertEquals(1, nacked.getAttempts());
+    }
+
+    @Test
+    void relayBatch_whenConfirmNeverArrives_shouldLeaveEventUnsent() {
+
+        OutboxEvent event = event(1L);
+
+        when(outboxEventRepository.lockUnsent(100))
+                .thenReturn(List.of(event));
+
+        int sent = outboxRelay.relayBatch();
+
+        assertEquals(0, sent);
+        verify(outboxEventRepository, never()).markSent(any(), any());
+        assertEquals(1, event.getAttempts());
+    }
+
+    @Test
+    void relayBatch_whenOutboxEmpty_shouldSendNothing() {
+
+        when(outboxEventRepository.lockUnsent(100)).thenReturn(List.of());
+
+        assertEquals(0, outboxRelay.relayBatch());
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    @Test
+    void relayBatch_shouldCarryExpirationOfDelayedMessages() {
+
+        OutboxEvent deadline = event(1L);
+        deadline.setRoutingKey("payment.deadline");
+        deadline.setExpiration("1800000");
+
+        when(outboxEventRepository.lockUnsent(100)).thenReturn(List.of(deadline));
+
+        outboxRelay.relayBatch();
+
+        ArgumentCaptor<Message> sent = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate).send(
+                eq("booking.events.exchange"), eq("payment.deadline"),
+                sent.capture(), any(CorrelationData.class)
+        );
+        assertEquals("1800000", sent.getValue().getMessageProperties().getExpiration());
+    }
+
+    private static OutboxEvent event(Long id) {
+        return OutboxEvent.builder()
+                .id(id)
+                .routingKey("booking.created")
+                .payloadType("com.booking.bookingservice.event.BookingEventDTO")
+                .payload("{\"eventType\":\"BOOKING_CREATED\"}")
+                .createdAt(LocalDateTime.now())
+                .attempts(0)
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.booking.bookingservice.event;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import com.booking.bookingservice.dto.response.RoomCategoryResponseDto;
+
+import static com.booking.bookingservice.config.CacheConfig.HOTEL_CATEGORIES_CACHE;
+import static com.booking.bookingservice.config.CacheConfig.ROOM_CATEGORY_CACHE;
+
+class RoomCategoryEventListenerTest {
+
+    private CacheManager cacheManager;
+    private RoomCategoryEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager(ROOM_CATEGORY_CACHE, HOTEL_CATEGORIES_CACHE);
+        listener = new RoomCategoryEventListener(cacheManager);
+    }
+
+    @Test
+    void handleCategoryEvent_shouldEvictCategoryAndHotelEntries() {
+
+        RoomCategoryResponseDto category = new RoomCategoryResponseDto();
+        category.setId(2L);
+
+        cacheManager.getCache(ROOM_CATEGORY_CACHE).put(2L, category);
+        cacheManager.getCache(ROOM_CATEGORY_CACHE).put(3L, category);
+        cacheManager.getCache(HOTEL_CATEGORIES_CACHE).put(1L, List.of(category));
+
+        RoomCategoryEventDTO event = new RoomCategoryEventDTO();
+        event.setEventType("CATEGORY_UPDATED");
+        event.setHotelId(1L);
+        event.setCategoryId(2L);
+
+        listener.handleCategoryEvent(event);
+
+        assertNull(cacheManager.getCache(ROOM_CATEGORY_CACHE).get(2L));
+        assertNotNull(cacheManager.getCache(ROOM_CATEGORY_CACHE).get(3L));
+        assertNull(cacheManager.getCache(HOTEL_CATEGORIES_CACHE).get(1L));
+    }
+}
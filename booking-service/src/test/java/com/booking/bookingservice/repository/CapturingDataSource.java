@@ -0,0 +1,126 @@
+package com.booking.bookingservice.repository;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Records the SQL and parameter bindings of every query run while
+ * {@link #capture} is active, so a test can replay exactly what the
+ * application sent, with the values it bound.
+ */
+class CapturingDataSource extends DelegatingDataSource {
+
+    /**
+     * One executed query and the {@code set*} calls made on it.
+     */
+    record Statement(String sql, List<Binding> bindings) {
+
+        PreparedStatement bind(PreparedStatement target) throws SQLException {
+            for (Binding binding : bindings) {
+                binding.apply(target);
+            }
+            return target;
+        }
+
+        @Override
+        public String toString() {
+            return sql;
+        }
+    }
+
+    record Binding(Method setter, Object[] args) {
+
+        void apply(PreparedStatement target) throws SQLException {
+            try {
+                setter.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw new SQLException(e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private volatile List<Statement> captured;
+
+    CapturingDataSource(DataSource target) {
+        super(target);
+    }
+
+    List<Statement> capture(Supplier<?> call) {
+        List<Statement> statements = new ArrayList<>();
+        captured = statements;
+        try {
+            call.get();
+        } finally {
+            captured = null;
+        }
+        return statements;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (method.getName().equals("prepareStatement")) {
+                return recording((PreparedStatement) result, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private PreparedStatement recording(PreparedStatement statement, String sql) {
+        List<Binding> bindings = new ArrayList<>();
+
+        return proxy(PreparedStatement.class, (proxy, method, args) -> {
+            String name = method.getName();
+
+            if (name.startsWith("set") && args != null && args.length > 1
+                    && args[0] instanceof Integer) {
+                bindings.add(new Binding(method, args.clone()));
+            } else if (name.equals("clearParameters")) {
+                bindings.clear();
+            } else if (name.startsWith("execute") && captured != null) {
+                captured.add(new Statement(sql, List.copyOf(bindings)));
+            }
+
+            return invoke(statement, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(
+                CapturingDataSource.class.getClassLoader(), new Class<?>[] {type}, handler
+        );
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
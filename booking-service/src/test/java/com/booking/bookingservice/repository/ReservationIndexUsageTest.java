@@ -0,0 +1,285 @@
+package com.booking.bookingservice.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.booking.bookingservice.model.ReservationStatus;
+import com.booking.bookingservice.repository.report.BookingReportRepository;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * Runs the Flyway migrations against a real PostgreSQL, lets Hibernate
+ * validate the entities against them, and checks with EXPLAIN that the
+ * reservation queries are answered from the intended indexes.
+ *
+ * Each check calls the repository method itself and EXPLAINs the SQL
+ * Hibernate sent, with the values it bound, so a query that is rewritten
+ * or gains a predicate the index cannot serve breaks the test.
+ *
+ * Sequential scans are switched off for the plans: on a small test table
+ * they would win on cost, and the point here is that an index is usable.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ReservationIndexUsageTest {
+
+    private static final Pageable PAGE = PageRequest.ofSize(21);
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private BookingReportRepository bookingReportRepository;
+
+    @Autowired
+    private CapturingDataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TestConfiguration
+    static class CaptureConfig {
+
+        @Bean
+        static BeanPostProcessor capturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String name) {
+                    return bean instanceof DataSource target && !(bean instanceof CapturingDataSource)
+                            ? new CapturingDataSource(target)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.start();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url",
+                () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @BeforeEach
+    void seed() {
+
+        // 5000 reservations over 50 hotels, 500 guests and three years
+        jdbcTemplate.execute("""
+                INSERT INTO reservations (
+                    booking_reference, user_email, guest_name,
+                    number_of_guests, number_of_rooms, hotel_id, room_category_id,
+                    check_in_date, check_out_date, price_per_night, total_amount,
+                    status, payment_status, check_in_reminder_sent, check_out_reminder_sent
+                )
+                SELECT 'BK' || i, 'guest' || (i % 500) || '@test.com', 'Guest',
+                       2, 1, i % 50, i % 7,
+                       DATE '2024-01-01' + (i % 1000), DATE '2024-01-03' + (i % 1000),
+                       3000, 6000,
+                       (ARRAY['BOOKED', 'CONFIRMED', 'CHECKED_IN', 'CHECKED_OUT', 'CANCELLED'])[i % 5 + 1],
+                       (ARRAY['PENDING', 'PAID'])[i % 2 + 1],
+                       i % 3 > 0, i % 3 > 0
+                FROM generate_series(1, 5000) AS i
+                """);
+
+        jdbcTemplate.execute("ANALYZE reservations");
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @Test
+    void bookingsByGuest_shouldUseUserCheckInIndex() {
+
+        assertUses("idx_reservations_user_checkin", () ->
+                reservationRepository.findViewsByUserEmail("guest7@test.com")
+        );
+
+        // First page with every filter left open, then a filtered keyset page
+        assertUses("idx_reservations_user_checkin", () ->
+                reservationRepository.findPageByUserEmail(
+                        "guest7@test.com", null, null, null, null, null, PAGE
+                )
+        );
+
+        assertUses("idx_reservations_user_checkin", () ->
+                reservationRepository.findPageByUserEmail(
+                        "guest7@test.com", ReservationStatus.CONFIRMED,
+                        LocalDate.of(2024, 1, 1), LocalDate.of(2026, 1, 1),
+                        LocalDate.of(2025, 6, 1), 4000L, PAGE
+                )
+        );
+
+        assertUses("idx_reservations_user_checkin", () -> {
+            try (Stream<BookingView> rows = reservationRepository.streamByUserEmail(
+                    "guest7@test.com", null, LocalDate.of(2025, 1, 1), null
+            )) {
+                return rows.count();
+            }
+        });
+    }
+
+    @Test
+    void bookingsByHotel_shouldUseHotelCheckInIndex() {
+
+        assertUses("idx_reservations_hotel_checkin", () ->
+                reservationRepository.findViewsByHotelId(7L)
+        );
+
+        assertUses("idx_reservations_hotel_checkin", () ->
+                reservationRepository.findPageByHotelId(
+                        7L, null, null, null, null, null, PAGE
+                )
+        );
+
+        assertUses("idx_reservations_hotel_checkin", () ->
+                reservationRepository.findPageByHotelId(
+                        7L, ReservationStatus.CONFIRMED,
+                        LocalDate.of(2025, 1, 1), null,
+                        LocalDate.of(2025, 6, 1), 4000L, PAGE
+                )
+        );
+
+        assertUses("idx_reservations_hotel_checkin", () -> {
+            try (Stream<BookingView> rows = reservationRepository.streamByHotelId(
+                    7L, null, LocalDate.of(2025, 1, 1), null
+            )) {
+                return rows.count();
+            }
+        });
+    }
+
+    @Test
+    void reminderScans_shouldUsePartialReminderIndexes() {
+
+        assertUses("idx_reservations_checkin_reminder_due", () ->
+                reservationRepository.findByStatusAndCheckInDateAndCheckInReminderSentFalse(
+                        ReservationStatus.CONFIRMED, LocalDate.of(2025, 3, 1)
+                )
+        );
+
+        assertUses("idx_reservations_checkout_reminder_due", () ->
+                reservationRepository.findByStatusAndCheckOutDateAndCheckOutReminderSentFalse(
+                        ReservationStatus.CHECKED_IN, LocalDate.of(2025, 3, 1)
+                )
+        );
+    }
+
+    @Test
+    void inventoryReconciliation_shouldUseHoldingIndex() {
+
+        assertUses("idx_reservations_hotel_holding", () ->
+                reservationRepository
+                        .findByHotelIdAndStatusInAndCheckOutDateAfterAndIdGreaterThanOrderByIdAsc(
+                                7L,
+                                EnumSet.of(
+                                        ReservationStatus.BOOKED,
+                                        ReservationStatus.CONFIRMED,
+                                        ReservationStatus.CHECKED_IN,
+                                        ReservationStatus.CHECKED_OUT
+                                ),
+                                LocalDate.of(2025, 3, 1),
+                                1200L,
+                                PageRequest.ofSize(500)
+                        )
+        );
+    }
+
+    @Test
+    void revenueReports_shouldUsePartialRevenueIndexes() {
+
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2026, 1, 1);
+
+        assertUses("idx_reservations_hotel_revenue", () ->
+                bookingReportRepository.getRevenueByHotel(
+                        7L, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31)
+                )
+        );
+
+        assertUses("idx_reservations_hotel_revenue", () ->
+                bookingReportRepository.getMonthlyRevenue(7L, from, to)
+        );
+
+        assertUses("idx_reservations_hotel_revenue", () ->
+                bookingReportRepository.getAverageRevenuePerBooking(7L)
+        );
+
+        assertUses("idx_reservations_revenue_checkout", () ->
+                bookingReportRepository.getMonthlyRevenueForAllHotels(from, to)
+        );
+    }
+
+    @Test
+    void occupancyReports_shouldUseHotelCheckInIndex() {
+
+        assertUses("idx_reservations_hotel_checkin", () ->
+                bookingReportRepository.getOccupancyByStatus(
+                        7L, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31)
+                )
+        );
+
+        assertUses("idx_reservations_hotel_checkin", () ->
+                bookingReportRepository.getMonthlyOccupancy(
+                        7L, LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1)
+                )
+        );
+    }
+
+    /**
+     * Runs the repository call, takes the statement Hibernate sent and
+     * EXPLAINs it with the same parameter bindings.
+     */
+    private void assertUses(String index, Supplier<?> repositoryCall) {
+
+        List<CapturingDataSource.Statement> statements =
+                dataSource.capture(repositoryCall);
+
+        assertEquals(1, statements.size(), () -> "Expected one query, got " + statements);
+        CapturingDataSource.Statement statement = statements.get(0);
+
+        String plan = String.join("\n", jdbcTemplate.query(
+                connection -> statement.bind(connection.prepareStatement("EXPLAIN " + statement.sql())),
+                (row, n) -> row.getString(1)
+        ));
+
+        assertTrue(plan.contains(index),
+                () -> "Expected " + index + " in plan of:\n" + statement.sql() + "\n" + plan);
+    }
+}
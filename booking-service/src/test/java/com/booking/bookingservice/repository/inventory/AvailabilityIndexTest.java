@@ -0,0 +1,120 @@
+package com.booking.bookingservice.repository.inventory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityIndexTest {
+
+    @Mock
+    private InventoryStore inventoryStore;
+
+    private AvailabilityIndex index;
+
+    // Background loads wait here until a test runs them
+    private final List<Runnable> loads = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        index = new AvailabilityIndex(inventoryStore, loads::add, 5, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void minAvailable_shouldFollowLoadAndLocalUpdates() {
+
+        LocalDate today = LocalDate.now();
+
+        when(inventoryStore.read(1L, List.of(2L), today, today.plusDays(5)))
+                .thenReturn(Map.of(2L, new Integer[] {4, null, 6, 2, 6}));
+
+        assertTrue(index.minAvailable(1L, 2L, today, today.plusDays(2)).isEmpty());
+
+        index.load(1L, Map.of(2L, 6));
+
+        assertEquals(OptionalInt.of(4), index.minAvailable(1L, 2L, today, today.plusDays(3)));
+        assertEquals(OptionalInt.of(2), index.minAvailable(1L, 2L, today.plusDays(1), today.plusDays(5)));
+
+        index.beginChange(1L, 2L);
+        index.add(1L, 2L, today.plusDays(1), today.plusDays(3), -3);
+        assertEquals(OptionalInt.of(3), index.minAvailable(1L, 2L, today.plusDays(1), today.plusDays(3)));
+
+        // A stay running past the horizon is not answered from memory
+        assertTrue(index.minAvailable(1L, 2L, today, today.plusDays(6)).isEmpty());
+
+        index.invalidate(1L, 2L);
+        assertTrue(index.minAvailable(1L, 2L, today, today.plusDays(2)).isEmpty());
+    }
+
+    @Test
+    void load_whenChangeOverlapsRead_shouldNotKeepEntry() {
+
+        LocalDate today = LocalDate.now();
+
+        // The reserve reaches Redis before the load reads it and is
+        // mirrored only after, so the read already contains it
+        index.beginChange(1L, 2L);
+
+        when(inventoryStore.read(1L, List.of(2L), today, today.plusDays(5)))
+                .thenReturn(Map.of(2L, new Integer[] {3, 3, 3, 3, 3}));
+
+        index.load(1L, Map.of(2L, 4));
+        index.add(1L, 2L, today, today.plusDays(1), -1);
+
+        assertTrue(index.minAvailable(1L, 2L, today, today.plusDays(1)).isEmpty());
+
+        // Once settled, the next load is kept
+        index.load(1L, Map.of(2L, 4));
+        assertEquals(OptionalInt.of(3), index.minAvailable(1L, 2L, today, today.plusDays(1)));
+    }
+
+    @Test
+    void load_whenChangeStartsDuringRead_shouldNotKeepEntry() {
+
+        LocalDate today = LocalDate.now();
+
+        when(inventoryStore.read(1L, List.of(2L), today, today.plusDays(5)))
+                .thenAnswer(invocation -> {
+                    index.beginChange(1L, 2L);
+                    return Map.of(2L, new Integer[] {3, 3, 3, 3, 3});
+                });
+
+        index.load(1L, Map.of(2L, 4));
+
+        assertTrue(index.minAvailable(1L, 2L, today, today.plusDays(1)).isEmpty());
+    }
+
+    @Test
+    void loadInBackground_shouldQueueOneLoadPerHotel() {
+
+        LocalDate today = LocalDate.now();
+
+        when(inventoryStore.read(1L, List.of(2L), today, today.plusDays(5)))
+                .thenReturn(Map.of(2L, new Integer[] {3, 3, 3, 3, 3}));
+
+        index.loadInBackground(1L, Map.of(2L, 4));
+        index.loadInBackground(1L, Map.of(2L, 4));
+
+        assertEquals(1, loads.size());
+        verifyNoInteractions(inventoryStore);
+
+        loads.remove(0).run();
+        assertEquals(OptionalInt.of(3), index.minAvailable(1L, 2L, today, today.plusDays(1)));
+
+        // Finished, so the hotel can be queued again
+        index.loadInBackground(1L, Map.of(2L, 4));
+        assertEquals(1, loads.size());
+    }
+}
@@ -0,0 +1,99 @@
+package com.booking.bookingservice.repository.inventory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class HashInventoryStoreTest {
+
+    @InjectMocks
+    private HashInventoryStore inventoryStore;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    void key_shouldGroupNightsByMonth() {
+
+        assertEquals(
+                "availability:1:2:2030-01",
+                HashInventoryStore.key(1L, 2L, YearMonth.of(2030, 1))
+        );
+        assertEquals("31", HashInventoryStore.field(LocalDate.of(2030, 1, 31)));
+    }
+
+    @Test
+    void expireAt_shouldBeTheDayAfterMonthEnds() {
+
+        assertEquals(
+                LocalDate.of(2030, 2, 2).atStartOfDay().toEpochSecond(ZoneOffset.UTC),
+                HashInventoryStore.expireAt(YearMonth.of(2030, 1))
+        );
+    }
+
+    @Test
+    void read_shouldSplitRangeAcrossMonthHashes() {
+
+        // 30 Jan → 2 Feb: two nights in January, one in February
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(List.of(
+                        Arrays.asList("4", null),
+                        List.of("2")
+                ));
+
+        Map<Long, Integer[]> result = inventoryStore.read(
+                1L,
+                List.of(2L),
+                LocalDate.of(2030, 1, 30),
+                LocalDate.of(2030, 2, 2)
+        );
+
+        assertArrayEquals(new Integer[] {4, null, 2}, result.get(2L));
+    }
+
+    @Test
+    void reserve_shouldPassMonthKeysAndDayFields() {
+
+        when(redisTemplate.execute(any(RedisScript.class), any(List.class), any(Object[].class)))
+                .thenReturn(0L);
+
+        long result = inventoryStore.reserve(
+                1L,
+                2L,
+                LocalDate.of(2030, 1, 31),
+                LocalDate.of(2030, 2, 2),
+                1,
+                null
+        );
+
+        assertEquals(0L, result);
+        verify(redisTemplate).execute(
+                any(RedisScript.class),
+                eq(List.of("availability:1:2:2030-01", "availability:1:2:2030-02")),
+                eq("1"),
+                eq(""),
+                eq("31"),
+                eq(String.valueOf(HashInventoryStore.expireAt(YearMonth.of(2030, 1)))),
+                eq("1"),
+                eq(String.valueOf(HashInventoryStore.expireAt(YearMonth.of(2030, 2))))
+        );
+    }
+}
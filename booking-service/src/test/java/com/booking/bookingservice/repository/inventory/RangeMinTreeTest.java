@@ -0,0 +1,47 @@
+package com.booking.bookingservice.repository.inventory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class RangeMinTreeTest {
+
+    @Test
+    void shouldMatchNaiveScanUnderRandomUpdates() {
+
+        Random random = new Random(42);
+        int[] values = new int[365];
+        Arrays.fill(values, 20);
+
+        RangeMinTree tree = new RangeMinTree(values.clone());
+
+        for (int i = 0; i < 2000; i++) {
+
+            int from = random.nextInt(values.length);
+            int to = from + 1 + random.nextInt(values.length - from);
+
+            if (random.nextBoolean()) {
+                int delta = random.nextInt(7) - 3;
+                tree.add(from, to, delta);
+                for (int n = from; n < to; n++) {
+                    values[n] += delta;
+                }
+            } else {
+                int expected = Arrays.stream(values, from, to).min().getAsInt();
+                assertEquals(expected, tree.min(from, to));
+            }
+        }
+    }
+
+    @Test
+    void shouldRejectRangeOutsideTree() {
+
+        RangeMinTree tree = new RangeMinTree(new int[] {1, 2, 3});
+
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.min(2, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.add(1, 1, 1));
+    }
+}
@@ -0,0 +1,156 @@
+package com.booking.bookingservice.repository.inventory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class StringInventoryStoreTest {
+
+    @InjectMocks
+    private StringInventoryStore inventoryStore;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Test
+    void read_shouldFetchAllCategoriesWithOneMultiGet() {
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of(
+                "availability:1:1:2030-01-10",
+                "availability:1:1:2030-01-11",
+                "availability:1:2:2030-01-10",
+                "availability:1:2:2030-01-11"
+        ))).thenReturn(Arrays.asList("5", null, "2", "3"));
+
+        Map<Long, Integer[]> result = inventoryStore.read(
+                1L,
+                List.of(1L, 2L),
+                LocalDate.of(2030, 1, 10),
+                LocalDate.of(2030, 1, 12)
+        );
+
+        assertArrayEquals(new Integer[] {5, null}, result.get(1L));
+        assertArrayEquals(new Integer[] {2, 3}, result.get(2L));
+    }
+
+    @Test
+    void seedIfAbsent_shouldUseOnePipeline() {
+
+        inventoryStore.seedIfAbsent(
+                1L,
+                Map.of(1L, Map.of(LocalDate.of(2030, 1, 10), 5))
+        );
+
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    void release_shouldRunScriptOverEveryNight() {
+
+        LocalDate checkIn = LocalDate.of(2030, 1, 10);
+
+        inventoryStore.release(1L, 1L, checkIn, checkIn.plusDays(2), 2);
+
+        verify(redisTemplate).execute(
+                any(RedisScript.class),
+                eq(List.of(
+                        "availability:1:1:2030-01-10",
+                        "availability:1:1:2030-01-11"
+                )),
+                eq("2")
+        );
+    }
+
+    @Test
+    void reserveAll_shouldCheckEveryCategoryNightInOneScript() {
+
+        LocalDate checkIn = LocalDate.of(2030, 1, 10);
+
+        Map<Long, Integer> rooms = new LinkedHashMap<>();
+        rooms.put(1L, 2);
+        rooms.put(2L, 3);
+
+        when(redisTemplate.execute(
+                any(RedisScript.class), any(List.class), any(Object[].class)
+        )).thenReturn(0L);
+
+        long result = inventoryStore.reserveAll(
+                1L, checkIn, checkIn.plusDays(2), rooms, Map.of(1L, 10, 2L, 5)
+        );
+
+        assertEquals(0L, result);
+        verify(redisTemplate).execute(
+                any(RedisScript.class),
+                eq(List.of(
+                        "availability:1:1:2030-01-10",
+                        "availability:1:1:2030-01-11",
+                        "availability:1:2:2030-01-10",
+                        "availability:1:2:2030-01-11"
+                )),
+                eq("2"), eq("10"), eq("2"), eq("10"),
+                eq("3"), eq("5"), eq("3"), eq("5")
+        );
+    }
+
+    @Test
+    void adjust_shouldRunScriptWithChangeMarkerFirst() {
+
+        LocalDate from = LocalDate.of(2030, 1, 10);
+
+        when(redisTemplate.execute(
+                any(RedisScript.class), any(List.class), any(), any()
+        )).thenReturn(2L);
+
+        long shifted = inventoryStore.adjust(1L, 1L, from, from.plusDays(2), -3, "evt-1");
+
+        assertEquals(2L, shifted);
+        verify(redisTemplate).execute(
+                any(RedisScript.class),
+                eq(List.of(
+                        "inventory:change:evt-1",
+                        "availability:1:1:2030-01-10",
+                        "availability:1:1:2030-01-11"
+                )),
+                eq("-3"),
+                eq("604800")
+        );
+    }
+
+    @Test
+    void delete_shouldRemoveEveryNightOfEveryCategory() {
+
+        inventoryStore.delete(
+                1L,
+                List.of(1L, 2L),
+                LocalDate.of(2030, 1, 10),
+                LocalDate.of(2030, 1, 11)
+        );
+
+        verify(redisTemplate).delete(List.of(
+                "availability:1:1:2030-01-10",
+                "availability:1:2:2030-01-10"
+        ));
+    }
+}
@@ -1,26 +1,34 @@
 package com.booking.bookingservice.service;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
 
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import com.booking.bookingservice.client.HotelServiceClient;
-import com.booking.bookingservice.dto.response.CategoryAvailabilityResponse;
+import com.booking.bookingservice.client.ResilientHotelServiceClient;
+import com.booking.bookingservice.dto.response.AvailabilityCalendarResponse;
+import com.booking.bookingservice.dto.response.CalendarDayResponse;
 import com.booking.bookingservice.dto.response.HotelAvailabilityResponse;
 import com.booking.bookingservice.dto.response.RoomCategoryResponseDto;
+import com.booking.bookingservice.exception.RoomNotAvailableException;
+import com.booking.bookingservice.repository.inventory.AvailabilityIndex;
+import com.booking.bookingservice.repository.inventory.InventoryStore;
 import com.booking.bookingservice.service.impl.AvailabilityServiceImpl;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,23 +38,21 @@ class AvailabilityServiceImplTest {
     private AvailabilityServiceImpl availabilityService;
 
     @Mock
-    private StringRedisTemplate redisTemplate;
+    private InventoryStore inventoryStore;
 
     @Mock
-    private HotelServiceClient hotelServiceClient;
+    private ResilientHotelServiceClient hotelServiceClient;
 
     @Mock
-    private ValueOperations<String, String> valueOperations;
-    @BeforeEach
-    void setUp() {
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-    }
-    
+    private AvailabilityIndex availabilityIndex;
+
     @Test
     void isAvailable_whenEnoughRooms_shouldReturnTrue() {
 
-        when(valueOperations.get(anyString()))
-                .thenReturn(null); 
+        LocalDate checkIn = LocalDate.now();
+
+        when(inventoryStore.read(1L, List.of(2L), checkIn, checkIn.plusDays(2)))
+                .thenReturn(Map.of(2L, new Integer[] {null, null}));
 
         RoomCategoryResponseDto category = new RoomCategoryResponseDto();
         category.setId(2L);
@@ -58,20 +64,23 @@ class AvailabilityServiceImplTest {
         boolean result = availabilityService.isAvailable(
                 1L,
                 2L,
-                LocalDate.now(),
-                LocalDate.now().plusDays(2),
+                checkIn,
+                checkIn.plusDays(2),
                 2
         );
 
         assertTrue(result);
+        verify(inventoryStore).seedIfAbsent(
+                1L,
+                Map.of(2L, Map.of(checkIn, 5, checkIn.plusDays(1), 5))
+        );
     }
     
     @Test
     void isAvailable_whenInsufficientRooms_shouldReturnFalse() {
 
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-
-        when(valueOperations.get(anyString())).thenReturn("1");
+        when(inventoryStore.read(eq(1L), eq(List.of(1L)), any(), any()))
+                .thenReturn(Map.of(1L, new Integer[] {1, 1}));
 
         boolean available = availabilityService.isAvailable(
                 1L,
@@ -82,16 +91,17 @@ class AvailabilityServiceImplTest {
         );
 
         assertFalse(available);
+        verify(inventoryStore, never()).seedIfAbsent(anyLong(), any());
     }
     
     @Test
-    void reserve_shouldDecrementAvailabilityForEachDate() {
-
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    void tryReserve_whenAllNightsAvailable_shouldReturnEmpty() {
 
-        when(valueOperations.get(anyString())).thenReturn("5");
+        when(inventoryStore.reserve(
+                eq(1L), eq(1L), any(), any(), eq(2), eq(null)))
+                .thenReturn(0L);
 
-        availabilityService.reserve(
+        Optional<LocalDate> result = availabilityService.tryReserve(
                 1L,
                 1L,
                 LocalDate.now().plusDays(1),
@@ -99,18 +109,41 @@ class AvailabilityServiceImplTest {
                 2
         );
 
-        verify(valueOperations, atLeastOnce())
-                .decrement(anyString(), eq(2L));
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(hotelServiceClient);
     }
-    
+
     @Test
-    void release_shouldIncrementAvailabilityForEachDate() {
+    void tryReserve_whenNightShort_shouldReturnThatNight() {
 
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        LocalDate checkIn = LocalDate.now().plusDays(1);
 
-        when(valueOperations.get(anyString())).thenReturn("3");
+        when(inventoryStore.reserve(
+                eq(1L), eq(1L), any(), any(), eq(2), eq(null)))
+                .thenReturn(2L);
+
+        Optional<LocalDate> result = availabilityService.tryReserve(
+                1L, 1L, checkIn, checkIn.plusDays(3), 2
+        );
 
-        availabilityService.release(
+        assertEquals(Optional.of(checkIn.plusDays(1)), result);
+    }
+
+    @Test
+    void tryReserve_whenNightMissing_shouldRetryWithSeed() {
+
+        RoomCategoryResponseDto category = new RoomCategoryResponseDto();
+        category.setTotalRooms(5);
+
+        when(inventoryStore.reserve(
+                eq(1L), eq(1L), any(), any(), eq(2), eq(null)))
+                .thenReturn(-1L);
+        when(inventoryStore.reserve(
+                eq(1L), eq(1L), any(), any(), eq(2), eq(5)))
+                .thenReturn(0L);
+        when(hotelServiceClient.getCategoryById(1L)).thenReturn(category);
+
+        Optional<LocalDate> result = availabilityService.tryReserve(
                 1L,
                 1L,
                 LocalDate.now().plusDays(1),
@@ -118,8 +151,79 @@ class AvailabilityServiceImplTest {
                 2
         );
 
-        verify(valueOperations, atLeastOnce())
-                .increment(anyString(), eq(2L));
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void reserve_whenNightShort_shouldThrow() {
+
+        when(inventoryStore.reserve(
+                eq(1L), eq(1L), any(), any(), eq(2), eq(null)))
+                .thenReturn(1L);
+
+        assertThrows(RoomNotAvailableException.class, () ->
+                availabilityService.reserve(
+                        1L,
+                        1L,
+                        LocalDate.now().plusDays(1),
+                        LocalDate.now().plusDays(3),
+                        2
+                )
+        );
+    }
+
+    @Test
+    void reserveAll_whenAllAvailable_shouldUpdateIndexForEveryCategory() {
+
+        LocalDate checkIn = LocalDate.of(2030, 1, 10);
+        Map<Long, Integer> rooms = new LinkedHashMap<>();
+        rooms.put(1L, 2);
+        rooms.put(2L, 3);
+        Map<Long, Integer> totals = Map.of(1L, 10, 2L, 5);
+
+        when(inventoryStore.reserveAll(1L, checkIn, checkIn.plusDays(2), rooms, totals))
+                .thenReturn(0L);
+
+        availabilityService.reserveAll(1L, checkIn, checkIn.plusDays(2), rooms, totals);
+
+        verify(availabilityIndex).add(1L, 1L, checkIn, checkIn.plusDays(2), -2);
+        verify(availabilityIndex).add(1L, 2L, checkIn, checkIn.plusDays(2), -3);
+    }
+
+    @Test
+    void reserveAll_whenCounterShort_shouldNameCategoryAndNight() {
+
+        LocalDate checkIn = LocalDate.of(2030, 1, 10);
+        Map<Long, Integer> rooms = new LinkedHashMap<>();
+        rooms.put(1L, 2);
+        rooms.put(2L, 3);
+        Map<Long, Integer> totals = Map.of(1L, 10, 2L, 5);
+
+        // Fifth counter with three nights each: category 2, second night
+        when(inventoryStore.reserveAll(1L, checkIn, checkIn.plusDays(3), rooms, totals))
+                .thenReturn(5L);
+
+        RoomNotAvailableException ex = assertThrows(
+                RoomNotAvailableException.class, () ->
+                        availabilityService.reserveAll(
+                                1L, checkIn, checkIn.plusDays(3), rooms, totals
+                        )
+        );
+
+        assertEquals("Room category 2 not available on 2030-01-11", ex.getMessage());
+        verify(availabilityIndex, never()).add(anyLong(), anyLong(), any(), any(), anyInt());
+        verify(availabilityIndex).abandonChange(1L, 1L);
+        verify(availabilityIndex).abandonChange(1L, 2L);
+    }
+
+    @Test
+    void release_shouldDelegateToStore() {
+
+        LocalDate checkIn = LocalDate.of(2030, 1, 10);
+
+        availabilityService.release(1L, 1L, checkIn, checkIn.plusDays(2), 2);
+
+        verify(inventoryStore).release(1L, 1L, checkIn, checkIn.plusDays(2), 2);
     }
     
     @Test
@@ -133,8 +237,8 @@ class AvailabilityServiceImplTest {
         when(hotelServiceClient.getCategoriesByHotel(1L))
                 .thenReturn(List.of(category));
 
-        when(valueOperations.get(anyString()))
-                .thenReturn("5", "3"); // min = 3
+        when(inventoryStore.read(eq(1L), eq(List.of(1L)), any(), any()))
+                .thenReturn(Map.of(1L, new Integer[] {5, 3})); // min = 3
 
         HotelAvailabilityResponse response =
                 availabilityService.getHotelAvailability(
@@ -145,8 +249,164 @@ class AvailabilityServiceImplTest {
 
         assertEquals(1, response.getCategories().size());
         assertEquals(3, response.getCategories().get(0).getAvailableRooms());
+        verify(inventoryStore, never()).seedIfAbsent(anyLong(), any());
     }
 
-    
+    @Test
+    void getHotelAvailability_shouldSeedOnlyMissingCountersFromCategoryTotals() {
+
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+
+        RoomCategoryResponseDto deluxe = new RoomCategoryResponseDto();
+        deluxe.setId(1L);
+        deluxe.setTotalRooms(10);
+
+        RoomCategoryResponseDto suite = new RoomCategoryResponseDto();
+        suite.setId(2L);
+        suite.setTotalRooms(4);
+
+        when(hotelServiceClient.getCategoriesByHotel(1L))
+                .thenReturn(List.of(deluxe, suite));
+
+        when(inventoryStore.read(1L, List.of(1L, 2L), checkIn, checkIn.plusDays(2)))
+                .thenReturn(Map.of(
+                        1L, new Integer[] {7, null},
+                        2L, new Integer[] {null, 1}
+                ));
+
+        HotelAvailabilityResponse response =
+                availabilityService.getHotelAvailability(
+                        1L,
+                        checkIn,
+                        checkIn.plusDays(2)
+                );
+
+        assertEquals(7, response.getCategories().get(0).getAvailableRooms());
+        assertEquals(1, response.getCategories().get(1).getAvailableRooms());
+        verify(inventoryStore).seedIfAbsent(
+                1L,
+                Map.of(
+                        1L, Map.of(checkIn.plusDays(1), 10),
+                        2L, Map.of(checkIn, 4)
+                )
+        );
+        verify(hotelServiceClient, never()).getCategoryById(anyLong());
+        verify(availabilityIndex).loadInBackground(1L, Map.of(1L, 10, 2L, 4));
+        verify(availabilityIndex, never()).load(anyLong(), any());
+    }
+
+    @Test
+    void getAvailabilityCalendar_shouldBuildEveryDayFromOneRead() {
+
+        LocalDate from = LocalDate.of(2030, 3, 1);
+
+        RoomCategoryResponseDto deluxe = new RoomCategoryResponseDto();
+        deluxe.setId(1L);
+        deluxe.setCategory("DELUXE");
+        deluxe.setTotalRooms(6);
+        deluxe.setBasePrice(BigDecimal.valueOf(2500));
+
+        when(hotelServiceClient.getCategoriesByHotel(1L))
+                .thenReturn(List.of(deluxe));
+
+        when(inventoryStore.read(1L, List.of(1L), from, from.plusDays(3)))
+                .thenReturn(Map.of(1L, new Integer[] {4, null, 0}));
+
+        AvailabilityCalendarResponse response =
+                availabilityService.getAvailabilityCalendar(1L, from, from.plusDays(3));
+
+        List<CalendarDayResponse> days = response.getCategories().get(0).getDays();
+        assertEquals(3, days.size());
+        assertEquals(4, days.get(0).getAvailableRooms());
+        assertEquals(6, days.get(1).getAvailableRooms());
+        assertEquals(from.plusDays(2), days.get(2).getDate());
+        assertEquals(BigDecimal.valueOf(2500), days.get(2).getPrice());
+        verify(inventoryStore, times(1)).read(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    void getAvailabilityCalendar_whenRangeTooLong_shouldThrow() {
+
+        LocalDate from = LocalDate.of(2030, 3, 1);
+
+        assertThrows(IllegalArgumentException.class, () ->
+                availabilityService.getAvailabilityCalendar(1L, from, from.plusDays(91))
+        );
+        verifyNoInteractions(inventoryStore);
+    }
+
+    @Test
+    void applyTotalRoomsChange_shouldShiftEveryFutureNight() {
+
+        ReflectionTestUtils.setField(availabilityService, "adjustHorizonDays", 730);
+        LocalDate today = LocalDate.now();
+
+        when(inventoryStore.adjust(1L, 2L, today, today.plusDays(730), 4, "evt-1"))
+                .thenReturn(365L);
+
+        availabilityService.applyTotalRoomsChange(1L, 2L, 4, "evt-1");
+
+        verify(inventoryStore).adjust(1L, 2L, today, today.plusDays(730), 4, "evt-1");
+    }
+
+    @Test
+    void applyTotalRoomsChange_whenNoDelta_shouldNotTouchRedis() {
+
+        availabilityService.applyTotalRoomsChange(1L, 2L, 0, "evt-1");
+
+        verifyNoInteractions(inventoryStore);
+    }
+
+    @Test
+    void getHotelAvailability_whenCounterNegative_shouldReportZero() {
+
+        LocalDate checkIn = LocalDate.of(2030, 3, 1);
+
+        RoomCategoryResponseDto deluxe = new RoomCategoryResponseDto();
+        deluxe.setId(1L);
+        deluxe.setTotalRooms(2);
+
+        when(inventoryStore.read(1L, List.of(1L), checkIn, checkIn.plusDays(1)))
+                .thenReturn(Map.of(1L, new Integer[] {-2}));
+
+        HotelAvailabilityResponse response = availabilityService.getHotelAvailability(
+                1L, List.of(deluxe), checkIn, checkIn.plusDays(1)
+        );
+
+        assertEquals(0, response.getCategories().get(0).getAvailableRooms());
+    }
+
+    @Test
+    void getHotelAvailability_whenIndexed_shouldNotReadRedis() {
 
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+
+        RoomCategoryResponseDto deluxe = new RoomCategoryResponseDto();
+        deluxe.setId(1L);
+        deluxe.setTotalRooms(8);
+
+        when(availabilityIndex.minAvailable(1L, 1L, checkIn, checkIn.plusDays(2)))
+                .thenReturn(OptionalInt.of(3));
+
+        HotelAvailabilityResponse response = availabilityService.getHotelAvailability(
+                1L, List.of(deluxe), checkIn, checkIn.plusDays(2)
+        );
+
+        assertEquals(3, response.getCategories().get(0).getAvailableRooms());
+        verifyNoInteractions(inventoryStore);
+        verify(availabilityIndex, never()).loadInBackground(anyLong(), any());
+    }
+
+    @Test
+    void tryReserve_whenReserved_shouldMirrorIntoIndex() {
+
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+
+        when(inventoryStore.reserve(1L, 2L, checkIn, checkIn.plusDays(2), 2, null))
+                .thenReturn(0L);
+
+        availabilityService.tryReserve(1L, 2L, checkIn, checkIn.plusDays(2), 2);
+
+        verify(availabilityIndex).add(1L, 2L, checkIn, checkIn.plusDays(2), -2);
+    }
 }
@@ -0,0 +1,216 @@
+package com.booking.bookingservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.booking.bookingservice.model.ReservationStatus;
+import com.booking.bookingservice.repository.BookingView;
+import com.booking.bookingservice.service.impl.BookingCacheServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class BookingCacheServiceImplTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final Duration HOLD = Duration.ofSeconds(5);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private BookingCacheServiceImpl bookingCache;
+
+    @BeforeEach
+    void setUp() {
+        bookingCache = new BookingCacheServiceImpl(
+                redisTemplate, objectMapper, meterRegistry, TTL, Duration.ofHours(24), HOLD
+        );
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    private BookingView load() {
+        loads.incrementAndGet();
+        return view();
+    }
+
+    @Test
+    void getById_whenCached_shouldNotLoad() throws Exception {
+
+        when(valueOperations.get("booking:id:7"))
+                .thenReturn(objectMapper.writeValueAsString(view()));
+
+        BookingView cached = bookingCache.getById(7L, this::load);
+
+        assertEquals("BK-7", cached.getBookingReference());
+        assertEquals(LocalDate.of(2026, 5, 1), cached.getCheckInDate());
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    void getById_whenMissing_shouldLoadAndPopulateIfAbsent() {
+
+        BookingView loaded = bookingCache.getById(7L, this::load);
+
+        assertEquals(7L, loaded.getId());
+        verify(valueOperations).setIfAbsent(eq("booking:id:7"), anyString(), eq(TTL));
+        assertEquals(1.0, meterRegistry.counter("booking.cache.bookings.misses").count());
+    }
+
+    @Test
+    void getById_whenTombstoned_shouldLoadWithoutOverwritingTombstone() {
+
+        when(valueOperations.get("booking:id:7")).thenReturn("-");
+
+        bookingCache.getById(7L, this::load);
+
+        assertEquals(1, loads.get());
+        verify(valueOperations, never()).set(eq("booking:id:7"), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void getByReference_whenReferenceKnown_shouldReadById() throws Exception {
+
+        when(valueOperations.get("booking:ref:BK-7")).thenReturn("7");
+        when(valueOperations.get("booking:id:7"))
+                .thenReturn(objectMapper.writeValueAsString(view()));
+
+        bookingCache.getByReference("BK-7", this::load);
+
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    void getByReference_whenMissing_shouldCacheBookingAndReference() {
+
+        bookingCache.getByReference("BK-7", this::load);
+
+        verify(valueOperations).setIfAbsent(eq("booking:id:7"), anyString(), eq(TTL));
+        verify(valueOperations).set("booking:ref:BK-7", "7", Duration.ofHours(24));
+    }
+
+    @Test
+    void getById_whenRedisDown_shouldFallBackToLoader() {
+
+        when(valueOperations.get("booking:id:7"))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertEquals(7L, bookingCache.getById(7L, this::load).getId());
+    }
+
+    @Test
+    void getById_concurrentMisses_shouldShareOneLoad() throws Exception {
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<BookingView> first = executor.submit(() ->
+                    bookingCache.getById(7L, () -> {
+                        loading.countDown();
+                        await(release);
+                        return load();
+                    })
+            );
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            Future<BookingView> second = executor.submit(() ->
+                    bookingCache.getById(7L, this::load)
+            );
+
+            // Let the first load finish only once the second is waiting on it
+            while (meterRegistry.counter("booking.cache.bookings.coalesced").count() < 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            assertEquals(7L, first.get(5, TimeUnit.SECONDS).getId());
+            assertEquals(7L, second.get(5, TimeUnit.SECONDS).getId());
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void evict_outsideTransaction_shouldTombstoneRightAway() {
+
+        bookingCache.evict(7L);
+
+        verify(valueOperations).set("booking:id:7", "-", HOLD);
+    }
+
+    @Test
+    void evict_insideTransaction_shouldTombstoneAfterCommit() {
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bookingCache.evict(7L);
+
+            verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(valueOperations).set("booking:id:7", "-", HOLD);
+    }
+
+    private static BookingView view() {
+        LocalDate checkIn = LocalDate.of(2026, 5, 1);
+        return new BookingView(
+                7L, "BK-7", "john@test.com", ReservationStatus.CONFIRMED, "John",
+                2, 1, 1L, 2L, checkIn, checkIn.plusDays(2), BigDecimal.valueOf(6000), null
+        );
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,36 +1,68 @@
 package com.booking.bookingservice.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.booking.bookingservice.client.ResilientHotelServiceClient;
+import com.booking.bookingservice.dto.request.AllocateRoomRequest;
+import com.booking.bookingservice.dto.request.BookingFilter;
 import com.booking.bookingservice.dto.request.CreateBookingRequest;
+import com.booking.bookingservice.dto.request.CreateGroupBookingRequest;
+import com.booking.bookingservice.dto.request.GroupBookingItemRequest;
+import com.booking.bookingservice.dto.request.ReleaseRoomRequest;
+import com.booking.bookingservice.dto.response.BookingPageResponse;
 import com.booking.bookingservice.dto.response.BookingResponse;
+import com.booking.bookingservice.dto.response.GroupBookingResponse;
 import com.booking.bookingservice.dto.response.RoomCategoryResponseDto;
 import com.booking.bookingservice.event.BookingEventPublisher;
+import com.booking.bookingservice.event.PaymentDeadlinePublisher;
+import com.booking.bookingservice.exception.InvalidReservationStateException;
 import com.booking.bookingservice.exception.RoomNotAvailableException;
+import com.booking.bookingservice.exception.InvalidGuestCountException;
+import com.booking.bookingservice.exception.ReservationNotFoundException;
 import com.booking.bookingservice.exception.UnauthorizedException;
 import com.booking.bookingservice.model.PaymentStatus;
 import com.booking.bookingservice.model.Reservation;
 import com.booking.bookingservice.model.ReservationStatus;
 import com.booking.bookingservice.model.StayRecord;
+import com.booking.bookingservice.repository.BookingView;
+import com.booking.bookingservice.repository.ReservationBatchRepository;
 import com.booking.bookingservice.repository.ReservationRepository;
 import com.booking.bookingservice.repository.StayRecordRepository;
 import com.booking.bookingservice.service.impl.BookingServiceImpl;
+import com.booking.bookingservice.util.BookingCursor;
+import com.booking.bookingservice.util.BookingReferenceGenerator;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +74,9 @@ class BookingServiceImplTest {
     @Mock
     private ReservationRepository reservationRepository;
 
+    @Mock
+    private ReservationBatchRepository reservationBatchRepository;
+
     @Mock
     private ResilientHotelServiceClient hotelServiceClient;
 
@@ -53,6 +88,19 @@ class BookingServiceImplTest {
 
     @Mock
     private BookingEventPublisher bookingEventPublisher;
+
+    @Mock
+    private HoldService holdService;
+
+    @Mock
+    private PaymentDeadlinePublisher paymentDeadlinePublisher;
+
+    @Spy
+    private BookingReferenceGenerator bookingReferenceGenerator =
+            new BookingReferenceGenerator(1);
+
+    @Mock
+    private BookingCacheService bookingCache;
     
     @Test
     void createBooking_asGuest_whenAvailable_shouldCreateBooking() {
@@ -75,9 +123,9 @@ class BookingServiceImplTest {
         when(hotelServiceClient.getCategoryById(2L))
                 .thenReturn(category);
 
-        when(availabilityService.isAvailable(
+        when(availabilityService.tryReserve(
                 any(), any(), any(), any(), anyInt()))
-                .thenReturn(true);
+                .thenReturn(Optional.empty());
 
         when(reservationRepository.save(any()))
                 .thenAnswer(inv -> inv.getArgument(0));
@@ -87,11 +135,180 @@ class BookingServiceImplTest {
                         request, "john@test.com", "GUEST");
 
         assertEquals(ReservationStatus.BOOKED, response.getStatus());
-        verify(availabilityService).reserve(
+        verify(availabilityService).tryReserve(
                 any(), any(), any(), any(), anyInt());
+        verify(paymentDeadlinePublisher).schedule(any());
+    }
+
+    @Test
+    void createBooking_withHold_shouldNotReserveAgain() {
+
+        CreateBookingRequest request = new CreateBookingRequest();
+        request.setHotelId(1L);
+        request.setRoomCategoryId(2L);
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(3));
+        request.setGuestName("John");
+        request.setNumberOfGuests(2);
+        request.setNumberOfRooms(1);
+        request.setHoldId("hold-1");
+
+        RoomCategoryResponseDto category = new RoomCategoryResponseDto();
+        category.setId(2L);
+        category.setCategory("DELUXE");
+        category.setCapacity(2);
+        category.setBasePrice(BigDecimal.valueOf(3000));
+
+        when(hotelServiceClient.getCategoryById(2L))
+                .thenReturn(category);
+
+        when(reservationRepository.save(any()))
+                .thenAnswer(inv -> inv.getArgument(0));
+
+        BookingResponse response =
+                bookingService.createBooking(
+                        request, "john@test.com", "GUEST");
+
+        assertEquals(ReservationStatus.BOOKED, response.getStatus());
+        verify(holdService).consumeHold("hold-1", request, "john@test.com");
+        verify(availabilityService, never()).tryReserve(
+                any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void createGroupBooking_shouldReserveAllCategoriesAndInsertInOneBatch() {
+
+        CreateGroupBookingRequest request = groupRequest(
+                groupItem(2L, 10, 5),
+                groupItem(3L, 4, 2)
+        );
+
+        when(hotelServiceClient.getCategoriesByHotel(1L))
+                .thenReturn(List.of(
+                        category(2L, "DELUXE", 20, 2, 3000),
+                        category(3L, "SUITE", 5, 3, 8000)
+                ));
+
+        AtomicLong ids = new AtomicLong();
+        when(reservationBatchRepository.insertAll(anyList()))
+                .thenAnswer(inv -> {
+                    List<Reservation> rows = inv.getArgument(0);
+                    rows.forEach(r -> r.setId(ids.incrementAndGet()));
+                    return rows;
+                });
+
+        GroupBookingResponse response =
+                bookingService.createGroupBooking(request, "planner@test.com", "GUEST");
+
+        assertEquals(2, response.getBookings().size());
+        assertEquals(7, response.getTotalRooms());
+        // 2 nights: 5 x 3000 x 2 + 2 x 8000 x 2
+        assertEquals(0, BigDecimal.valueOf(62000).compareTo(response.getTotalAmount()));
+        verify(availabilityService).reserveAll(
+                1L,
+                request.getCheckInDate(),
+                request.getCheckOutDate(),
+                Map.of(2L, 5, 3L, 2),
+                Map.of(2L, 20, 3L, 5)
+        );
+        verify(paymentDeadlinePublisher, times(2)).schedule(any());
+        verify(bookingEventPublisher).publish(eq("booking.group.created"), any());
+        verify(reservationRepository, never()).save(any());
+    }
+
+    @Test
+    void createGroupBooking_categoryOfOtherHotel_shouldReserveNothing() {
+
+        CreateGroupBookingRequest request = groupRequest(groupItem(9L, 2, 1));
+
+        when(hotelServiceClient.getCategoriesByHotel(1L))
+                .thenReturn(List.of(category(2L, "DELUXE", 20, 2, 3000)));
+
+        assertThrows(IllegalArgumentException.class, () ->
+                bookingService.createGroupBooking(request, "planner@test.com", "GUEST")
+        );
+
+        verifyNoInteractions(availabilityService, reservationBatchRepository);
+    }
+
+    @Test
+    void createGroupBooking_tooManyGuestsOnOneLine_shouldReserveNothing() {
+
+        CreateGroupBookingRequest request = groupRequest(
+                groupItem(2L, 4, 2),
+                groupItem(3L, 10, 1)
+        );
+
+        when(hotelServiceClient.getCategoriesByHotel(1L))
+                .thenReturn(List.of(
+                        category(2L, "DELUXE", 20, 2, 3000),
+                        category(3L, "SUITE", 5, 3, 8000)
+                ));
+
+        assertThrows(InvalidGuestCountException.class, () ->
+                bookingService.createGroupBooking(request, "planner@test.com", "GUEST")
+        );
+
+        verifyNoInteractions(availabilityService);
+    }
+
+    @Test
+    void createGroupBooking_whenInsertFails_shouldReleaseEveryCategory() {
+
+        CreateGroupBookingRequest request = groupRequest(
+                groupItem(2L, 4, 2),
+                groupItem(3L, 3, 1)
+        );
+
+        when(hotelServiceClient.getCategoriesByHotel(1L))
+                .thenReturn(List.of(
+                        category(2L, "DELUXE", 20, 2, 3000),
+                        category(3L, "SUITE", 5, 3, 8000)
+                ));
+
+        when(reservationBatchRepository.insertAll(anyList()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        assertThrows(IllegalStateException.class, () ->
+                bookingService.createGroupBooking(request, "planner@test.com", "GUEST")
+        );
+
+        verify(availabilityService).release(
+                1L, 2L, request.getCheckInDate(), request.getCheckOutDate(), 2);
+        verify(availabilityService).release(
+                1L, 3L, request.getCheckInDate(), request.getCheckOutDate(), 1);
+        verify(paymentDeadlinePublisher, never()).schedule(any());
+    }
+
+    private static CreateGroupBookingRequest groupRequest(GroupBookingItemRequest... items) {
+        CreateGroupBookingRequest request = new CreateGroupBookingRequest();
+        request.setHotelId(1L);
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(3));
+        request.setGuestName("Planner");
+        request.setItems(List.of(items));
+        return request;
+    }
+
+    private static GroupBookingItemRequest groupItem(Long categoryId, int guests, int rooms) {
+        GroupBookingItemRequest item = new GroupBookingItemRequest();
+        item.setRoomCategoryId(categoryId);
+        item.setNumberOfGuests(guests);
+        item.setNumberOfRooms(rooms);
+        return item;
+    }
+
+    private static RoomCategoryResponseDto category(
+            Long id, String name, int totalRooms, int capacity, int price) {
+        RoomCategoryResponseDto category = new RoomCategoryResponseDto();
+        category.setId(id);
+        category.setCategory(name);
+        category.setTotalRooms(totalRooms);
+        category.setCapacity(capacity);
+        category.setBasePrice(BigDecimal.valueOf(price));
+        return category;
     }
 
-    
     @Test
     void createBooking_asAdmin_shouldThrowUnauthorized() {
 
@@ -134,9 +351,9 @@ class BookingServiceImplTest {
         when(hotelServiceClient.getCategoryById(2L))
                 .thenReturn(category);
 
-        when(availabilityService.isAvailable(
+        when(availabilityService.tryReserve(
                 any(), any(), any(), any(), anyInt()))
-                .thenReturn(false);
+                .thenReturn(Optional.of(request.getCheckInDate()));
 
         assertThrows(RoomNotAvailableException.class, () ->
                 bookingService.createBooking(
@@ -149,9 +366,13 @@ class BookingServiceImplTest {
 
         Reservation reservation = Reservation.builder()
                 .id(1L)
-                .status(ReservationStatus.BOOKED)
+                .status(ReservationStatus.CONFIRMED)
                 .build();
 
+        when(reservationRepository.transition(
+                1L, EnumSet.of(ReservationStatus.BOOKED), ReservationStatus.CONFIRMED))
+                .thenReturn(1);
+
         when(reservationRepository.findById(1L))
                 .thenReturn(Optional.of(reservation));
 
@@ -159,6 +380,26 @@ class BookingServiceImplTest {
                 bookingService.confirmBooking(1L, "MANAGER");
 
         assertEquals(ReservationStatus.CONFIRMED, response.getStatus());
+        verify(bookingCache).evict(1L);
+    }
+
+    @Test
+    void confirmBooking_whenNotBooked_shouldThrowInvalidState() {
+
+        when(reservationRepository.transition(
+                1L, EnumSet.of(ReservationStatus.BOOKED), ReservationStatus.CONFIRMED))
+                .thenReturn(0);
+
+        when(reservationRepository.findById(1L))
+                .thenReturn(Optional.of(Reservation.builder()
+                        .id(1L)
+                        .status(ReservationStatus.CANCELLED)
+                        .build()));
+
+        assertThrows(InvalidReservationStateException.class, () ->
+                bookingService.confirmBooking(1L, "MANAGER")
+        );
+        verify(bookingEventPublisher, never()).publish(any(), any());
     }
     
     @Test
@@ -166,20 +407,24 @@ class BookingServiceImplTest {
 
         Reservation reservation = Reservation.builder()
                 .id(1L)
-                .status(ReservationStatus.CONFIRMED)
+                .status(ReservationStatus.CHECKED_IN)
                 .hotelId(1L)
                 .roomCategoryId(2L)
                 .numberOfRooms(1)
                 .build();
 
+        when(reservationRepository.checkInIfConfirmed(1L))
+                .thenReturn(1);
+
         when(reservationRepository.findById(1L))
                 .thenReturn(Optional.of(reservation));
 
         bookingService.checkIn(1L, "RECEPTIONIST");
 
-        assertEquals(ReservationStatus.CHECKED_IN, reservation.getStatus());
         verify(stayRecordRepository).save(any());
-        verify(hotelServiceClient).allocateRooms(any());
+        verify(bookingEventPublisher).publishCommand(
+                eq("room.allocation.requested"), any(AllocateRoomRequest.class));
+        verify(bookingCache).evict(1L);
     }
 
     
@@ -196,53 +441,329 @@ class BookingServiceImplTest {
                 .reservation(reservation)
                 .build();
 
-        when(reservationRepository.findById(1L))
-                .thenReturn(Optional.of(reservation));
+        when(reservationRepository.checkOutIfPaid(1L))
+                .thenReturn(1);
 
         when(stayRecordRepository.findByReservationId(1L))
                 .thenReturn(Optional.of(stay));
 
         bookingService.checkOut(1L, "MANAGER");
 
-        assertEquals(ReservationStatus.CHECKED_OUT, reservation.getStatus());
-        verify(hotelServiceClient).releaseRooms(any());
+        assertNotNull(stay.getCheckOutTime());
+        verify(bookingCache).evict(1L);
+        verify(reservationRepository, never()).findById(any());
+        verify(bookingEventPublisher).publishCommand(
+                eq("room.release.requested"), any(ReleaseRoomRequest.class));
+    }
+
+    @Test
+    void checkOut_whenUnpaid_shouldThrowInvalidState() {
+
+        when(reservationRepository.checkOutIfPaid(1L))
+                .thenReturn(0);
+
+        when(reservationRepository.findById(1L))
+                .thenReturn(Optional.of(Reservation.builder()
+                        .id(1L)
+                        .status(ReservationStatus.CHECKED_IN)
+                        .paymentStatus(PaymentStatus.PENDING)
+                        .build()));
+
+        InvalidReservationStateException ex = assertThrows(
+                InvalidReservationStateException.class, () ->
+                        bookingService.checkOut(1L, "MANAGER")
+        );
+        assertEquals("Payment not completed yet", ex.getMessage());
+        verify(bookingEventPublisher, never()).publishCommand(any(), any());
+        verifyNoInteractions(bookingCache);
     }
     
     @Test
     void pay_asGuest_whenConfirmed_shouldMarkPaid() {
 
+        when(reservationRepository.markPaid(1L, "john@test.com"))
+                .thenReturn(1);
+
+        bookingService.pay(1L, "john@test.com", "GUEST");
+
+        verify(reservationRepository, never()).findById(any());
+        verify(bookingCache).evict(1L);
+    }
+
+    @Test
+    void pay_byOtherGuest_shouldThrowUnauthorized() {
+
+        when(reservationRepository.markPaid(1L, "eve@test.com"))
+                .thenReturn(0);
+
+        when(reservationRepository.findById(1L))
+                .thenReturn(Optional.of(Reservation.builder()
+                        .id(1L)
+                        .userEmail("john@test.com")
+                        .status(ReservationStatus.CONFIRMED)
+                        .paymentStatus(PaymentStatus.PENDING)
+                        .build()));
+
+        assertThrows(UnauthorizedException.class, () ->
+                bookingService.pay(1L, "eve@test.com", "GUEST")
+        );
+    }
+
+    @Test
+    void cancelBooking_whenTransitionMatches_shouldReleaseOnce() {
+
+        LocalDate checkIn = LocalDate.now().plusDays(5);
+
         Reservation reservation = Reservation.builder()
-                .id(1L)
+                .id(1L).hotelId(1L).roomCategoryId(2L)
                 .userEmail("john@test.com")
-                .status(ReservationStatus.CONFIRMED)
-                .paymentStatus(PaymentStatus.PENDING)
+                .checkInDate(checkIn).checkOutDate(checkIn.plusDays(2))
+                .numberOfRooms(2)
+                .status(ReservationStatus.CANCELLED)
                 .build();
 
+        when(reservationRepository.transitionOwned(
+                eq(1L), eq("john@test.com"), any(), eq(ReservationStatus.CANCELLED)))
+                .thenReturn(1);
+
         when(reservationRepository.findById(1L))
                 .thenReturn(Optional.of(reservation));
 
-        bookingService.pay(1L, "john@test.com", "GUEST");
+        bookingService.cancelBooking(1L, "john@test.com", "GUEST");
+
+        verify(availabilityService).release(1L, 2L, checkIn, checkIn.plusDays(2), 2);
+        verify(bookingEventPublisher).publish(eq("booking.cancelled"), any());
+        verify(bookingCache).evict(1L);
+    }
+
+    @Test
+    void cancelBooking_inTransaction_shouldReleaseOnlyAfterCommit() {
+
+        LocalDate checkIn = LocalDate.now().plusDays(5);
+
+        when(reservationRepository.transition(
+                eq(1L), any(), eq(ReservationStatus.CANCELLED)))
+                .thenReturn(1);
+
+        when(reservationRepository.findById(1L))
+                .thenReturn(Optional.of(Reservation.builder()
+                        .id(1L).hotelId(1L).roomCategoryId(2L)
+                        .checkInDate(checkIn).checkOutDate(checkIn.plusDays(2))
+                        .numberOfRooms(2)
+                        .status(ReservationStatus.CANCELLED)
+                        .build()));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bookingService.cancelBooking(1L, "admin@test.com", "ADMIN");
+
+            verify(availabilityService, never()).release(any(), any(), any(), any(), anyInt());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(availabilityService).release(1L, 2L, checkIn, checkIn.plusDays(2), 2);
+    }
+
+    @Test
+    void cancelBooking_whenAlreadyCancelled_shouldNotReleaseAgain() {
+
+        when(reservationRepository.transition(
+                eq(1L), any(), eq(ReservationStatus.CANCELLED)))
+                .thenReturn(0);
+
+        when(reservationRepository.findById(1L))
+                .thenReturn(Optional.of(Reservation.builder()
+                        .id(1L)
+                        .status(ReservationStatus.CANCELLED)
+                        .build()));
+
+        assertThrows(InvalidReservationStateException.class, () ->
+                bookingService.cancelBooking(1L, "admin@test.com", "ADMIN")
+        );
 
-        assertEquals(PaymentStatus.PAID, reservation.getPaymentStatus());
+        verifyNoInteractions(availabilityService, bookingEventPublisher, bookingCache);
     }
     
     @Test
     void getMyBookings_asGuest_shouldReturnList() {
 
-        Reservation reservation = Reservation.builder()
-                .id(1L)
-                .userEmail("john@test.com")
-                .build();
-
-        when(reservationRepository
-                .findByUserEmailOrderByCheckInDateDesc("john@test.com"))
-                .thenReturn(List.of(reservation));
+        when(reservationRepository.findViewsByUserEmail("john@test.com"))
+                .thenReturn(List.of(view(1L, LocalDate.now())));
 
         List<BookingResponse> bookings =
                 bookingService.getMyBookings("john@test.com", "GUEST");
 
         assertEquals(1, bookings.size());
     }
-    
-    
+
+    @Test
+    void getBooking_byOtherGuest_shouldThrowUnauthorized() {
+
+        when(bookingCache.getById(eq(1L), any()))
+                .thenAnswer(inv -> inv.<Supplier<BookingView>>getArgument(1).get());
+
+        when(reservationRepository.findViewById(1L))
+                .thenReturn(Optional.of(view(1L, LocalDate.now())));
+
+        assertThrows(UnauthorizedException.class, () ->
+                bookingService.getBooking(1L, "other@test.com", "GUEST"));
+    }
+
+    @Test
+    void getBooking_whenCached_shouldNotQueryDatabase() {
+
+        when(bookingCache.getById(eq(1L), any()))
+                .thenReturn(view(1L, LocalDate.now()));
+
+        BookingResponse response =
+                bookingService.getBooking(1L, "john@test.com", "GUEST");
+
+        assertEquals(1L, response.getBookingId());
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    void getBookingByReference_whenMissing_shouldThrowNotFound() {
+
+        when(bookingCache.getByReference(eq("BK-1"), any()))
+                .thenAnswer(inv -> inv.<Supplier<BookingView>>getArgument(1).get());
+
+        when(reservationRepository.findViewByBookingReference("BK-1"))
+                .thenReturn(Optional.empty());
+
+        assertThrows(ReservationNotFoundException.class, () ->
+                bookingService.getBookingByReference("BK-1", "john@test.com", "GUEST"));
+    }
+
+    @Test
+    void getMyBookingsPage_whenMoreRowsThanSize_shouldReturnCursorOfLastItem() {
+
+        LocalDate checkIn = LocalDate.now().plusDays(3);
+
+        when(reservationRepository.findPageByUserEmail(
+                "john@test.com", null, null, null, null, null, PageRequest.of(0, 3)))
+                .thenReturn(List.of(
+                        view(9L, checkIn), view(4L, checkIn), view(2L, checkIn)));
+
+        BookingPageResponse page = bookingService.getMyBookings(
+                "john@test.com", "GUEST", new BookingFilter(), null, 2);
+
+        assertEquals(2, page.getItems().size());
+
+        BookingCursor next = BookingCursor.decode(page.getNextCursor());
+        assertEquals(checkIn, next.getCheckInDate());
+        assertEquals(4L, next.getId());
+    }
+
+    @Test
+    void getMyBookingsPage_withCursor_shouldSeekPastItAndEndOnShortPage() {
+
+        LocalDate checkIn = LocalDate.now().plusDays(3);
+        String cursor = new BookingCursor(checkIn, 4L).encode();
+
+        BookingFilter filter = new BookingFilter();
+        filter.setStatus(ReservationStatus.CONFIRMED);
+
+        when(reservationRepository.findPageByUserEmail(
+                "john@test.com", ReservationStatus.CONFIRMED, null, null,
+                checkIn, 4L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(view(2L, checkIn)));
+
+        BookingPageResponse page = bookingService.getMyBookings(
+                "john@test.com", "GUEST", filter, cursor, 2);
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getMyBookingsPage_withOversizedPage_shouldThrow() {
+
+        assertThrows(IllegalArgumentException.class, () ->
+                bookingService.getMyBookings(
+                        "john@test.com", "GUEST", new BookingFilter(), null, 101));
+
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    void getBookingsByHotelPage_asGuest_shouldThrowUnauthorized() {
+
+        assertThrows(UnauthorizedException.class, () ->
+                bookingService.getBookingsByHotel(
+                        1L, "GUEST", new BookingFilter(), null, 20));
+    }
+
+    @Test
+    void streamBookingsByHotel_shouldHandEachRowToSink() {
+
+        LocalDate checkIn = LocalDate.now();
+
+        when(reservationRepository.streamByHotelId(1L, null, null, null))
+                .thenReturn(Stream.of(view(1L, checkIn), view(2L, checkIn)));
+
+        List<BookingResponse> written = new ArrayList<>();
+
+        bookingService.streamBookingsByHotel(
+                1L, "MANAGER", new BookingFilter(), written::add);
+
+        assertEquals(2, written.size());
+        assertEquals(2L, written.get(1).getBookingId());
+    }
+
+    @Test
+    void expireUnpaidBookings_shouldCancelOnlyUnpaidBookedAndReleaseTogether() {
+
+        LocalDate checkIn = LocalDate.now().plusDays(5);
+
+        Reservation first = Reservation.builder()
+                .id(1L).hotelId(1L).roomCategoryId(2L)
+                .checkInDate(checkIn).checkOutDate(checkIn.plusDays(2))
+                .numberOfRooms(1)
+                .status(ReservationStatus.BOOKED)
+                .paymentStatus(PaymentStatus.PENDING)
+                .build();
+
+        Reservation second = Reservation.builder()
+                .id(2L).hotelId(1L).roomCategoryId(2L)
+                .checkInDate(checkIn).checkOutDate(checkIn.plusDays(2))
+                .numberOfRooms(2)
+                .status(ReservationStatus.BOOKED)
+                .paymentStatus(PaymentStatus.PENDING)
+                .build();
+
+        Reservation confirmed = Reservation.builder()
+                .id(3L).hotelId(1L).roomCategoryId(2L)
+                .checkInDate(checkIn).checkOutDate(checkIn.plusDays(2))
+                .numberOfRooms(1)
+                .status(ReservationStatus.CONFIRMED)
+                .paymentStatus(PaymentStatus.PENDING)
+                .build();
+
+        when(reservationRepository.findAllById(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(first, second, confirmed));
+
+        when(reservationRepository.cancelIfUnpaid(any()))
+                .thenReturn(1);
+
+        int expired = bookingService.expireUnpaidBookings(List.of(1L, 2L, 3L));
+
+        assertEquals(2, expired);
+        assertEquals(ReservationStatus.CANCELLED, first.getStatus());
+        assertEquals(ReservationStatus.CONFIRMED, confirmed.getStatus());
+        verify(availabilityService).release(1L, 2L, checkIn, checkIn.plusDays(2), 3);
+        verify(bookingEventPublisher, times(2)).publish(eq("booking.cancelled"), any());
+        verify(bookingCache, times(2)).evict(any());
+    }
+
+    private static BookingView view(Long id, LocalDate checkIn) {
+        return new BookingView(
+                id, "BK" + id, "john@test.com", ReservationStatus.BOOKED, "John",
+                2, 1, 1L, 2L, checkIn, checkIn.plusDays(2), BigDecimal.valueOf(6000), null
+        );
+    }
 }
@@ -0,0 +1,180 @@
+package com.booking.bookingservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.booking.bookingservice.dto.request.CreateBookingRequest;
+import com.booking.bookingservice.dto.request.CreateHoldRequest;
+import com.booking.bookingservice.dto.response.HoldResponse;
+import com.booking.bookingservice.exception.InvalidReservationStateException;
+import com.booking.bookingservice.exception.RoomNotAvailableException;
+import com.booking.bookingservice.exception.UnauthorizedException;
+import com.booking.bookingservice.repository.inventory.HoldStore;
+import com.booking.bookingservice.repository.inventory.InventoryHold;
+import com.booking.bookingservice.service.impl.HoldServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class HoldServiceImplTest {
+
+    @InjectMocks
+    private HoldServiceImpl holdService;
+
+    @Mock
+    private HoldStore holdStore;
+
+    @Mock
+    private AvailabilityService availabilityService;
+
+    private final LocalDate checkIn = LocalDate.now().plusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(holdService, "defaultTtl", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(holdService, "maxTtl", Duration.ofMinutes(30));
+        ReflectionTestUtils.setField(holdService, "sweepBatchSize", 2);
+    }
+
+    private InventoryHold hold(String id, int rooms, Instant expiresAt) {
+        return InventoryHold.builder()
+                .holdId(id)
+                .userEmail("john@test.com")
+                .hotelId(1L)
+                .roomCategoryId(2L)
+                .checkInDate(checkIn)
+                .checkOutDate(checkIn.plusDays(2))
+                .numberOfRooms(rooms)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    private CreateBookingRequest bookingRequest(int rooms) {
+        CreateBookingRequest request = new CreateBookingRequest();
+        request.setHotelId(1L);
+        request.setRoomCategoryId(2L);
+        request.setCheckInDate(checkIn);
+        request.setCheckOutDate(checkIn.plusDays(2));
+        request.setNumberOfRooms(rooms);
+        return request;
+    }
+
+    @Test
+    void createHold_shouldReserveAndCapTtl() {
+
+        CreateHoldRequest request = new CreateHoldRequest();
+        request.setHotelId(1L);
+        request.setRoomCategoryId(2L);
+        request.setCheckInDate(checkIn);
+        request.setCheckOutDate(checkIn.plusDays(2));
+        request.setNumberOfRooms(2);
+        request.setHoldMinutes(120);
+
+        when(availabilityService.tryReserve(1L, 2L, checkIn, checkIn.plusDays(2), 2))
+                .thenReturn(Optional.empty());
+
+        HoldResponse response = holdService.createHold(request, "john@test.com", "GUEST");
+
+        assertNotNull(response.getHoldId());
+        assertTrue(response.getExpiresAt().isBefore(Instant.now().plus(Duration.ofMinutes(31))));
+        verify(holdStore).save(any(InventoryHold.class));
+    }
+
+    @Test
+    void createHold_whenUnavailable_shouldThrowWithoutSaving() {
+
+        CreateHoldRequest request = new CreateHoldRequest();
+        request.setHotelId(1L);
+        request.setRoomCategoryId(2L);
+        request.setCheckInDate(checkIn);
+        request.setCheckOutDate(checkIn.plusDays(2));
+        request.setNumberOfRooms(2);
+
+        when(availabilityService.tryReserve(any(), any(), any(), any(), anyInt()))
+                .thenReturn(Optional.of(checkIn));
+
+        assertThrows(RoomNotAvailableException.class, () ->
+                holdService.createHold(request, "john@test.com", "GUEST")
+        );
+        verifyNoInteractions(holdStore);
+    }
+
+    @Test
+    void consumeHold_shouldClaimMatchingHold() {
+
+        InventoryHold hold = hold("h1", 2, Instant.now().plusSeconds(60));
+
+        when(holdStore.find("h1")).thenReturn(Optional.of(hold));
+        when(holdStore.claim("h1")).thenReturn(Optional.of(hold));
+
+        assertSame(hold, holdService.consumeHold("h1", bookingRequest(2), "john@test.com"));
+        verifyNoInteractions(availabilityService);
+    }
+
+    @Test
+    void consumeHold_whenRequestDiffers_shouldNotClaim() {
+
+        when(holdStore.find("h1"))
+                .thenReturn(Optional.of(hold("h1", 2, Instant.now().plusSeconds(60))));
+
+        assertThrows(IllegalArgumentException.class, () ->
+                holdService.consumeHold("h1", bookingRequest(3), "john@test.com")
+        );
+        verify(holdStore, never()).claim(anyString());
+    }
+
+    @Test
+    void consumeHold_whenSweeperClaimedFirst_shouldThrow() {
+
+        when(holdStore.find("h1"))
+                .thenReturn(Optional.of(hold("h1", 2, Instant.now().plusSeconds(60))));
+        when(holdStore.claim("h1")).thenReturn(Optional.empty());
+
+        assertThrows(InvalidReservationStateException.class, () ->
+                holdService.consumeHold("h1", bookingRequest(2), "john@test.com")
+        );
+    }
+
+    @Test
+    void releaseHold_byOtherUser_shouldThrow() {
+
+        when(holdStore.find("h1"))
+                .thenReturn(Optional.of(hold("h1", 2, Instant.now().plusSeconds(60))));
+
+        assertThrows(UnauthorizedException.class, () ->
+                holdService.releaseHold("h1", "other@test.com")
+        );
+        verify(holdStore, never()).claim(anyString());
+    }
+
+    @Test
+    void releaseExpiredHolds_shouldReleaseSameStayTogether() {
+
+        Instant past = Instant.now().minusSeconds(5);
+
+        when(holdStore.claimExpired(any(), eq(2)))
+                .thenReturn(List.of(hold("h1", 1, past), hold("h2", 2, past)))
+                .thenReturn(List.of(hold("h3", 1, past)));
+
+        assertEquals(3, holdService.releaseExpiredHolds());
+
+        verify(availabilityService).release(1L, 2L, checkIn, checkIn.plusDays(2), 3);
+        verify(availabilityService).release(1L, 2L, checkIn, checkIn.plusDays(2), 1);
+    }
+}
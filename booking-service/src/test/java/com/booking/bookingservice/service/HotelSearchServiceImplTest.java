@@ -0,0 +1,222 @@
+package com.booking.bookingservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.booking.bookingservice.client.ResilientHotelServiceClient;
+import com.booking.bookingservice.dto.response.CategoryAvailabilityResponse;
+import com.booking.bookingservice.dto.response.CityAvailabilityResponse;
+import com.booking.bookingservice.dto.response.HotelAvailabilityResponse;
+import com.booking.bookingservice.dto.response.HotelResponseDto;
+import com.booking.bookingservice.dto.response.RoomCategoryResponseDto;
+import com.booking.bookingservice.service.impl.HotelSearchServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class HotelSearchServiceImplTest {
+
+    @Mock
+    private ResilientHotelServiceClient hotelServiceClient;
+
+    @Mock
+    private AvailabilityService availabilityService;
+
+    private HotelSearchServiceImpl hotelSearchService;
+
+    private final LocalDate checkIn = LocalDate.now().plusDays(1);
+    private final LocalDate checkOut = checkIn.plusDays(2);
+
+    @BeforeEach
+    void setUp() {
+        hotelSearchService = new HotelSearchServiceImpl(
+                hotelServiceClient, availabilityService, Runnable::run
+        );
+    }
+
+    private RoomCategoryResponseDto category(Long id, int capacity) {
+        RoomCategoryResponseDto category = new RoomCategoryResponseDto();
+        category.setId(id);
+        category.setCapacity(capacity);
+        return category;
+    }
+
+    private HotelResponseDto hotel(Long id, RoomCategoryResponseDto... categories) {
+        HotelResponseDto hotel = new HotelResponseDto();
+        hotel.setId(id);
+        hotel.setName("Hotel " + id);
+        hotel.setRoomCategories(List.of(categories));
+        return hotel;
+    }
+
+    @Test
+    void searchByCity_shouldReturnCheapestFittingCategoryPerHotelSortedByPrice() {
+
+        when(hotelServiceClient.searchHotelsByCity("Pune"))
+                .thenReturn(List.of(
+                        hotel(1L, category(10L, 2), category(11L, 2)),
+                        hotel(2L, category(20L, 2))
+                ));
+
+        when(availabilityService.getHotelAvailability(eq(1L), anyList(), eq(checkIn), eq(checkOut)))
+                .thenReturn(new HotelAvailabilityResponse(1L, checkIn, checkOut, List.of(
+                        new CategoryAvailabilityResponse(10L, "DELUXE", 0, BigDecimal.valueOf(3000)),
+                        new CategoryAvailabilityResponse(11L, "SUITE", 2, BigDecimal.valueOf(5000))
+                )));
+
+        when(availabilityService.getHotelAvailability(eq(2L), anyList(), eq(checkIn), eq(checkOut)))
+                .thenReturn(new HotelAvailabilityResponse(2L, checkIn, checkOut, List.of(
+                        new CategoryAvailabilityResponse(20L, "STANDARD", 4, BigDecimal.valueOf(2000))
+                )));
+
+        CityAvailabilityResponse response =
+                hotelSearchService.searchByCity("Pune", checkIn, checkOut, 1, 2);
+
+        assertTrue(response.isComplete());
+        assertEquals(2, response.getHotels().size());
+        assertEquals(2L, response.getHotels().get(0).getHotelId());
+        assertEquals(11L, response.getHotels().get(1).getCategoryId());
+        assertEquals(BigDecimal.valueOf(10000), response.getHotels().get(1).getTotalPrice());
+    }
+
+    @Test
+    void searchByCity_shouldSkipHotelsWithoutCategoryForGuestCount() {
+
+        when(hotelServiceClient.searchHotelsByCity("Pune"))
+                .thenReturn(List.of(hotel(1L, category(10L, 1))));
+
+        CityAvailabilityResponse response =
+                hotelSearchService.searchByCity("Pune", checkIn, checkOut, 1, 3);
+
+        assertTrue(response.getHotels().isEmpty());
+        verify(availabilityService, never())
+                .getHotelAvailability(any(), anyList(), any(), any());
+    }
+
+    @Test
+    void searchByCity_whenOneHotelFails_shouldReturnPartialResult() {
+
+        when(hotelServiceClient.searchHotelsByCity("Pune"))
+                .thenReturn(List.of(hotel(1L, category(10L, 2))));
+
+        when(availabilityService.getHotelAvailability(eq(1L), anyList(), any(), any()))
+                .thenThrow(new IllegalStateException("redis down"));
+
+        CityAvailabilityResponse response =
+                hotelSearchService.searchByCity("Pune", checkIn, checkOut, 1, 1);
+
+        assertFalse(response.isComplete());
+        assertTrue(response.getHotels().isEmpty());
+    }
+
+    @Test
+    void searchByCity_invalidDates_shouldThrow() {
+
+        assertThrows(IllegalArgumentException.class, () ->
+                hotelSearchService.searchByCity("Pune", checkOut, checkIn, 1, 1)
+        );
+    }
+
+    @Test
+    void searchByCity_shouldKeepPerRequestConcurrencyOnSharedPool() {
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            hotelSearchService = new HotelSearchServiceImpl(
+                    hotelServiceClient, availabilityService, pool
+            );
+            ReflectionTestUtils.setField(hotelSearchService, "perRequestConcurrency", 2);
+
+            when(hotelServiceClient.searchHotelsByCity("Pune"))
+                    .thenReturn(LongStream.rangeClosed(1, 6)
+                            .mapToObj(id -> hotel(id, category(id * 10, 2)))
+                            .toList());
+
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+
+            when(availabilityService.getHotelAvailability(anyLong(), anyList(), eq(checkIn), eq(checkOut)))
+                    .thenAnswer(inv -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        Thread.sleep(30);
+                        running.decrementAndGet();
+                        Long hotelId = inv.getArgument(0);
+                        return new HotelAvailabilityResponse(hotelId, checkIn, checkOut, List.of(
+                                new CategoryAvailabilityResponse(
+                                        hotelId * 10, "STANDARD", 1, BigDecimal.valueOf(1000))
+                        ));
+                    });
+
+            CityAvailabilityResponse response =
+                    hotelSearchService.searchByCity("Pune", checkIn, checkOut, 1, 1);
+
+            assertTrue(response.isComplete());
+            assertEquals(6, response.getHotels().size());
+            assertTrue(maxRunning.get() <= 2);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void searchByCity_atDeadline_shouldStopRunningAndQueuedHotels() throws Exception {
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            hotelSearchService = new HotelSearchServiceImpl(
+                    hotelServiceClient, availabilityService, pool
+            );
+            ReflectionTestUtils.setField(hotelSearchService, "timeout", Duration.ofMillis(100));
+            ReflectionTestUtils.setField(hotelSearchService, "perRequestConcurrency", 1);
+
+            when(hotelServiceClient.searchHotelsByCity("Pune"))
+                    .thenReturn(List.of(
+                            hotel(1L, category(10L, 2)),
+                            hotel(2L, category(20L, 2)),
+                            hotel(3L, category(30L, 2))
+                    ));
+
+            // The first hotel hangs until it is interrupted
+            CountDownLatch interrupted = new CountDownLatch(1);
+            when(availabilityService.getHotelAvailability(eq(1L), anyList(), any(), any()))
+                    .thenAnswer(inv -> {
+                        try {
+                            Thread.sleep(5000);
+                        } catch (InterruptedException e) {
+                            interrupted.countDown();
+                        }
+                        return null;
+                    });
+
+            CityAvailabilityResponse response =
+                    hotelSearchService.searchByCity("Pune", checkIn, checkOut, 1, 1);
+
+            assertFalse(response.isComplete());
+            assertTrue(interrupted.await(2, TimeUnit.SECONDS));
+            verify(availabilityService, times(1))
+                    .getHotelAvailability(any(), anyList(), any(), any());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
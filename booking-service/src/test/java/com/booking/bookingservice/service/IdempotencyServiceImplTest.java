@@ -0,0 +1,171 @@
+package com.booking.bookingservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.DigestUtils;
+
+import com.booking.bookingservice.dto.response.BookingResponse;
+import com.booking.bookingservice.exception.IdempotencyConflictException;
+import com.booking.bookingservice.service.impl.IdempotencyServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceImplTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private IdempotencyServiceImpl idempotencyService;
+
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyServiceImpl(redisTemplate, objectMapper);
+        ReflectionTestUtils.setField(idempotencyService, "responseTtl", Duration.ofHours(1));
+        ReflectionTestUtils.setField(idempotencyService, "lockTtl", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(idempotencyService, "waitTimeout", Duration.ofSeconds(5));
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    private BookingResponse book() {
+        runs.incrementAndGet();
+        return BookingResponse.builder().bookingId(7L).bookingReference("BK7").build();
+    }
+
+    private String record(String status, String fingerprintOf, BookingResponse response)
+            throws Exception {
+        String fingerprint = DigestUtils.md5DigestAsHex(
+                objectMapper.writeValueAsBytes(fingerprintOf)
+        );
+        return objectMapper.writeValueAsString(Map.of(
+                "status", status,
+                "owner", "other",
+                "fingerprint", fingerprint,
+                "response", response != null ? objectMapper.writeValueAsString(response) : ""
+        ));
+    }
+
+    @Test
+    void execute_firstRequest_shouldRunAndStoreResponse() {
+
+        when(valueOperations.setIfAbsent(eq("idempotency:k1"), anyString(), any(Duration.class)))
+                .thenReturn(true);
+
+        BookingResponse response = idempotencyService.execute(
+                "k1", "body", BookingResponse.class, this::book
+        );
+
+        assertEquals(7L, response.getBookingId());
+        assertEquals(1, runs.get());
+        verify(valueOperations).set(
+                eq("idempotency:k1"),
+                argThat(json -> json.contains("COMPLETED") && json.contains("BK7")),
+                eq(Duration.ofHours(1))
+        );
+    }
+
+    @Test
+    void execute_whenCompleted_shouldReplayWithoutRunning() throws Exception {
+
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenReturn(false);
+        when(valueOperations.get("idempotency:k1"))
+                .thenReturn(record("COMPLETED", "body", book()));
+        runs.set(0);
+
+        BookingResponse response = idempotencyService.execute(
+                "k1", "body", BookingResponse.class, this::book
+        );
+
+        assertEquals("BK7", response.getBookingReference());
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void execute_whenInFlight_shouldWaitForResult() throws Exception {
+
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenReturn(false);
+        when(valueOperations.get("idempotency:k1"))
+                .thenReturn(record("IN_PROGRESS", "body", null))
+                .thenReturn(record("COMPLETED", "body", book()));
+        runs.set(0);
+
+        BookingResponse response = idempotencyService.execute(
+                "k1", "body", BookingResponse.class, this::book
+        );
+
+        assertEquals(7L, response.getBookingId());
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void execute_whenInFlightTooLong_shouldThrowConflict() throws Exception {
+
+        ReflectionTestUtils.setField(idempotencyService, "waitTimeout", Duration.ofMillis(100));
+
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenReturn(false);
+        when(valueOperations.get("idempotency:k1"))
+                .thenReturn(record("IN_PROGRESS", "body", null));
+
+        assertThrows(IdempotencyConflictException.class, () ->
+                idempotencyService.execute("k1", "body", BookingResponse.class, this::book)
+        );
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void execute_whenKeyReusedForOtherRequest_shouldThrow() throws Exception {
+
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenReturn(false);
+        when(valueOperations.get("idempotency:k1"))
+                .thenReturn(record("COMPLETED", "other body", book()));
+
+        assertThrows(IllegalArgumentException.class, () ->
+                idempotencyService.execute("k1", "body", BookingResponse.class, this::book)
+        );
+    }
+
+    @Test
+    void execute_whenActionFails_shouldReleaseKey() {
+
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(inv -> {
+                    when(valueOperations.get("idempotency:k1")).thenReturn(inv.getArgument(1));
+                    return true;
+                });
+
+        assertThrows(IllegalStateException.class, () ->
+                idempotencyService.execute("k1", "body", BookingResponse.class, () -> {
+                    throw new IllegalStateException("boom");
+                })
+        );
+        verify(redisTemplate).delete("idempotency:k1");
+    }
+}
@@ -0,0 +1,260 @@
+package com.booking.bookingservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.booking.bookingservice.client.HotelServiceClient;
+import com.booking.bookingservice.dto.response.HotelResponseDto;
+import com.booking.bookingservice.dto.response.RoomCategoryResponseDto;
+import com.booking.bookingservice.repository.ReservationInventoryView;
+import com.booking.bookingservice.repository.ReservationRepository;
+import com.booking.bookingservice.repository.inventory.HoldStore;
+import com.booking.bookingservice.repository.inventory.InventoryHold;
+import com.booking.bookingservice.repository.inventory.InventoryStore;
+import com.booking.bookingservice.service.impl.InventoryReconciliationServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryReconciliationServiceImplTest {
+
+    private static final String LOCK_KEY = "inventory:reconcile:lock";
+    private static final String SUSPECTED_KEY = "inventory:reconcile:suspected";
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private InventoryStore inventoryStore;
+
+    @Mock
+    private HoldStore holdStore;
+
+    @Mock
+    private HotelServiceClient hotelServiceClient;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private HashOperations<String, String, String> hashOperations;
+
+    // Drift awaiting confirmation, as every instance sees it in Redis
+    private final Map<String, String> suspected = new HashMap<>();
+
+    private SimpleMeterRegistry meterRegistry;
+    private InventoryReconciliationServiceImpl reconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconciliationService = newInstance();
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    private InventoryReconciliationServiceImpl newInstance() {
+        InventoryReconciliationServiceImpl instance = new InventoryReconciliationServiceImpl(
+                reservationRepository,
+                inventoryStore,
+                holdStore,
+                hotelServiceClient,
+                redisTemplate,
+                meterRegistry
+        );
+        ReflectionTestUtils.setField(instance, "horizonDays", 3);
+        ReflectionTestUtils.setField(instance, "chunkSize", 1);
+        ReflectionTestUtils.setField(instance, "lockTtl", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(instance, "suspectTtl", Duration.ofHours(2));
+        return instance;
+    }
+
+    private void givenSharedSuspicions() {
+        when(redisTemplate.<String, String>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(SUSPECTED_KEY))
+                .thenAnswer(inv -> new HashMap<>(suspected));
+        doAnswer(inv -> {
+            suspected.putAll(inv.getArgument(1));
+            return null;
+        }).when(hashOperations).putAll(eq(SUSPECTED_KEY), any());
+        when(redisTemplate.delete(SUSPECTED_KEY)).thenAnswer(inv -> {
+            suspected.clear();
+            return true;
+        });
+    }
+
+    private static ReservationInventoryView reservation(
+            long id, LocalDate checkIn, LocalDate checkOut, int rooms
+    ) {
+        ReservationInventoryView view = mock(ReservationInventoryView.class);
+        when(view.getId()).thenReturn(id);
+        when(view.getRoomCategoryId()).thenReturn(2L);
+        when(view.getCheckInDate()).thenReturn(checkIn);
+        when(view.getCheckOutDate()).thenReturn(checkOut);
+        when(view.getNumberOfRooms()).thenReturn(rooms);
+        return view;
+    }
+
+    private void givenHotelWithDrift(LocalDate today) {
+
+        givenSharedSuspicions();
+
+        RoomCategoryResponseDto category = new RoomCategoryResponseDto();
+        category.setId(2L);
+        category.setTotalRooms(5);
+
+        HotelResponseDto hotel = new HotelResponseDto();
+        hotel.setId(1L);
+        hotel.setRoomCategories(List.of(category));
+
+        when(hotelServiceClient.getAllHotels()).thenReturn(List.of(hotel));
+
+        // Two chunks of one reservation each, then an empty one
+        ReservationInventoryView first =
+                reservation(10L, today.minusDays(1), today.plusDays(2), 1);
+        ReservationInventoryView second =
+                reservation(11L, today.plusDays(1), today.plusDays(2), 1);
+
+        when(reservationRepository
+                .findByHotelIdAndStatusInAndCheckOutDateAfterAndIdGreaterThanOrderByIdAsc(
+                        eq(1L), any(), eq(today), anyLong(), any()))
+                .thenReturn(List.of(first), List.of(second), List.of(),
+                        List.of(first), List.of(second), List.of());
+
+        // Expected 4, 3, 5: night 1 shows 5 (over), night 2 is missing but full
+        when(inventoryStore.read(1L, List.of(2L), today, today.plusDays(3)))
+                .thenReturn(Map.of(2L, new Integer[] {4, 5, null}));
+    }
+
+    @Test
+    void reconcile_shouldRepairDriftOnlyOnceConfirmed() {
+
+        LocalDate today = LocalDate.now();
+        givenHotelWithDrift(today);
+
+        when(valueOperations.setIfAbsent(any(), any(), any(Duration.class)))
+                .thenReturn(true);
+        when(inventoryStore.repair(eq(1L), eq(2L), any())).thenReturn(1L);
+
+        assertEquals(1, reconciliationService.reconcile());
+        verify(inventoryStore, never()).repair(anyLong(), anyLong(), any());
+
+        assertEquals(1, reconciliationService.reconcile());
+        verify(inventoryStore).repair(
+                eq(1L),
+                eq(2L),
+                argThat(corrections -> corrections.size() == 1
+                        && corrections.get(0).getNight().equals(today.plusDays(1))
+                        && corrections.get(0).getObserved() == 5
+                        && corrections.get(0).getExpected() == 3)
+        );
+        verify(inventoryStore, never()).seedIfAbsent(anyLong(), any());
+
+        assertEquals(2.0, meterRegistry
+                .get("inventory.reconciliation.drift.nights")
+                .tag("type", "over")
+                .counter()
+                .count());
+        assertEquals(1.0, meterRegistry
+                .get("inventory.reconciliation.repaired")
+                .counter()
+                .count());
+    }
+
+    @Test
+    void reconcile_whenRunsLandOnDifferentInstances_shouldStillConfirmDrift() {
+
+        LocalDate today = LocalDate.now();
+        givenHotelWithDrift(today);
+
+        when(valueOperations.setIfAbsent(any(), any(), any(Duration.class)))
+                .thenReturn(true);
+        when(inventoryStore.repair(eq(1L), eq(2L), any())).thenReturn(1L);
+
+        reconciliationService.reconcile();
+        verify(inventoryStore, never()).repair(anyLong(), anyLong(), any());
+        assertEquals("5:3", suspected.get("1:2:" + today.plusDays(1)));
+        verify(redisTemplate).expire(SUSPECTED_KEY, Duration.ofHours(2));
+
+        newInstance().reconcile();
+        verify(inventoryStore).repair(eq(1L), eq(2L), any());
+        assertTrue(suspected.isEmpty());
+    }
+
+    @Test
+    void reconcile_shouldReleaseOnlyItsOwnLock() {
+
+        LocalDate today = LocalDate.now();
+        givenHotelWithDrift(today);
+
+        when(valueOperations.setIfAbsent(any(), any(), any(Duration.class)))
+                .thenReturn(true);
+
+        reconciliationService.reconcile();
+
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).setIfAbsent(eq(LOCK_KEY), token.capture(), any(Duration.class));
+        verify(redisTemplate).execute(
+                any(RedisScript.class), eq(List.of(LOCK_KEY)), eq(token.getValue())
+        );
+        verify(redisTemplate, never()).delete(LOCK_KEY);
+    }
+
+    @Test
+    void reconcile_whenLockHeld_shouldSkip() {
+
+        when(valueOperations.setIfAbsent(any(), any(), any(Duration.class)))
+                .thenReturn(false);
+
+        assertEquals(0, reconciliationService.reconcile());
+        verifyNoInteractions(hotelServiceClient, reservationRepository, inventoryStore);
+    }
+
+    @Test
+    void reconcile_shouldCountHeldRoomsAsTaken() {
+
+        LocalDate today = LocalDate.now();
+        givenHotelWithDrift(today);
+
+        // A checkout hold takes one more room on night 0
+        when(holdStore.findAll()).thenReturn(List.of(
+                InventoryHold.builder()
+                        .hotelId(1L)
+                        .roomCategoryId(2L)
+                        .checkInDate(today)
+                        .checkOutDate(today.plusDays(1))
+                        .numberOfRooms(1)
+                        .build()
+        ));
+        when(valueOperations.setIfAbsent(any(), any(), any(Duration.class)))
+                .thenReturn(true);
+
+        // Night 0 now expects 3 while Redis shows 4, night 1 is still over
+        assertEquals(2, reconciliationService.reconcile());
+        verify(inventoryStore, never()).repair(anyLong(), anyLong(), any());
+    }
+}
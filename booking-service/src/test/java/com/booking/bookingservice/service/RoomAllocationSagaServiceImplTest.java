@@ -0,0 +1,193 @@
+package com.booking.bookingservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.booking.bookingservice.dto.request.AllocateRoomRequest;
+import com.booking.bookingservice.dto.request.ReleaseRoomRequest;
+import com.booking.bookingservice.event.BookingEventPublisher;
+import com.booking.bookingservice.model.Reservation;
+import com.booking.bookingservice.model.ReservationStatus;
+import com.booking.bookingservice.model.RoomAllocationStatus;
+import com.booking.bookingservice.repository.ReservationRepository;
+import com.booking.bookingservice.repository.StayRecordRepository;
+import com.booking.bookingservice.service.impl.RoomAllocationSagaServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class RoomAllocationSagaServiceImplTest {
+
+    @InjectMocks
+    private RoomAllocationSagaServiceImpl sagaService;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private StayRecordRepository stayRecordRepository;
+
+    @Mock
+    private BookingEventPublisher bookingEventPublisher;
+
+    @Mock
+    private BookingCacheService bookingCache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(sagaService, "resendAfter", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(sagaService, "resendBatchSize", 100);
+    }
+
+    @Test
+    void onRoomsAllocated_whilePending_shouldMarkAllocated() {
+
+        when(reservationRepository.markRoomsAllocated(1L)).thenReturn(1);
+
+        sagaService.onRoomsAllocated(1L);
+
+        verify(bookingCache).evict(1L);
+        verifyNoInteractions(bookingEventPublisher);
+    }
+
+    @Test
+    void onRoomsAllocated_redelivered_shouldChangeNothing() {
+
+        when(reservationRepository.markRoomsAllocated(1L)).thenReturn(0);
+        when(reservationRepository.findById(1L))
+                .thenReturn(Optional.of(reservation(ReservationStatus.CHECKED_IN)));
+
+        sagaService.onRoomsAllocated(1L);
+
+        verifyNoInteractions(bookingEventPublisher, bookingCache);
+    }
+
+    @Test
+    void onRoomsAllocated_afterCheckOut_shouldReleaseRooms() {
+
+        when(reservationRepository.markRoomsAllocated(1L)).thenReturn(0);
+        when(reservationRepository.findById(1L))
+                .thenReturn(Optional.of(reservation(ReservationStatus.CHECKED_OUT)));
+
+        sagaService.onRoomsAllocated(1L);
+
+        verify(bookingEventPublisher).publishCommand(
+                eq("room.release.requested"), any(ReleaseRoomRequest.class));
+    }
+
+    @Test
+    void onAllocationFailed_whilePending_shouldUndoCheckIn() {
+
+        when(reservationRepository.undoCheckIn(1L)).thenReturn(1);
+
+        sagaService.onAllocationFailed(1L, "Not enough available rooms");
+
+        verify(stayRecordRepository).deleteByReservationId(1L);
+        verify(bookingCache).evict(1L);
+    }
+
+    @Test
+    void onAllocationFailed_afterCheckOut_shouldKeepStay() {
+
+        when(reservationRepository.undoCheckIn(1L)).thenReturn(0);
+
+        sagaService.onAllocationFailed(1L, "Not enough available rooms");
+
+        verify(stayRecordRepository, never()).deleteByReservationId(any());
+        verifyNoInteractions(bookingCache);
+    }
+
+    @Test
+    void onRoomsReleased_shouldMarkReleased() {
+
+        when(reservationRepository.markRoomsReleased(1L)).thenReturn(1);
+
+        sagaService.onRoomsReleased(1L);
+
+        verify(bookingCache).evict(1L);
+    }
+
+    @Test
+    void resendStaleRequests_shouldSendEachClaimedRequestAgain() {
+
+        LocalDateTime sentAt = LocalDateTime.of(2030, 1, 10, 12, 0);
+        Reservation checkingIn = stale(1L, RoomAllocationStatus.PENDING, sentAt);
+        Reservation checkingOut = stale(2L, RoomAllocationStatus.RELEASE_PENDING, sentAt);
+
+        when(reservationRepository
+                .findByRoomAllocationInAndRoomAllocationRequestedAtBeforeOrderByRoomAllocationRequestedAtAsc(
+                        any(), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(checkingIn, checkingOut));
+        when(reservationRepository.claimRoomAllocationResend(1L, RoomAllocationStatus.PENDING, sentAt))
+                .thenReturn(1);
+        when(reservationRepository.claimRoomAllocationResend(2L, RoomAllocationStatus.RELEASE_PENDING, sentAt))
+                .thenReturn(1);
+
+        assertEquals(2, sagaService.resendStaleRequests());
+
+        verify(bookingEventPublisher).publishCommand(
+                eq("room.allocation.requested"),
+                argThat((AllocateRoomRequest r) -> r.getBookingId() == 1L
+                        && r.getCategoryId() == 5L
+                        && r.getNumberOfRooms() == 2));
+        verify(bookingEventPublisher).publishCommand(
+                eq("room.release.requested"),
+                argThat((ReleaseRoomRequest r) -> r.getBookingId() == 2L));
+    }
+
+    @Test
+    void resendStaleRequests_whenClaimedElsewhere_shouldNotSend() {
+
+        LocalDateTime sentAt = LocalDateTime.of(2030, 1, 10, 12, 0);
+
+        when(reservationRepository
+                .findByRoomAllocationInAndRoomAllocationRequestedAtBeforeOrderByRoomAllocationRequestedAtAsc(
+                        any(), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(stale(1L, RoomAllocationStatus.PENDING, sentAt)));
+        when(reservationRepository.claimRoomAllocationResend(1L, RoomAllocationStatus.PENDING, sentAt))
+                .thenReturn(0);
+
+        assertEquals(0, sagaService.resendStaleRequests());
+
+        verifyNoInteractions(bookingEventPublisher);
+    }
+
+    private static Reservation stale(Long id, RoomAllocationStatus step, LocalDateTime sentAt) {
+        return Reservation.builder()
+                .id(id)
+                .hotelId(10L)
+                .roomCategoryId(5L)
+                .numberOfRooms(2)
+                .status(step == RoomAllocationStatus.PENDING
+                        ? ReservationStatus.CHECKED_IN
+                        : ReservationStatus.CHECKED_OUT)
+                .roomAllocation(step)
+                .roomAllocationRequestedAt(sentAt)
+                .build();
+    }
+
+    private static Reservation reservation(ReservationStatus status) {
+        return Reservation.builder()
+                .id(1L)
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.booking.bookingservice.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class BookingReferenceGeneratorTest {
+
+    private static final long NOW = Instant.parse("2026-03-01T10:00:00Z").toEpochMilli();
+
+    @Test
+    void generate_shouldBeFixedWidthCrockfordWithPrefix() {
+
+        BookingReferenceGenerator generator = new BookingReferenceGenerator(5);
+
+        String reference = generator.generate();
+
+        assertTrue(reference.matches("BK-[0-9A-HJKMNP-TV-Z]{13}"), reference);
+        assertTrue(generator.generateGroup().startsWith("GR-"));
+    }
+
+    @Test
+    void generate_shouldSortInGenerationOrder() {
+
+        AtomicLong clock = new AtomicLong(NOW);
+        BookingReferenceGenerator generator = new BookingReferenceGenerator(3, clock::get);
+
+        List<String> references = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            references.add(generator.generate());
+            if (i % 1000 == 0) {
+                clock.addAndGet(1);
+            }
+        }
+
+        List<String> sorted = new ArrayList<>(references);
+        sorted.sort(null);
+        assertEquals(references, sorted);
+    }
+
+    @Test
+    void nextId_whenSequenceOverflowsOrClockStepsBack_shouldKeepIncreasing() {
+
+        AtomicLong clock = new AtomicLong(NOW);
+        BookingReferenceGenerator generator = new BookingReferenceGenerator(0, clock::get);
+
+        long previous = generator.nextId();
+
+        // 5000 ids in one millisecond overflow the 12-bit sequence
+        for (int i = 0; i < 5000; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            previous = id;
+        }
+
+        clock.addAndGet(-10_000);
+        assertTrue(generator.nextId() > previous);
+    }
+
+    @Test
+    void generate_onDifferentNodesAtSameInstant_shouldDiffer() {
+
+        BookingReferenceGenerator first = new BookingReferenceGenerator(1, () -> NOW);
+        BookingReferenceGenerator second = new BookingReferenceGenerator(2, () -> NOW);
+
+        assertNotEquals(first.generate(), second.generate());
+    }
+
+    @Test
+    void generate_fromManyThreads_shouldNeverRepeat() throws Exception {
+
+        BookingReferenceGenerator generator = new BookingReferenceGenerator(7);
+        Set<String> references = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        references.add(generator.generate());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(160_000, references.size());
+    }
+
+    @Test
+    void constructor_withNodeIdOutOfRange_shouldThrow() {
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new BookingReferenceGenerator(BookingReferenceGenerator.MAX_NODE_ID + 1));
+    }
+}
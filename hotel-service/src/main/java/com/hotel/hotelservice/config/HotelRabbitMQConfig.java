@@ -0,0 +1,134 @@
+package com.hotel.hotelservice.config;
+
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.RejectAndDontRequeueRecoverer;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class HotelRabbitMQConfig {
+
+    public static final String HOTEL_EXCHANGE = "hotel.events.exchange";
+    public static final String BOOKING_EXCHANGE = "booking.events.exchange";
+    public static final String ALLOCATION_REQUESTED_ROUTING_KEY = "room.allocation.requested";
+    public static final String RELEASE_REQUESTED_ROUTING_KEY = "room.release.requested";
+    public static final String ROOM_ALLOCATION_QUEUE = "hotel.room.allocation.queue";
+    public static final String ROOM_RELEASE_QUEUE = "hotel.room.release.queue";
+    public static final String ROOM_ALLOCATION_DLQ = "hotel.room.allocation.dlq";
+    public static final String ROOM_RELEASE_DLQ = "hotel.room.release.dlq";
+
+    @Bean
+    public TopicExchange hotelEventsExchange() {
+        return new TopicExchange(HOTEL_EXCHANGE, true, false);
+    }
+
+    // Declared here too so either service can start first
+    @Bean
+    public TopicExchange bookingEventsExchange() {
+        return new TopicExchange(BOOKING_EXCHANGE, true, false);
+    }
+
+    // Shared durable queues: each check-in or check-out is handled once,
+    // by whichever instance picks it up. One queue per command so each
+    // listener gets a single payload type. Commands that still fail after
+    // the listener's retries are dead-lettered to a DLQ per queue.
+    @Bean
+    public Queue roomAllocationQueue() {
+        return QueueBuilder.durable(ROOM_ALLOCATION_QUEUE)
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(ROOM_ALLOCATION_DLQ)
+                .build();
+    }
+
+    @Bean
+    public Queue roomAllocationDlq() {
+        return new Queue(ROOM_ALLOCATION_DLQ, true);
+    }
+
+    @Bean
+    public Binding roomAllocationBinding(
+            Queue roomAllocationQueue,
+            TopicExchange bookingEventsExchange
+    ) {
+        return BindingBuilder
+                .bind(roomAllocationQueue)
+                .to(bookingEventsExchange)
+                .with(ALLOCATION_REQUESTED_ROUTING_KEY);
+    }
+
+    @Bean
+    public Queue roomReleaseQueue() {
+        return QueueBuilder.durable(ROOM_RELEASE_QUEUE)
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(ROOM_RELEASE_DLQ)
+                .build();
+    }
+
+    @Bean
+    public Queue roomReleaseDlq() {
+        return new Queue(ROOM_RELEASE_DLQ, true);
+    }
+
+    @Bean
+    public Binding roomReleaseBinding(
+            Queue roomReleaseQueue,
+            TopicExchange bookingEventsExchange
+    ) {
+        return BindingBuilder
+                .bind(roomReleaseQueue)
+                .to(bookingEventsExchange)
+                .with(RELEASE_REQUESTED_ROUTING_KEY);
+    }
+
+    // Retries a failed command in place with backoff, then rejects it
+    // without requeue so the queue dead-letters it
+    @Bean
+    public SimpleRabbitListenerContainerFactory roomAllocationListenerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${hotel.saga.listener.max-attempts:5}") int maxAttempts,
+            @Value("${hotel.saga.listener.initial-backoff:PT1S}") Duration initialBackoff,
+            @Value("${hotel.saga.listener.max-backoff:PT30S}") Duration maxBackoff
+    ) {
+        SimpleRabbitListenerContainerFactory factory =
+                new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setAdviceChain(
+                RetryInterceptorBuilder.stateless()
+                        .maxAttempts(maxAttempts)
+                        .backOffOptions(initialBackoff.toMillis(), 2.0, maxBackoff.toMillis())
+                        .recoverer(new RejectAndDontRequeueRecoverer())
+                        .build()
+        );
+        return factory;
+    }
+
+    @Bean
+    public MessageConverter messageConverter() {
+        return new Jackson2JsonMessageConverter();
+    }
+
+    @Bean
+    public RabbitTemplate rabbitTemplate(
+            ConnectionFactory connectionFactory,
+            MessageConverter messageConverter
+    ) {
+        RabbitTemplate template = new RabbitTemplate(connectionFactory);
+        template.setMessageConverter(messageConverter);
+        return template;
+    }
+}
@@ -0,0 +1,73 @@
+package com.hotel.hotelservice.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static com.hotel.hotelservice.config.HotelRabbitMQConfig.HOTEL_EXCHANGE;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotelEventPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+
+    /**
+     * Sends the event once the surrounding transaction commits, so
+     * consumers never re-read the old row after being told it changed.
+     */
+    public void publishAfterCommit(String routingKey, RoomCategoryEventDTO event) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(routingKey, event);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        publish(routingKey, event);
+                    }
+                }
+        );
+    }
+
+    private void publish(String routingKey, RoomCategoryEventDTO event) {
+        try {
+            rabbitTemplate.convertAndSend(HOTEL_EXCHANGE, routingKey, event);
+
+            log.info(
+                "Published hotel event: type={}, categoryId={}",
+                event.getEventType(),
+                event.getCategoryId()
+            );
+        } catch (Exception e) {
+            log.error(
+                "Failed to publish hotel event: type={}, categoryId={}",
+                event.getEventType(),
+                event.getCategoryId(),
+                e
+            );
+        }
+    }
+
+    /**
+     * Replies to a room allocation or release request. Failures are not
+     * swallowed: the request is then redelivered and answered again.
+     */
+    public void publishAllocationEvent(String routingKey, RoomAllocationEventDTO event) {
+
+        rabbitTemplate.convertAndSend(HOTEL_EXCHANGE, routingKey, event);
+
+        log.info(
+            "Published room allocation event: type={}, bookingId={}",
+            event.getEventType(),
+            event.getBookingId()
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package com.hotel.hotelservice.event;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RoomAllocationEventDTO {
+
+    // ROOMS_ALLOCATED, ROOM_ALLOCATION_FAILED or ROOMS_RELEASED
+    private String eventType;
+
+    private Long bookingId;
+
+    // Only set on ROOM_ALLOCATION_FAILED
+    private String reason;
+
+    private LocalDateTime eventTime;
+}
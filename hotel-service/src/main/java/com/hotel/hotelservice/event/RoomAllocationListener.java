@@ -0,0 +1,97 @@
+package com.hotel.hotelservice.event;
+
+import com.hotel.hotelservice.dto.request.AllocateRoomRequest;
+import com.hotel.hotelservice.dto.request.ReleaseRoomRequest;
+import com.hotel.hotelservice.service.RoomAllocationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+import static com.hotel.hotelservice.config.HotelRabbitMQConfig.ROOM_ALLOCATION_QUEUE;
+import static com.hotel.hotelservice.config.HotelRabbitMQConfig.ROOM_RELEASE_QUEUE;
+
+/**
+ * Hotel side of the check-in / check-out saga run by booking-service.
+ *
+ * Every request is answered with an event on the hotel exchange. A
+ * shortage of rooms is answered with ROOM_ALLOCATION_FAILED so booking
+ * service can undo the check-in; any other error propagates, is retried
+ * by the container and then dead-lettered. Repeats are safe: a booking
+ * that already holds rooms is answered as allocated, and one that holds
+ * none as released.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomAllocationListener {
+
+    private final RoomAllocationService roomAllocationService;
+    private final HotelEventPublisher hotelEventPublisher;
+
+    @RabbitListener(
+            queues = ROOM_ALLOCATION_QUEUE,
+            containerFactory = "roomAllocationListenerFactory"
+    )
+    public void handleAllocation(AllocateRoomRequest request) {
+
+        Long bookingId = request.getBookingId();
+
+        if (!roomAllocationService.hasActiveAllocation(bookingId)) {
+            try {
+                roomAllocationService.allocateRooms(
+                        bookingId,
+                        request.getHotelId(),
+                        request.getCategoryId(),
+                        request.getNumberOfRooms()
+                );
+            } catch (IllegalStateException e) {
+                // A duplicate of this request got the rooms first; answering
+                // FAILED would undo a check-in that holds them
+                if (roomAllocationService.hasActiveAllocation(bookingId)) {
+                    log.info("Rooms for bookingId={} allocated by a concurrent request", bookingId);
+                    reply("room.allocated", "ROOMS_ALLOCATED", bookingId, null);
+                    return;
+                }
+
+                log.warn("Room allocation failed for bookingId={}: {}", bookingId, e.getMessage());
+                reply("room.allocation.failed", "ROOM_ALLOCATION_FAILED", bookingId, e.getMessage());
+                return;
+            }
+        }
+
+        reply("room.allocated", "ROOMS_ALLOCATED", bookingId, null);
+    }
+
+    @RabbitListener(
+            queues = ROOM_RELEASE_QUEUE,
+            containerFactory = "roomAllocationListenerFactory"
+    )
+    public void handleRelease(ReleaseRoomRequest request) {
+
+        Long bookingId = request.getBookingId();
+
+        if (roomAllocationService.hasActiveAllocation(bookingId)) {
+            roomAllocationService.releaseRooms(bookingId);
+        } else {
+            // Already released, or the allocation never succeeded
+            log.info("No rooms to release for bookingId={}", bookingId);
+        }
+
+        reply("room.released", "ROOMS_RELEASED", bookingId, null);
+    }
+
+    private void reply(String routingKey, String eventType, Long bookingId, String reason) {
+        hotelEventPublisher.publishAllocationEvent(
+                routingKey,
+                RoomAllocationEventDTO.builder()
+                        .eventType(eventType)
+                        .bookingId(bookingId)
+                        .reason(reason)
+                        .eventTime(LocalDateTime.now())
+                        .build()
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package com.hotel.hotelservice.event;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RoomCategoryEventDTO {
+
+    private String eventId;
+    private String eventType;
+
+    private Long hotelId;
+    private Long categoryId;
+
+    private Integer totalRooms;
+    // Only set on inventory.changed: new total minus the previous one
+    private Integer totalRoomsDelta;
+    private Integer capacity;
+    private Double basePrice;
+
+    private LocalDateTime eventTime;
+}
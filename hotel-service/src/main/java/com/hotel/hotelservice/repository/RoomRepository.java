@@ -3,10 +3,13 @@ package com.hotel.hotelservice.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
 import com.hotel.hotelservice.entity.Room;
 import com.hotel.hotelservice.entity.RoomStatus;
 
+import jakarta.persistence.LockModeType;
+
 public interface RoomRepository extends JpaRepository<Room, Long> {
 
     List<Room> findByHotelIdAndCategoryIdAndStatusOrderByRoomNumberAsc(
@@ -15,6 +18,15 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
             RoomStatus status
     );
     
+    // Same rooms, locked until the allocating transaction ends, so two
+    // allocations cannot hand out the same room or race for one booking
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Room> findForUpdateByHotelIdAndCategoryIdAndStatusOrderByRoomNumberAsc(
+            Long hotelId,
+            Long categoryId,
+            RoomStatus status
+    );
+
     boolean existsByHotelIdAndRoomNumber(Long hotelId, String roomNumber);
     List<Room> findByHotelId(Long hotelId);
 }
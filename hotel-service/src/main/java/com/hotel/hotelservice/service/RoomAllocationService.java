@@ -10,6 +10,10 @@ public interface RoomAllocationService {
 //Release the allocated room for a booking (called on booking check-out).
    
     void releaseRooms(Long bookingId);
+
+//Whether the booking currently holds rooms, so a redelivered request is not allocated twice.
+
+    boolean hasActiveAllocation(Long bookingId);
     
     
 }
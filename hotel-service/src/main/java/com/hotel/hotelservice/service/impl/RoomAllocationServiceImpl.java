@@ -32,23 +32,19 @@ public class RoomAllocationServiceImpl implements RoomAllocationService {
             int numberOfRooms
     ) {
 
-        List<RoomAllocation> existing =
-                roomAllocationRepository
-                        .findAllByBookingIdAndReleasedAtIsNull(bookingId);
-
-        if (!existing.isEmpty()) {
-            throw new IllegalStateException(
-                    "Rooms already allocated for booking " + bookingId
-            );
-        }
+        requireNoActiveAllocation(bookingId);
 
         List<Room> availableRooms =
-                roomRepository.findByHotelIdAndCategoryIdAndStatusOrderByRoomNumberAsc(
+                roomRepository.findForUpdateByHotelIdAndCategoryIdAndStatusOrderByRoomNumberAsc(
                         hotelId,
                         categoryId,
                         RoomStatus.AVAILABLE
                 );
 
+        // A concurrent request for the same booking holds these rooms until
+        // it commits, so by now its allocation is visible
+        requireNoActiveAllocation(bookingId);
+
         if (availableRooms.size() < numberOfRooms) {
             throw new IllegalStateException(
                     "Not enough available rooms. Required: "
@@ -76,6 +72,14 @@ public class RoomAllocationServiceImpl implements RoomAllocationService {
         }
     }
 
+    private void requireNoActiveAllocation(Long bookingId) {
+        if (hasActiveAllocation(bookingId)) {
+            throw new IllegalStateException(
+                    "Rooms already allocated for booking " + bookingId
+            );
+        }
+    }
+
     @Override
     @Transactional
     public void releaseRooms(Long bookingId) {
@@ -104,4 +108,12 @@ public class RoomAllocationServiceImpl implements RoomAllocationService {
             roomRepository.save(room);
         }
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean hasActiveAllocation(Long bookingId) {
+        return !roomAllocationRepository
+                .findAllByBookingIdAndReleasedAtIsNull(bookingId)
+                .isEmpty();
+    }
 }
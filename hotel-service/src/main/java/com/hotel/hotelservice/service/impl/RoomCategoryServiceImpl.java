@@ -4,6 +4,8 @@ import com.hotel.hotelservice.dto.request.RoomCategoryRequest;
 import com.hotel.hotelservice.dto.response.RoomCategoryResponse;
 import com.hotel.hotelservice.entity.Hotel;
 import com.hotel.hotelservice.entity.RoomCategory;
+import com.hotel.hotelservice.event.HotelEventPublisher;
+import com.hotel.hotelservice.event.RoomCategoryEventDTO;
 import com.hotel.hotelservice.exception.ResourceNotFoundException;
 import com.hotel.hotelservice.exception.UnauthorizedException;
 import com.hotel.hotelservice.repository.HotelRepository;
@@ -13,7 +15,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,6 +27,7 @@ public class RoomCategoryServiceImpl implements RoomCategoryService {
 
     private final RoomCategoryRepository roomCategoryRepository;
     private final HotelRepository hotelRepository;
+    private final HotelEventPublisher hotelEventPublisher;
 
     @Override
     public RoomCategoryResponse addCategory(
@@ -53,6 +58,11 @@ public class RoomCategoryServiceImpl implements RoomCategoryService {
 
         RoomCategory saved = roomCategoryRepository.save(category);
 
+        hotelEventPublisher.publishAfterCommit(
+                "category.created",
+                buildEvent("CATEGORY_CREATED", saved)
+        );
+
         return mapToResponse(saved);
     }
 
@@ -77,10 +87,29 @@ public class RoomCategoryServiceImpl implements RoomCategoryService {
             throw new UnauthorizedException("Access denied");
         }
 
+        Integer previousTotalRooms = category.getTotalRooms();
+
         category.setTotalRooms(request.getTotalRooms());
         category.setCapacity(request.getCapacity());
         category.setBasePrice(request.getBasePrice());
 
+        hotelEventPublisher.publishAfterCommit(
+                "category.updated",
+                buildEvent("CATEGORY_UPDATED", category)
+        );
+
+        // booking-service shifts its seeded night counters by the delta
+        // instead of re-deriving them from the new total
+        if (previousTotalRooms != null
+                && request.getTotalRooms() != null
+                && !previousTotalRooms.equals(request.getTotalRooms())) {
+
+            RoomCategoryEventDTO event = buildEvent("INVENTORY_CHANGED", category);
+            event.setTotalRoomsDelta(request.getTotalRooms() - previousTotalRooms);
+
+            hotelEventPublisher.publishAfterCommit("inventory.changed", event);
+        }
+
         return mapToResponse(category);
     }
 
@@ -92,6 +121,19 @@ public class RoomCategoryServiceImpl implements RoomCategoryService {
                 .collect(Collectors.toList());
     }
 
+    private RoomCategoryEventDTO buildEvent(String eventType, RoomCategory category) {
+        return RoomCategoryEventDTO.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType(eventType)
+                .hotelId(category.getHotel().getId())
+                .categoryId(category.getId())
+                .totalRooms(category.getTotalRooms())
+                .capacity(category.getCapacity())
+                .basePrice(category.getBasePrice())
+                .eventTime(LocalDateTime.now())
+                .build();
+    }
+
     private RoomCategoryResponse mapToResponse(RoomCategory category) {
         return RoomCategoryResponse.builder()
                 .id(category.getId())
@@ -0,0 +1,109 @@
+package com.hotel.hotelservice.event;
+
+import com.hotel.hotelservice.dto.request.AllocateRoomRequest;
+import com.hotel.hotelservice.dto.request.ReleaseRoomRequest;
+import com.hotel.hotelservice.service.RoomAllocationService;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomAllocationListenerTest {
+
+    @Mock
+    private RoomAllocationService roomAllocationService;
+
+    @Mock
+    private HotelEventPublisher hotelEventPublisher;
+
+    @InjectMocks
+    private RoomAllocationListener listener;
+
+    private AllocateRoomRequest allocateRequest() {
+        AllocateRoomRequest request = new AllocateRoomRequest();
+        request.setBookingId(1L);
+        request.setHotelId(10L);
+        request.setCategoryId(5L);
+        request.setNumberOfRooms(2);
+        return request;
+    }
+
+    private RoomAllocationEventDTO reply(String routingKey) {
+        ArgumentCaptor<RoomAllocationEventDTO> event =
+                ArgumentCaptor.forClass(RoomAllocationEventDTO.class);
+        verify(hotelEventPublisher).publishAllocationEvent(eq(routingKey), event.capture());
+        return event.getValue();
+    }
+
+    @Test
+    void handleAllocation_shouldAllocateAndReplyAllocated() {
+
+        when(roomAllocationService.hasActiveAllocation(1L)).thenReturn(false);
+
+        listener.handleAllocation(allocateRequest());
+
+        verify(roomAllocationService).allocateRooms(1L, 10L, 5L, 2);
+        assertThat(reply("room.allocated").getEventType()).isEqualTo("ROOMS_ALLOCATED");
+    }
+
+    @Test
+    void handleAllocation_whenRedelivered_shouldNotAllocateAgain() {
+
+        when(roomAllocationService.hasActiveAllocation(1L)).thenReturn(true);
+
+        listener.handleAllocation(allocateRequest());
+
+        verify(roomAllocationService, never()).allocateRooms(any(), any(), any(), anyInt());
+        assertThat(reply("room.allocated").getBookingId()).isEqualTo(1L);
+    }
+
+    @Test
+    void handleAllocation_whenNotEnoughRooms_shouldReplyFailed() {
+
+        when(roomAllocationService.hasActiveAllocation(1L)).thenReturn(false);
+        doThrow(new IllegalStateException("Not enough available rooms"))
+                .when(roomAllocationService).allocateRooms(1L, 10L, 5L, 2);
+
+        listener.handleAllocation(allocateRequest());
+
+        RoomAllocationEventDTO event = reply("room.allocation.failed");
+        assertThat(event.getEventType()).isEqualTo("ROOM_ALLOCATION_FAILED");
+        assertThat(event.getReason()).isEqualTo("Not enough available rooms");
+    }
+
+    @Test
+    void handleAllocation_whenDuplicateAllocatedConcurrently_shouldReplyAllocated() {
+
+        when(roomAllocationService.hasActiveAllocation(1L)).thenReturn(false, true);
+        doThrow(new IllegalStateException("Rooms already allocated for booking 1"))
+                .when(roomAllocationService).allocateRooms(1L, 10L, 5L, 2);
+
+        listener.handleAllocation(allocateRequest());
+
+        assertThat(reply("room.allocated").getEventType()).isEqualTo("ROOMS_ALLOCATED");
+        verify(hotelEventPublisher, never())
+                .publishAllocationEvent(eq("room.allocation.failed"), any());
+    }
+
+    @Test
+    void handleRelease_whenNothingAllocated_shouldStillReplyReleased() {
+
+        ReleaseRoomRequest request = new ReleaseRoomRequest();
+        request.setBookingId(1L);
+
+        when(roomAllocationService.hasActiveAllocation(1L)).thenReturn(false);
+
+        listener.handleRelease(request);
+
+        verify(roomAllocationService, never()).releaseRooms(any());
+        assertThat(reply("room.released").getEventType()).isEqualTo("ROOMS_RELEASED");
+    }
+}
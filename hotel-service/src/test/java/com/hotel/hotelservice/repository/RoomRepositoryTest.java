@@ -55,6 +55,26 @@ class RoomRepositoryTest {
                 .containsExactly("101", "102", "103");
     }
 
+    @Test
+    void findForUpdateByHotelIdAndCategoryIdAndStatusOrderByRoomNumberAsc_shouldLockSortedRooms() {
+
+        saveRoom(1L, 10L, "102", RoomStatus.AVAILABLE);
+        saveRoom(1L, 10L, "101", RoomStatus.AVAILABLE);
+        saveRoom(1L, 10L, "103", RoomStatus.OCCUPIED); // ignored
+
+        List<Room> rooms =
+                roomRepository
+                        .findForUpdateByHotelIdAndCategoryIdAndStatusOrderByRoomNumberAsc(
+                                1L,
+                                10L,
+                                RoomStatus.AVAILABLE
+                        );
+
+        assertThat(rooms)
+                .extracting(Room::getRoomNumber)
+                .containsExactly("101", "102");
+    }
+
     @Test
     void existsByHotelIdAndRoomNumber_shouldReturnTrue_whenExists() {
 
@@ -55,7 +55,7 @@ class RoomAllocationServiceImplTest {
                 .build();
 
         when(roomRepository
-                .findByHotelIdAndCategoryIdAndStatusOrderByRoomNumberAsc(
+                .findForUpdateByHotelIdAndCategoryIdAndStatusOrderByRoomNumberAsc(
                         hotelId,
                         categoryId,
                         RoomStatus.AVAILABLE
@@ -94,6 +94,32 @@ class RoomAllocationServiceImplTest {
         verifyNoInteractions(roomRepository);
     }
 
+    @Test
+    void allocateRooms_shouldFail_whenConcurrentRequestAllocatedWhileLocking() {
+
+        // Nothing allocated before the room lock, the duplicate's rooms after
+        when(roomAllocationRepository
+                .findAllByBookingIdAndReleasedAtIsNull(1L))
+                .thenReturn(List.of(), List.of(new RoomAllocation()));
+
+        when(roomRepository
+                .findForUpdateByHotelIdAndCategoryIdAndStatusOrderByRoomNumberAsc(
+                        10L, 5L, RoomStatus.AVAILABLE
+                ))
+                .thenReturn(List.of(
+                        Room.builder().id(1L).status(RoomStatus.AVAILABLE).build()
+                ));
+
+        assertThatThrownBy(() ->
+                roomAllocationService.allocateRooms(
+                        1L, 10L, 5L, 1
+                )
+        ).isInstanceOf(IllegalStateException.class)
+         .hasMessageContaining("Rooms already allocated");
+
+        verify(roomAllocationRepository, never()).save(any());
+    }
+
     @Test
     void allocateRooms_shouldFail_whenInsufficientRooms() {
 
@@ -102,7 +128,7 @@ class RoomAllocationServiceImplTest {
                 .thenReturn(List.of());
 
         when(roomRepository
-                .findByHotelIdAndCategoryIdAndStatusOrderByRoomNumberAsc(
+                .findForUpdateByHotelIdAndCategoryIdAndStatusOrderByRoomNumberAsc(
                         10L, 5L, RoomStatus.AVAILABLE
                 ))
                 .thenReturn(List.of(
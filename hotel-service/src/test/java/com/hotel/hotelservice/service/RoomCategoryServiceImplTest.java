@@ -4,6 +4,8 @@ import com.hotel.hotelservice.dto.request.RoomCategoryRequest;
 import com.hotel.hotelservice.dto.response.RoomCategoryResponse;
 import com.hotel.hotelservice.entity.Hotel;
 import com.hotel.hotelservice.entity.RoomCategory;
+import com.hotel.hotelservice.event.HotelEventPublisher;
+import com.hotel.hotelservice.event.RoomCategoryEventDTO;
 import com.hotel.hotelservice.exception.ResourceNotFoundException;
 import com.hotel.hotelservice.exception.UnauthorizedException;
 import com.hotel.hotelservice.repository.HotelRepository;
@@ -31,6 +33,9 @@ class RoomCategoryServiceImplTest {
     @Mock
     private HotelRepository hotelRepository;
 
+    @Mock
+    private HotelEventPublisher hotelEventPublisher;
+
     @InjectMocks
     private RoomCategoryServiceImpl roomCategoryService;
     @Test
@@ -67,6 +72,9 @@ class RoomCategoryServiceImplTest {
         assertThat(response.getId()).isEqualTo(100L);
         assertThat(response.getCategory()).isEqualTo("DELUXE");
         assertThat(response.getTotalRooms()).isEqualTo(10);
+        verify(hotelEventPublisher).publishAfterCommit(
+                eq("category.created"), any(RoomCategoryEventDTO.class)
+        );
     }
 
     @Test
@@ -127,6 +135,7 @@ class RoomCategoryServiceImplTest {
         RoomCategory category = RoomCategory.builder()
                 .id(10L)
                 .hotel(hotel)
+                .totalRooms(12)
                 .build();
 
         when(roomCategoryRepository.findById(10L))
@@ -145,6 +154,48 @@ class RoomCategoryServiceImplTest {
         assertThat(response.getTotalRooms()).isEqualTo(20);
         assertThat(response.getCapacity()).isEqualTo(3);
         assertThat(response.getBasePrice()).isEqualTo(4000.0);
+        verify(hotelEventPublisher).publishAfterCommit(
+                eq("category.updated"),
+                argThat((RoomCategoryEventDTO e) ->
+                        e.getCategoryId().equals(10L) && e.getTotalRooms() == 20)
+        );
+        verify(hotelEventPublisher).publishAfterCommit(
+                eq("inventory.changed"),
+                argThat((RoomCategoryEventDTO e) -> e.getTotalRoomsDelta() == 8)
+        );
+    }
+
+    @Test
+    void updateCategory_shouldNotPublishInventoryChange_whenTotalUnchanged() {
+
+        Hotel hotel = Hotel.builder()
+                .managerEmail("manager@test.com")
+                .build();
+
+        RoomCategory category = RoomCategory.builder()
+                .id(10L)
+                .hotel(hotel)
+                .totalRooms(20)
+                .build();
+
+        when(roomCategoryRepository.findById(10L))
+                .thenReturn(Optional.of(category));
+
+        RoomCategoryRequest request = new RoomCategoryRequest();
+        request.setTotalRooms(20);
+        request.setCapacity(2);
+        request.setBasePrice(3000.0);
+
+        roomCategoryService.updateCategory(
+                10L, request, "manager@test.com", "MANAGER"
+        );
+
+        verify(hotelEventPublisher).publishAfterCommit(
+                eq("category.updated"), any(RoomCategoryEventDTO.class)
+        );
+        verify(hotelEventPublisher, never()).publishAfterCommit(
+                eq("inventory.changed"), any(RoomCategoryEventDTO.class)
+        );
     }
 
     @Test
@@ -16,6 +16,10 @@ public class BookingEventDTO {
     private String eventType;        // BOOKING_CREATED, BOOKING_CONFIRMED, etc.
     private Long bookingId;
 
+    // Set on GROUP_BOOKING_CREATED only
+    private String groupReference;
+    private Integer numberOfRooms;
+
     private String guestEmail;
     private String guestName;
 
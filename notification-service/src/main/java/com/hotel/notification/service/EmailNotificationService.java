@@ -52,6 +52,24 @@ public class EmailNotificationService {
         );
     }
 
+    public void sendGroupBookingCreated(BookingEventDTO event) {
+        sendEmail(
+            event.getGuestEmail(),
+            "Group Booking Created",
+            String.format(
+                "Hi %s,\n\nYour group booking (Ref: %s) at %s has been created.\n\n" +
+                "Rooms: %d (%s)\nCheck-in: %s\nCheck-out: %s",
+                event.getGuestName(),
+                event.getGroupReference(),
+                event.getHotelName(),
+                event.getNumberOfRooms(),
+                event.getRoomCategory(),
+                event.getCheckInDate(),
+                event.getCheckOutDate()
+            )
+        );
+    }
+
     public void sendBookingConfirmed(BookingEventDTO event) {
         sendEmail(
             event.getGuestEmail(),
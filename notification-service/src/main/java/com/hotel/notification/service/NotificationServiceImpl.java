@@ -29,6 +29,10 @@ public class NotificationServiceImpl implements NotificationService {
                 emailNotificationService.sendBookingCreated(event);
                 break;
 
+            case "GROUP_BOOKING_CREATED":
+                emailNotificationService.sendGroupBookingCreated(event);
+                break;
+
             case "BOOKING_CONFIRMED":
                 emailNotificationService.sendBookingConfirmed(event);
                 break;